@@ -0,0 +1,116 @@
+package com.voiceai.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.voiceai.utils.ResponseDecoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Baseline Check - compares a JMH JSON result against the committed baseline
+ *
+ * Usage: BaselineCheck baseline.json current.json [timeTolerancePct] [allocTolerancePct]
+ *
+ * A benchmark regresses when its score is worse than the baseline by more
+ * than the time tolerance (default 25%), or when its gc.alloc.rate.norm grows
+ * by more than the allocation tolerance (default 10%) plus 16 bytes of slack.
+ * Allocation per operation is stable across machines; timings are only
+ * comparable on the machine the baseline was recorded on. Exits 1 on any
+ * regression so it can gate a build.
+ */
+public class BaselineCheck {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    private static final double ALLOC_SLACK_BYTES = 16;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck baseline.json current.json [timeTolerancePct] [allocTolerancePct]");
+            System.exit(2);
+        }
+        double timeTolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.25;
+        double allocTolerance = args.length > 3 ? Double.parseDouble(args[3]) / 100 : 0.10;
+
+        Map<String, JsonNode> baseline = load(Paths.get(args[0]));
+        Map<String, JsonNode> current = load(Paths.get(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-60s %14s %14s %8s %12s %12s%n",
+                "Benchmark", "baseline", "current", "change", "B/op base", "B/op now");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-60s %14s%n", entry.getKey(), "(new)");
+                continue;
+            }
+            double baseScore = before.path("primaryMetric").path("score").asDouble();
+            double score = after.path("primaryMetric").path("score").asDouble();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double change = baseScore == 0 ? 0 : (score - baseScore) / baseScore;
+            boolean slower = higherIsBetter ? change < -timeTolerance : change > timeTolerance;
+
+            double baseAlloc = allocNorm(before);
+            double alloc = allocNorm(after);
+            boolean allocates = baseAlloc >= 0 && alloc >= 0
+                    && alloc > baseAlloc * (1 + allocTolerance) + ALLOC_SLACK_BYTES;
+
+            String flag = slower && allocates ? "  << TIME+ALLOC" : slower ? "  << TIME" : allocates ? "  << ALLOC" : "";
+            if (slower || allocates) {
+                regressions++;
+            }
+            System.out.printf("%-60s %14.2f %14.2f %+7.1f%% %12s %12s%s%n",
+                    entry.getKey(), baseScore, score, change * 100,
+                    format(baseAlloc), format(alloc), flag);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-60s %14s%n", missing, "(not run)");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed against " + args[0]);
+            System.exit(1);
+        }
+        System.out.println("No regressions against " + args[0]);
+    }
+
+    /**
+     * Results keyed by benchmark name, mode and parameters
+     */
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : ResponseDecoder.mapper().readTree(Files.readAllBytes(file))) {
+            String name = result.path("benchmark").asText()
+                    .replace("com.voiceai.benchmarks.", "");
+            StringBuilder key = new StringBuilder(name).append(" (").append(result.path("mode").asText());
+            result.path("params").fields().forEachRemaining(param ->
+                    key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText()));
+            results.put(key.append(')').toString(), result);
+        }
+        return results;
+    }
+
+    /**
+     * Bytes allocated per operation, or -1 when the run was made without -prof gc.
+     * Matched by suffix: older JMH versions prefix the name with a middle dot.
+     */
+    private static double allocNorm(JsonNode result) {
+        JsonNode secondary = result.path("secondaryMetrics");
+        for (Map.Entry<String, JsonNode> metric : (Iterable<Map.Entry<String, JsonNode>>) secondary::fields) {
+            if (metric.getKey().endsWith(ALLOC_NORM)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return -1;
+    }
+
+    private static String format(double bytes) {
+        return bytes < 0 ? "-" : String.format("%.0f", bytes);
+    }
+}
@@ -0,0 +1,88 @@
+package com.voiceai.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.voiceai.models.VoiceRequest;
+import com.voiceai.models.VoiceResponse;
+import com.voiceai.utils.ResponseDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codec Benchmark - VoiceRequest serialization and VoiceResponse decoding
+ *
+ * The *FreshMapper variants build a new ObjectMapper per call, the cost the
+ * shared ResponseDecoder mapper exists to avoid; they are kept as a reference
+ * point rather than as something to optimise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    static final byte[] RESPONSE_BODY = ("{\"session_id\":\"3f1c2a9e-5b7d-4e21-9a0c-7d2e8b6f4a11\","
+            + "\"response_text\":\"Your order 12345 shipped yesterday and should arrive on Friday.\","
+            + "\"intent\":\"order_status\",\"confidence\":0.93,\"response_time_ms\":412,"
+            + "\"is_fallback\":false,\"entities\":{\"order_id\":\"12345\",\"carrier\":\"UPS\"},"
+            + "\"status\":\"success\"}").getBytes(StandardCharsets.UTF_8);
+
+    private VoiceRequest request;
+    private ObjectWriter requestWriter;
+
+    @Setup
+    public void setUp() {
+        request = new VoiceRequest("3f1c2a9e-5b7d-4e21-9a0c-7d2e8b6f4a11", "Where is my order 12345?");
+        requestWriter = ResponseDecoder.mapper().writerFor(VoiceRequest.class);
+    }
+
+    // ==================== REQUEST ====================
+
+    @Benchmark
+    public byte[] serializeRequest() throws JsonProcessingException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializeRequestFreshMapper() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsBytes(request);
+    }
+
+    // ==================== RESPONSE ====================
+
+    @Benchmark
+    public VoiceResponse decodeResponse() {
+        return ResponseDecoder.decode(RESPONSE_BODY);
+    }
+
+    @Benchmark
+    public VoiceResponse decodeResponseFreshMapper() throws IOException {
+        return new ObjectMapper().readValue(RESPONSE_BODY, VoiceResponse.class);
+    }
+
+    @Benchmark
+    public JsonNode readTree() {
+        return ResponseDecoder.readTree(RESPONSE_BODY);
+    }
+
+    @Benchmark
+    public String extractSessionId() {
+        return ResponseDecoder.sessionId(RESPONSE_BODY);
+    }
+}
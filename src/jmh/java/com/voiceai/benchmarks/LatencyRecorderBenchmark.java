@@ -0,0 +1,43 @@
+package com.voiceai.benchmarks;
+
+import com.voiceai.utils.LatencyRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency Recorder Benchmark - per-sample recording cost, alone and under contention
+ *
+ * Every call in a load run records at least one sample, so this bounds the
+ * per-request overhead of measuring latency at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LatencyRecorderBenchmark {
+
+    private final LatencyRecorder recorder = new LatencyRecorder("bench");
+
+    @Benchmark
+    public void recordNanos() {
+        recorder.recordNanos(412_000_000L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordNanosContended() {
+        recorder.recordNanos(412_000_000L);
+    }
+}
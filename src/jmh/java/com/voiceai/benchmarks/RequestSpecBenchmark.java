@@ -0,0 +1,70 @@
+package com.voiceai.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.voiceai.models.VoiceRequest;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.ResponseDecoder;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request Spec Benchmark - cost of assembling a REST Assured request before it is sent
+ *
+ * baseRequest is APIClient.getBaseRequest(): a fresh request merged from the
+ * shared specification. chatRequest adds the body the way sendVoiceQuery
+ * does, pre-serialized through the shared ObjectWriter. chatRequestObjectBody
+ * hands REST Assured the POJO instead, which maps it through its own object
+ * mapper lookup on every call; it is kept as the reference point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+
+    private APIClient apiClient;
+    private ObjectWriter requestWriter;
+    private VoiceRequest request;
+
+    @Setup
+    public void setUp() {
+        apiClient = new APIClient();
+        requestWriter = ResponseDecoder.mapper().writerFor(VoiceRequest.class);
+        request = new VoiceRequest("3f1c2a9e-5b7d-4e21-9a0c-7d2e8b6f4a11", "Where is my order 12345?");
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiClient.close();
+    }
+
+    @Benchmark
+    public RequestSpecification baseRequest() {
+        return apiClient.getBaseRequest();
+    }
+
+    @Benchmark
+    public RequestSpecification chatRequest() throws JsonProcessingException {
+        return apiClient.getBaseRequest().body(requestWriter.writeValueAsBytes(request));
+    }
+
+    @Benchmark
+    public RequestSpecification chatRequestObjectBody() {
+        return apiClient.getBaseRequest().body(request);
+    }
+}
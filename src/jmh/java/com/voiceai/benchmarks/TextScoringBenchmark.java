@@ -0,0 +1,112 @@
+package com.voiceai.benchmarks;
+
+import com.voiceai.models.EvaluationCase;
+import com.voiceai.models.EvaluationScore;
+import com.voiceai.utils.HallucinationEvaluator;
+import com.voiceai.utils.LongHashSet;
+import com.voiceai.utils.PhraseMatcher;
+import com.voiceai.utils.TextTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text Scoring Benchmark - tokenizing, keyword checks and hallucination scoring of one answer
+ *
+ * stringTokenSet builds a lower-cased String set with a regex split, as the
+ * Python evaluator did; it is the reference point for tokenSet.
+ * dictionaryContainsLoop checks a 1000-phrase dictionary one contains() at a
+ * time; it is the reference point for the single-pass dictionaryScan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextScoringBenchmark {
+
+    static final String ANSWER = "Your order 12345 shipped yesterday with UPS and should arrive by Friday; "
+            + "you can track it from the Orders page of your account.";
+    static final String CONTEXT = "Order 12345 status: shipped. Carrier: UPS. Estimated delivery Friday. "
+            + "Customers can track shipments from the Orders page of their account or via the email link.";
+
+    private HallucinationEvaluator evaluator;
+    private EvaluationCase evaluationCase;
+    private List<String> keywords;
+    private PhraseMatcher dictionary;
+
+    @Setup
+    public void setUp() {
+        evaluator = new HallucinationEvaluator(3, 0, 1000);
+        evaluationCase = new EvaluationCase("bench", "Where is my order?", ANSWER).withContext("ORDERS", CONTEXT);
+        keywords = List.of("order", "shipped", "Orders page");
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            phrases.add("forbidden claim " + i);
+        }
+        dictionary = new PhraseMatcher(phrases);
+        evaluator.score(evaluationCase);
+    }
+
+    @Benchmark
+    public int tokenize() {
+        return TextTokenizer.tokenize(ANSWER).size();
+    }
+
+    @Benchmark
+    public LongHashSet tokenSet() {
+        return TextTokenizer.tokenSet(CONTEXT);
+    }
+
+    @Benchmark
+    public Set<String> stringTokenSet() {
+        Set<String> tokens = new HashSet<>();
+        for (String token : CONTEXT.toLowerCase(Locale.ROOT).split("\\W+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public List<String> keywordCheck() {
+        return PhraseMatcher.of(keywords).missing(ANSWER);
+    }
+
+    @Benchmark
+    public boolean dictionaryScan() {
+        return dictionary.matchesAny(ANSWER);
+    }
+
+    @Benchmark
+    public boolean dictionaryContainsLoop() {
+        String text = ANSWER.toLowerCase(Locale.ROOT);
+        for (String phrase : dictionary.getPhrases()) {
+            if (text.contains(phrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public EvaluationScore scoreCachedContext() {
+        return evaluator.score(evaluationCase);
+    }
+}
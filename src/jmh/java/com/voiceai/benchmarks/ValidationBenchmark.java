@@ -0,0 +1,93 @@
+package com.voiceai.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.voiceai.models.VoiceResponse;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.ResponseDecoder;
+import com.voiceai.utils.SchemaRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation Benchmark - structure checks and JSON schema validation of a response
+ *
+ * schemaCompiledPerCall compiles the schema on every call, as validating from
+ * a classpath file without SchemaRegistry does; it is the reference point for
+ * schemaCached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private APIClient apiClient;
+    private JsonNode tree;
+    private VoiceResponse decoded;
+    private JsonNode schemaNode;
+    private JsonSchemaFactory factory;
+
+    @Setup
+    public void setUp() throws IOException {
+        apiClient = new APIClient();
+        tree = ResponseDecoder.readTree(CodecBenchmark.RESPONSE_BODY);
+        decoded = ResponseDecoder.decode(CodecBenchmark.RESPONSE_BODY);
+        try (InputStream in = getClass().getClassLoader()
+                .getResourceAsStream("schemas/" + SchemaRegistry.VOICE_RESPONSE)) {
+            schemaNode = ResponseDecoder.mapper().readTree(in);
+        }
+        factory = JsonSchemaFactory.byDefault();
+        SchemaRegistry.get(SchemaRegistry.VOICE_RESPONSE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiClient.close();
+    }
+
+    // ==================== STRUCTURE ====================
+
+    @Benchmark
+    public boolean validateStructureTree() {
+        return apiClient.validateResponseStructure(tree);
+    }
+
+    @Benchmark
+    public boolean validateStructureDecoded() {
+        return apiClient.validateResponseStructure(decoded);
+    }
+
+    @Benchmark
+    public boolean validateStructureFromBytes() {
+        return apiClient.validateResponseStructure(ResponseDecoder.readTree(CodecBenchmark.RESPONSE_BODY));
+    }
+
+    // ==================== SCHEMA ====================
+
+    @Benchmark
+    public boolean schemaCached() {
+        return SchemaRegistry.isValid(SchemaRegistry.VOICE_RESPONSE, tree);
+    }
+
+    @Benchmark
+    public boolean schemaCompiledPerCall() throws ProcessingException {
+        return factory.getJsonSchema(schemaNode).validInstance(tree);
+    }
+}
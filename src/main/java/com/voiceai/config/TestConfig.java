@@ -2,7 +2,11 @@ package com.voiceai.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Configuration manager for test properties
@@ -69,6 +73,45 @@ public class TestConfig {
         return properties.getProperty("api.auth.token", "");
     }
 
+    // Transport
+    public String getTransportType() {
+        return properties.getProperty("api.transport", "httpclient");
+    }
+
+    public int getTransportMaxConnections() {
+        return Integer.parseInt(properties.getProperty("transport.max.connections", "64"));
+    }
+
+    public long getTransportConnectTimeoutMs() {
+        return Long.parseLong(properties.getProperty("transport.connect.timeout.ms", "5000"));
+    }
+
+    public String getTransportHttpVersion() {
+        return properties.getProperty("transport.http.version", "HTTP_2");
+    }
+
+    public int getAsyncMaxInFlight() {
+        return Integer.parseInt(properties.getProperty("async.max.in.flight", "256"));
+    }
+
+    public int getAsyncMaxPending() {
+        return Integer.parseInt(properties.getProperty("async.max.pending", "10000"));
+    }
+
+    // Conversation Corpus
+    public String getCorpusPath() {
+        return properties.getProperty("corpus.path", "corpus/conversations.jsonl");
+    }
+
+    // Session Pool
+    public int getSessionPoolSize() {
+        return Integer.parseInt(properties.getProperty("session.pool.size", "4"));
+    }
+
+    public String getSessionPoolPolicy() {
+        return properties.getProperty("session.pool.policy", "fresh");
+    }
+
     // Latency Thresholds
     public int getAcceptableLatency() {
         return Integer.parseInt(properties.getProperty("latency.acceptable", "500"));
@@ -82,6 +125,21 @@ public class TestConfig {
         return Integer.parseInt(properties.getProperty("latency.simple.query", "300"));
     }
 
+    public int getP50LatencyThreshold() {
+        return Integer.parseInt(properties.getProperty("latency.p50",
+                String.valueOf(getAcceptableLatency())));
+    }
+
+    public int getP99LatencyThreshold() {
+        return Integer.parseInt(properties.getProperty("latency.p99",
+                String.valueOf(getMaximumLatency())));
+    }
+
+    public int getP999LatencyThreshold() {
+        return Integer.parseInt(properties.getProperty("latency.p999",
+                String.valueOf(getMaximumLatency())));
+    }
+
     // Database Configuration
     public String getDbUrl() {
         return properties.getProperty("db.url", "");
@@ -95,6 +153,42 @@ public class TestConfig {
         return properties.getProperty("db.password", "");
     }
 
+    public int getDbPoolMaxSize() {
+        return Integer.parseInt(properties.getProperty("db.pool.max.size", "20"));
+    }
+
+    public int getDbPoolMinIdle() {
+        return Integer.parseInt(properties.getProperty("db.pool.min.idle", "2"));
+    }
+
+    public long getDbPoolConnectionTimeoutMs() {
+        return Long.parseLong(properties.getProperty("db.pool.connection.timeout.ms", "5000"));
+    }
+
+    public long getDbPoolValidationTimeoutMs() {
+        return Long.parseLong(properties.getProperty("db.pool.validation.timeout.ms", "1000"));
+    }
+
+    public int getDbStatementCacheSize() {
+        return Integer.parseInt(properties.getProperty("db.statement.cache.size", "256"));
+    }
+
+    public int getDbVerifyBatchSize() {
+        return Integer.parseInt(properties.getProperty("db.verify.batch.size", "5000"));
+    }
+
+    public long getPersistencePollInitialMs() {
+        return Long.parseLong(properties.getProperty("db.persistence.poll.initial.ms", "50"));
+    }
+
+    public long getPersistencePollMaxMs() {
+        return Long.parseLong(properties.getProperty("db.persistence.poll.max.ms", "1000"));
+    }
+
+    public long getPersistenceTimeoutMs() {
+        return Long.parseLong(properties.getProperty("db.persistence.timeout.ms", "10000"));
+    }
+
     // Confidence Thresholds
     public double getMinimumConfidence() {
         return Double.parseDouble(properties.getProperty("confidence.minimum", "0.5"));
@@ -112,4 +206,261 @@ public class TestConfig {
     public String getLogFilePath() {
         return properties.getProperty("log.file.path", "logs/test.log");
     }
+
+    /**
+     * Field that carries the session id in application log lines (log.session.key)
+     */
+    public String getLogSessionKey() {
+        return properties.getProperty("log.session.key", "session_id");
+    }
+
+    /**
+     * Index what the log already holds when LogValidator starts, instead of only new lines
+     */
+    public boolean isLogReadFromStart() {
+        return Boolean.parseBoolean(properties.getProperty("log.read.from.start", "false"));
+    }
+
+    public long getLogAwaitTimeoutMs() {
+        return Long.parseLong(properties.getProperty("log.await.timeout.ms", "5000"));
+    }
+
+    public long getLogPollIntervalMs() {
+        return Long.parseLong(properties.getProperty("log.poll.interval.ms", "100"));
+    }
+
+    /**
+     * Where LogCorrelator writes its sorted runs and session index
+     */
+    public String getLogIndexDir() {
+        return properties.getProperty("log.index.dir", "target/log-index");
+    }
+
+    /**
+     * Index records (16 bytes each) held in memory before a sorted run is spilled
+     */
+    public int getLogIndexRunRecords() {
+        return Integer.parseInt(properties.getProperty("log.index.run.records", "1000000"));
+    }
+
+    /**
+     * Zone of application log timestamps that carry no offset
+     */
+    public String getLogTimeZone() {
+        return properties.getProperty("log.timezone", "UTC");
+    }
+
+    /**
+     * stage:marker|marker;... used to classify log lines into timeline stages
+     */
+    public String getLogStageMarkers() {
+        return properties.getProperty("log.stage.markers",
+                "request_in:request received|request_in|incoming request;"
+                        + "response_out:response sent|response_out|outgoing response;"
+                        + "db_write:db write|db_write|persisted|insert into;"
+                        + "model_call:model call|model_call|inference|llm");
+    }
+
+    // Hallucination Evaluation
+    /**
+     * Answer tokens allowed to be missing from every context before an answer counts as hallucinated
+     */
+    public int getEvalMaxMissingTokens() {
+        return Integer.parseInt(properties.getProperty("eval.hallucination.max.missing", "3"));
+    }
+
+    /**
+     * Fork-join workers for corpus scoring; 0 uses the common pool
+     */
+    public int getEvalParallelism() {
+        return Integer.parseInt(properties.getProperty("eval.parallelism", "0"));
+    }
+
+    /**
+     * Distinct context texts whose token sets are kept between answers
+     */
+    public int getEvalContextCacheSize() {
+        return Integer.parseInt(properties.getProperty("eval.context.cache.size", "100000"));
+    }
+
+    public String getEvalCorpusPath() {
+        return properties.getProperty("eval.corpus.path", "corpus/hallucination_eval.jsonl");
+    }
+
+    public double getEvalMaxHallucinationPct() {
+        return Double.parseDouble(properties.getProperty("eval.max.hallucination.pct", "5.0"));
+    }
+
+    public double getEvalMinContextAccuracyPct() {
+        return Double.parseDouble(properties.getProperty("eval.min.context.accuracy.pct", "90.0"));
+    }
+
+    /**
+     * Phrases that mark an answer as admitting uncertainty, from the '|'-separated eval.uncertainty.phrases
+     */
+    public List<String> getEvalUncertaintyPhrases() {
+        List<String> phrases = new ArrayList<>();
+        for (String phrase : properties.getProperty("eval.uncertainty.phrases",
+                "not sure|don't know|don't have|not familiar|can't find").split("\\|")) {
+            if (!phrase.isBlank()) {
+                phrases.add(phrase.trim());
+            }
+        }
+        return phrases;
+    }
+
+    public String getLoadMode() {
+        return properties.getProperty("load.mode", "open");
+    }
+
+    public int getLoadConcurrency() {
+        return Integer.parseInt(properties.getProperty("load.concurrency", "10"));
+    }
+
+    public double getLoadArrivalRate() {
+        return Double.parseDouble(properties.getProperty("load.arrival.rate", "20"));
+    }
+
+    public int getLoadRampUpSeconds() {
+        return Integer.parseInt(properties.getProperty("load.rampup.seconds", "5"));
+    }
+
+    public int getLoadSteadySeconds() {
+        return Integer.parseInt(properties.getProperty("load.steady.seconds", "20"));
+    }
+
+    public int getLoadRampDownSeconds() {
+        return Integer.parseInt(properties.getProperty("load.rampdown.seconds", "5"));
+    }
+
+    public int getLoadMaxThreads() {
+        return Integer.parseInt(properties.getProperty("load.max.threads", "200"));
+    }
+
+    public long getLoadPacingMs() {
+        return Long.parseLong(properties.getProperty("load.pacing.ms", "0"));
+    }
+
+    public double getLoadRateLimit() {
+        return Double.parseDouble(properties.getProperty("load.rate.limit", "0"));
+    }
+
+    public double getLoadRateBurst() {
+        return Double.parseDouble(properties.getProperty("load.rate.burst", "10"));
+    }
+
+    public boolean isLoadAimdEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("load.aimd.enabled", "false"));
+    }
+
+    public double getLoadAimdMaxRate() {
+        return Double.parseDouble(properties.getProperty("load.aimd.max.rate", "1000"));
+    }
+
+    public double getLoadAimdIncrease() {
+        return Double.parseDouble(properties.getProperty("load.aimd.increase", "5"));
+    }
+
+    public double getLoadAimdDecrease() {
+        return Double.parseDouble(properties.getProperty("load.aimd.decrease", "0.5"));
+    }
+
+    public long getLoadAimdWindowMs() {
+        return Long.parseLong(properties.getProperty("load.aimd.window.ms", "1000"));
+    }
+
+    /**
+     * Retries per call after the first attempt (test.retry.count)
+     */
+    public int getRetryCount() {
+        return Integer.parseInt(properties.getProperty("test.retry.count", "3"));
+    }
+
+    /**
+     * Time allowed for one logical call, all attempts and backoff included (test.timeout)
+     */
+    public long getTestTimeoutMs() {
+        return Long.parseLong(properties.getProperty("test.timeout", "30000"));
+    }
+
+    public long getTransportReadTimeoutMs() {
+        return Long.parseLong(properties.getProperty("transport.read.timeout.ms", "10000"));
+    }
+
+    /**
+     * Read timeout for one endpoint (chat, session, history), falling back to transport.read.timeout.ms
+     */
+    public long getTransportReadTimeoutMs(String endpoint) {
+        String value = properties.getProperty("transport.read.timeout." + endpoint + ".ms");
+        return value == null ? getTransportReadTimeoutMs() : Long.parseLong(value);
+    }
+
+    public long getRetryBackoffInitialMs() {
+        return Long.parseLong(properties.getProperty("retry.backoff.initial.ms", "100"));
+    }
+
+    public long getRetryBackoffMaxMs() {
+        return Long.parseLong(properties.getProperty("retry.backoff.max.ms", "2000"));
+    }
+
+    /**
+     * HTTP statuses worth retrying, from the comma-separated retry.statuses
+     */
+    public Set<Integer> getRetryStatuses() {
+        Set<Integer> statuses = new HashSet<>();
+        for (String status : properties.getProperty("retry.statuses", "502,503,504").split(",")) {
+            if (!status.isBlank()) {
+                statuses.add(Integer.parseInt(status.trim()));
+            }
+        }
+        return statuses;
+    }
+
+    public long getHedgeDelayMs() {
+        return Long.parseLong(properties.getProperty("hedge.delay.ms", "250"));
+    }
+
+    public long getSoakDurationMinutes() {
+        return Long.parseLong(properties.getProperty("soak.duration.minutes", "60"));
+    }
+
+    public double getSoakRate() {
+        return Double.parseDouble(properties.getProperty("soak.rate", "10"));
+    }
+
+    public long getSoakIntervalSeconds() {
+        return Long.parseLong(properties.getProperty("soak.interval.seconds", "10"));
+    }
+
+    public String getSoakMix() {
+        return properties.getProperty("soak.mix", "chat:8,session:1,history:1");
+    }
+
+    public String getSoakOutputDir() {
+        return properties.getProperty("soak.output.dir", "target/soak");
+    }
+
+    public int getSoakDriftWindow() {
+        return Integer.parseInt(properties.getProperty("soak.drift.window", "30"));
+    }
+
+    public double getSoakDriftLatencyPct() {
+        return Double.parseDouble(properties.getProperty("soak.drift.latency.pct", "25"));
+    }
+
+    public double getSoakDriftErrorPct() {
+        return Double.parseDouble(properties.getProperty("soak.drift.error.pct", "1.0"));
+    }
+
+    public int getScenarioCount() {
+        return Integer.parseInt(properties.getProperty("scenario.count", "200"));
+    }
+
+    public int getScenarioConcurrency() {
+        return Integer.parseInt(properties.getProperty("scenario.concurrency", "50"));
+    }
+
+    public long getScenarioThinkMs() {
+        return Long.parseLong(properties.getProperty("scenario.think.ms", "0"));
+    }
 }
@@ -0,0 +1,87 @@
+package com.voiceai.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Corpus Entry Model - one utterance from a conversation corpus with its expectations
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CorpusEntry {
+
+    @JsonProperty("utterance")
+    private String utterance;
+
+    @JsonProperty("expected_intent")
+    private String expectedIntent;
+
+    @JsonProperty("keywords")
+    private List<String> keywords = new ArrayList<>();
+
+    @JsonProperty("category")
+    private String category;
+
+    // Default constructor required for Jackson deserialization
+    public CorpusEntry() {
+    }
+
+    public CorpusEntry(String utterance, String expectedIntent) {
+        this.utterance = utterance;
+        this.expectedIntent = expectedIntent;
+    }
+
+    // Getters
+    public String getUtterance() {
+        return utterance;
+    }
+
+    /**
+     * Intent the backend should detect, or null when the entry has no expectation
+     */
+    public String getExpectedIntent() {
+        return expectedIntent;
+    }
+
+    public List<String> getKeywords() {
+        return keywords == null ? Collections.emptyList() : keywords;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    // Fluent setters
+    public CorpusEntry withUtterance(String utterance) {
+        this.utterance = utterance;
+        return this;
+    }
+
+    public CorpusEntry withExpectedIntent(String expectedIntent) {
+        this.expectedIntent = expectedIntent;
+        return this;
+    }
+
+    public CorpusEntry withKeywords(List<String> keywords) {
+        this.keywords = keywords;
+        return this;
+    }
+
+    public CorpusEntry withCategory(String category) {
+        this.category = category;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "CorpusEntry{" +
+                "utterance='" + utterance + '\'' +
+                ", expectedIntent='" + expectedIntent + '\'' +
+                ", keywords=" + keywords +
+                ", category='" + category + '\'' +
+                '}';
+    }
+}
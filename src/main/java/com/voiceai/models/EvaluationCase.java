@@ -0,0 +1,85 @@
+package com.voiceai.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Evaluation Case Model - an answer with the contexts it was grounded on and the expected document
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EvaluationCase {
+
+    @JsonProperty("conversation_id")
+    private String conversationId;
+
+    @JsonProperty("question")
+    private String question;
+
+    @JsonProperty("answer")
+    private String answer;
+
+    @JsonProperty("contexts")
+    private List<RetrievedContext> contexts = new ArrayList<>();
+
+    @JsonProperty("gold_doc")
+    private String goldDocId;
+
+    // Default constructor required for Jackson deserialization
+    public EvaluationCase() {
+    }
+
+    public EvaluationCase(String conversationId, String question, String answer) {
+        this.conversationId = conversationId;
+        this.question = question;
+        this.answer = answer;
+    }
+
+    public String getConversationId() {
+        return conversationId;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+
+    public List<RetrievedContext> getContexts() {
+        return contexts == null ? Collections.emptyList() : contexts;
+    }
+
+    /**
+     * Document that supports the answer, or null when no document should be retrieved
+     */
+    public String getGoldDocId() {
+        return goldDocId;
+    }
+
+    // Fluent setters
+    public EvaluationCase withContext(String docId, String text) {
+        this.contexts.add(new RetrievedContext(docId, text));
+        return this;
+    }
+
+    public EvaluationCase withGoldDocId(String goldDocId) {
+        this.goldDocId = goldDocId;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationCase{" +
+                "conversationId='" + conversationId + '\'' +
+                ", question='" + question + '\'' +
+                ", answer='" + answer + '\'' +
+                ", contexts=" + contexts +
+                ", goldDocId='" + goldDocId + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.voiceai.models;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Evaluation Report Model - hallucination and context-retrieval rates over a corpus of answers
+ */
+public class EvaluationReport {
+    private final long total;
+    private final long hallucinated;
+    private final long contextAccurate;
+    private final long durationMs;
+    private final List<EvaluationScore> hallucinationSamples;
+
+    public EvaluationReport(long total, long hallucinated, long contextAccurate, long durationMs,
+            List<EvaluationScore> hallucinationSamples) {
+        this.total = total;
+        this.hallucinated = hallucinated;
+        this.contextAccurate = contextAccurate;
+        this.durationMs = durationMs;
+        this.hallucinationSamples = Collections.unmodifiableList(hallucinationSamples);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getHallucinated() {
+        return hallucinated;
+    }
+
+    public long getContextAccurate() {
+        return contextAccurate;
+    }
+
+    public double getHallucinationPct() {
+        return total == 0 ? 0.0 : hallucinated * 100.0 / total;
+    }
+
+    public double getContextAccuracyPct() {
+        return total == 0 ? 0.0 : contextAccurate * 100.0 / total;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public double getCasesPerSecond() {
+        return durationMs == 0 ? 0.0 : total * 1000.0 / durationMs;
+    }
+
+    /**
+     * First hallucinated cases seen, capped by the evaluator
+     */
+    public List<EvaluationScore> getHallucinationSamples() {
+        return hallucinationSamples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "EvaluationReport{total=%d, hallucination=%.2f%%, contextAccuracy=%.2f%%, %dms, %.0f cases/s}",
+                total, getHallucinationPct(), getContextAccuracyPct(), durationMs, getCasesPerSecond());
+    }
+}
@@ -0,0 +1,56 @@
+package com.voiceai.models;
+
+import java.util.List;
+
+/**
+ * Evaluation Score Model - hallucination and context-accuracy verdict for one case
+ */
+public class EvaluationScore {
+    private final String conversationId;
+    private final boolean hallucinated;
+    private final List<String> missingTokens;
+    private final boolean contextAccurate;
+
+    public EvaluationScore(String conversationId, boolean hallucinated, List<String> missingTokens,
+            boolean contextAccurate) {
+        this.conversationId = conversationId;
+        this.hallucinated = hallucinated;
+        this.missingTokens = missingTokens;
+        this.contextAccurate = contextAccurate;
+    }
+
+    public String getConversationId() {
+        return conversationId;
+    }
+
+    /**
+     * More answer tokens missing from the contexts than the evaluator allows
+     */
+    public boolean isHallucinated() {
+        return hallucinated;
+    }
+
+    /**
+     * Answer tokens (lower-cased, in answer order, repeats kept) found in no context
+     */
+    public List<String> getMissingTokens() {
+        return missingTokens;
+    }
+
+    /**
+     * A context matched the gold document, or none was retrieved when none was expected
+     */
+    public boolean isContextAccurate() {
+        return contextAccurate;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationScore{" +
+                "conversationId='" + conversationId + '\'' +
+                ", hallucinated=" + hallucinated +
+                ", missingTokens=" + missingTokens +
+                ", contextAccurate=" + contextAccurate +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.voiceai.models;
+
+/**
+ * Latency Breakdown Model - where chat latency is spent
+ *
+ * client:  wall time measured around the call
+ * server:  response_time_ms reported by the API
+ * network: client minus server (network, TLS, gateway queueing)
+ * db:      response_time_ms recorded in the conversations table (model time)
+ * gateway: server minus db (API work outside the model)
+ */
+public class LatencyBreakdown {
+    public static final String NETWORK = "network";
+    public static final String GATEWAY = "gateway";
+    public static final String MODEL = "model";
+
+    private final LatencyReport client;
+    private final LatencyReport server;
+    private final LatencyReport network;
+    private final LatencyReport db;
+    private final LatencyReport gateway;
+
+    public LatencyBreakdown(LatencyReport client, LatencyReport server, LatencyReport network,
+            LatencyReport db, LatencyReport gateway) {
+        this.client = client;
+        this.server = server;
+        this.network = network;
+        this.db = db;
+        this.gateway = gateway;
+    }
+
+    public LatencyReport getClient() {
+        return client;
+    }
+
+    public LatencyReport getServer() {
+        return server;
+    }
+
+    public LatencyReport getNetwork() {
+        return network;
+    }
+
+    public LatencyReport getDb() {
+        return db;
+    }
+
+    public LatencyReport getGateway() {
+        return gateway;
+    }
+
+    /**
+     * Component with the largest p99: network, gateway or model.
+     * Without DB samples the server share is reported as model.
+     */
+    public String getDominantTailComponent() {
+        double modelP99 = db.getCount() > 0 ? db.getP99Ms() : server.getP99Ms();
+        double gatewayP99 = db.getCount() > 0 ? gateway.getP99Ms() : 0.0;
+        if (network.getP99Ms() >= modelP99 && network.getP99Ms() >= gatewayP99) {
+            return NETWORK;
+        }
+        return gatewayP99 > modelP99 ? GATEWAY : MODEL;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyBreakdown{" +
+                "\n  " + client +
+                "\n  " + server +
+                "\n  " + network +
+                "\n  " + db +
+                "\n  " + gateway +
+                "\n  dominantTail=" + getDominantTailComponent() +
+                "\n}";
+    }
+}
@@ -0,0 +1,72 @@
+package com.voiceai.models;
+
+/**
+ * Latency Report Model - percentile summary of a latency distribution
+ */
+public class LatencyReport {
+    private final String name;
+    private final long count;
+    private final double minMs;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    public LatencyReport(String name, long count, double minMs, double meanMs,
+            double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+        this.name = name;
+        this.count = count;
+        this.minMs = minMs;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMinMs() {
+        return minMs;
+    }
+
+    public double getMeanMs() {
+        return meanMs;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getP999Ms() {
+        return p999Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, min=%.2fms, mean=%.2fms, p50=%.2fms, p90=%.2fms, " +
+                        "p99=%.2fms, p99.9=%.2fms, max=%.2fms}",
+                name, count, minMs, meanMs, p50Ms, p90Ms, p99Ms, p999Ms, maxMs);
+    }
+}
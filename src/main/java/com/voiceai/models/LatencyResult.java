@@ -7,13 +7,38 @@ public class LatencyResult {
     private long latencyMs;
     private boolean isAcceptable;
     private boolean withinThreshold;
+    private LatencyReport report;
+    private boolean p50WithinThreshold;
+    private boolean p99WithinThreshold;
+    private boolean p999WithinThreshold;
 
     public LatencyResult(long latencyMs, boolean isAcceptable, boolean withinThreshold) {
         this.latencyMs = latencyMs;
         this.isAcceptable = isAcceptable;
         this.withinThreshold = withinThreshold;
+        this.p50WithinThreshold = isAcceptable;
+        this.p99WithinThreshold = withinThreshold;
+        this.p999WithinThreshold = withinThreshold;
     }
 
+    /**
+     * Percentile verdict: acceptable when p50 is within its threshold,
+     * within threshold only when p50, p99 and p99.9 all are
+     */
+    public LatencyResult(LatencyReport report, boolean p50WithinThreshold,
+            boolean p99WithinThreshold, boolean p999WithinThreshold) {
+        this.report = report;
+        this.latencyMs = (long) Math.ceil(report.getP99Ms());
+        this.p50WithinThreshold = p50WithinThreshold;
+        this.p99WithinThreshold = p99WithinThreshold;
+        this.p999WithinThreshold = p999WithinThreshold;
+        this.isAcceptable = p50WithinThreshold;
+        this.withinThreshold = p50WithinThreshold && p99WithinThreshold && p999WithinThreshold;
+    }
+
+    /**
+     * Single-sample latency, or p99 for a percentile verdict
+     */
     public long getLatencyMs() {
         return latencyMs;
     }
@@ -26,6 +51,25 @@ public class LatencyResult {
         return withinThreshold;
     }
 
+    /**
+     * Percentile summary behind this verdict, null for single-sample results
+     */
+    public LatencyReport getReport() {
+        return report;
+    }
+
+    public boolean isP50WithinThreshold() {
+        return p50WithinThreshold;
+    }
+
+    public boolean isP99WithinThreshold() {
+        return p99WithinThreshold;
+    }
+
+    public boolean isP999WithinThreshold() {
+        return p999WithinThreshold;
+    }
+
     public String getStatus() {
         return withinThreshold ? "PASS" : "FAIL";
     }
@@ -0,0 +1,257 @@
+package com.voiceai.models;
+
+import com.voiceai.config.TestConfig;
+
+/**
+ * Load Profile Model - describes how a load run drives the chat endpoint
+ */
+public class LoadProfile {
+
+    /**
+     * OPEN_LOOP sends at a fixed arrival rate regardless of response times,
+     * CLOSED_LOOP keeps a fixed number of clients each waiting for its own response.
+     */
+    public enum Mode {
+        OPEN_LOOP,
+        CLOSED_LOOP;
+
+        public static Mode fromConfig(String value) {
+            return "open".equalsIgnoreCase(value) || "open_loop".equalsIgnoreCase(value)
+                    ? OPEN_LOOP
+                    : CLOSED_LOOP;
+        }
+    }
+
+    private Mode mode = Mode.CLOSED_LOOP;
+    private int concurrency = 10;
+    private double arrivalRate = 20;
+    private long rampUpMs;
+    private long steadyMs = 20_000;
+    private long rampDownMs;
+    private int maxThreads = 200;
+    private long pacingMs;
+    private double rateLimit;
+    private double rateBurst = 10;
+    private boolean adaptive;
+    private double adaptiveMaxRate = 1000;
+    private double adaptiveIncrease = 5;
+    private double adaptiveDecrease = 0.5;
+    private long adaptiveWindowMs = 1000;
+
+    // Default constructor
+    public LoadProfile() {
+    }
+
+    /**
+     * Build a profile from the load.* properties in config.properties
+     */
+    public static LoadProfile fromConfig(TestConfig config) {
+        return new LoadProfile()
+                .withMode(Mode.fromConfig(config.getLoadMode()))
+                .withConcurrency(config.getLoadConcurrency())
+                .withArrivalRate(config.getLoadArrivalRate())
+                .withRampUpMs(config.getLoadRampUpSeconds() * 1000L)
+                .withSteadyMs(config.getLoadSteadySeconds() * 1000L)
+                .withRampDownMs(config.getLoadRampDownSeconds() * 1000L)
+                .withMaxThreads(config.getLoadMaxThreads())
+                .withPacingMs(config.getLoadPacingMs())
+                .withRateLimit(config.getLoadRateLimit())
+                .withRateBurst(config.getLoadRateBurst())
+                .withAdaptive(config.isLoadAimdEnabled())
+                .withAdaptiveMaxRate(config.getLoadAimdMaxRate())
+                .withAdaptiveIncrease(config.getLoadAimdIncrease())
+                .withAdaptiveDecrease(config.getLoadAimdDecrease())
+                .withAdaptiveWindowMs(config.getLoadAimdWindowMs());
+    }
+
+    // Getters
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether requests have an intended send time independent of earlier responses,
+     * i.e. whether corrected latency means anything for this profile
+     */
+    public boolean isLatencyCorrected() {
+        return mode == Mode.OPEN_LOOP || pacingMs > 0;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public long getRampUpMs() {
+        return rampUpMs;
+    }
+
+    public long getSteadyMs() {
+        return steadyMs;
+    }
+
+    public long getRampDownMs() {
+        return rampDownMs;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Interval between sends of one closed-loop client; 0 sends back-to-back
+     */
+    public long getPacingMs() {
+        return pacingMs;
+    }
+
+    /**
+     * Client-side token bucket rate in requests per second; 0 sends unthrottled.
+     * With adaptive rate control this is the starting rate.
+     */
+    public double getRateLimit() {
+        return rateLimit;
+    }
+
+    public double getRateBurst() {
+        return rateBurst;
+    }
+
+    /**
+     * Whether an AIMD controller adjusts the rate limit from 429 responses
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public double getAdaptiveMaxRate() {
+        return adaptiveMaxRate;
+    }
+
+    public double getAdaptiveIncrease() {
+        return adaptiveIncrease;
+    }
+
+    public double getAdaptiveDecrease() {
+        return adaptiveDecrease;
+    }
+
+    public long getAdaptiveWindowMs() {
+        return adaptiveWindowMs;
+    }
+
+    /**
+     * Whether requests go through a client-side rate limiter
+     */
+    public boolean isRateLimited() {
+        return rateLimit > 0 || adaptive;
+    }
+
+    public long getTotalDurationMs() {
+        return rampUpMs + steadyMs + rampDownMs;
+    }
+
+    // Builder-style methods for fluent API
+    public LoadProfile withMode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public LoadProfile withConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public LoadProfile withArrivalRate(double arrivalRate) {
+        if (arrivalRate <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + arrivalRate);
+        }
+        this.arrivalRate = arrivalRate;
+        return this;
+    }
+
+    public LoadProfile withRampUpMs(long rampUpMs) {
+        this.rampUpMs = Math.max(0, rampUpMs);
+        return this;
+    }
+
+    public LoadProfile withSteadyMs(long steadyMs) {
+        this.steadyMs = Math.max(0, steadyMs);
+        return this;
+    }
+
+    public LoadProfile withRampDownMs(long rampDownMs) {
+        this.rampDownMs = Math.max(0, rampDownMs);
+        return this;
+    }
+
+    public LoadProfile withMaxThreads(int maxThreads) {
+        this.maxThreads = Math.max(1, maxThreads);
+        return this;
+    }
+
+    public LoadProfile withPacingMs(long pacingMs) {
+        this.pacingMs = Math.max(0, pacingMs);
+        return this;
+    }
+
+    public LoadProfile withRateLimit(double rateLimit) {
+        this.rateLimit = Math.max(0, rateLimit);
+        return this;
+    }
+
+    public LoadProfile withRateBurst(double rateBurst) {
+        this.rateBurst = Math.max(1, rateBurst);
+        return this;
+    }
+
+    public LoadProfile withAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        return this;
+    }
+
+    public LoadProfile withAdaptiveMaxRate(double adaptiveMaxRate) {
+        this.adaptiveMaxRate = adaptiveMaxRate;
+        return this;
+    }
+
+    public LoadProfile withAdaptiveIncrease(double adaptiveIncrease) {
+        this.adaptiveIncrease = adaptiveIncrease;
+        return this;
+    }
+
+    public LoadProfile withAdaptiveDecrease(double adaptiveDecrease) {
+        if (adaptiveDecrease <= 0 || adaptiveDecrease >= 1) {
+            throw new IllegalArgumentException("Decrease factor must be between 0 and 1: " + adaptiveDecrease);
+        }
+        this.adaptiveDecrease = adaptiveDecrease;
+        return this;
+    }
+
+    public LoadProfile withAdaptiveWindowMs(long adaptiveWindowMs) {
+        this.adaptiveWindowMs = Math.max(1, adaptiveWindowMs);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadProfile{" +
+                "mode=" + mode +
+                ", concurrency=" + concurrency +
+                ", arrivalRate=" + arrivalRate +
+                ", rampUpMs=" + rampUpMs +
+                ", steadyMs=" + steadyMs +
+                ", rampDownMs=" + rampDownMs +
+                ", maxThreads=" + maxThreads +
+                ", pacingMs=" + pacingMs +
+                ", rateLimit=" + rateLimit +
+                ", adaptive=" + adaptive +
+                '}';
+    }
+}
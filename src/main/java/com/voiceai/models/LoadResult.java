@@ -0,0 +1,168 @@
+package com.voiceai.models;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Load Result Model - outcome of a single load generator run
+ */
+public class LoadResult {
+    private final LoadProfile.Mode mode;
+    private final long sent;
+    private final long succeeded;
+    private final long failed;
+    private final long errors;
+    private final Map<Integer, Long> statusCounts;
+    private final long durationMs;
+    private final LatencyReport latency;
+    private final LatencyReport correctedLatency;
+    private final long retryAfterPauses;
+    private final double finalRate;
+    private final double saturationRate;
+
+    public LoadResult(LoadProfile.Mode mode, long sent, long succeeded, long failed, long errors,
+            Map<Integer, Long> statusCounts, long durationMs,
+            LatencyReport latency, LatencyReport correctedLatency) {
+        this(mode, sent, succeeded, failed, errors, statusCounts, durationMs, latency, correctedLatency, 0, 0, -1);
+    }
+
+    public LoadResult(LoadProfile.Mode mode, long sent, long succeeded, long failed, long errors,
+            Map<Integer, Long> statusCounts, long durationMs,
+            LatencyReport latency, LatencyReport correctedLatency,
+            long retryAfterPauses, double finalRate, double saturationRate) {
+        this.mode = mode;
+        this.sent = sent;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.errors = errors;
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+        this.durationMs = durationMs;
+        this.latency = latency;
+        this.correctedLatency = correctedLatency;
+        this.retryAfterPauses = retryAfterPauses;
+        this.finalRate = finalRate;
+        this.saturationRate = saturationRate;
+    }
+
+    public LoadProfile.Mode getMode() {
+        return mode;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    /**
+     * Requests that received a 2xx response
+     */
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Requests that received a non-2xx response
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Requests that never produced a response (connection errors, timeouts)
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public long getStatusCount(int statusCode) {
+        return statusCounts.getOrDefault(statusCode, 0L);
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public double getThroughputPerSecond() {
+        return durationMs == 0 ? 0.0 : (succeeded + failed) * 1000.0 / durationMs;
+    }
+
+    /**
+     * Raw latency percentiles, measured from the actual send time
+     */
+    public LatencyReport getLatency() {
+        return latency;
+    }
+
+    /**
+     * Latency percentiles measured from the intended send time, including
+     * any time the request waited behind a stalled backend or client; null
+     * when the run had no intended timeline (unpaced closed loop)
+     */
+    public LatencyReport getCorrectedLatency() {
+        return correctedLatency;
+    }
+
+    public boolean isLatencyCorrected() {
+        return correctedLatency != null;
+    }
+
+    /**
+     * Responses the backend rejected with 429 Too Many Requests
+     */
+    public long getThrottled() {
+        return getStatusCount(429);
+    }
+
+    public double getThrottledRate() {
+        long responses = succeeded + failed;
+        return responses == 0 ? 0.0 : getThrottled() * 100.0 / responses;
+    }
+
+    /**
+     * Times a Retry-After header paused the client-side rate limiter
+     */
+    public long getRetryAfterPauses() {
+        return retryAfterPauses;
+    }
+
+    /**
+     * Rate limit in force when the run ended (req/s), or 0 when unthrottled
+     */
+    public double getFinalRate() {
+        return finalRate;
+    }
+
+    /**
+     * Highest sustained 2xx throughput found by adaptive rate control (req/s),
+     * or -1 when the run was not adaptive or the backend never throttled
+     */
+    public double getSaturationRate() {
+        return saturationRate;
+    }
+
+    public boolean isSaturationFound() {
+        return saturationRate >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadResult{" +
+                "mode=" + mode +
+                ", sent=" + sent +
+                ", succeeded=" + succeeded +
+                ", failed=" + failed +
+                ", errors=" + errors +
+                ", statusCounts=" + statusCounts +
+                ", durationMs=" + durationMs +
+                ", throughput=" + String.format("%.2f", getThroughputPerSecond()) + "/s" +
+                ", throttled=" + getThrottled() +
+                ", retryAfterPauses=" + retryAfterPauses +
+                (isSaturationFound() ? ", saturationRate=" + String.format("%.2f", saturationRate) + "/s" : "") +
+                ", latency=" + latency +
+                (isLatencyCorrected() ? ", correctedLatency=" + correctedLatency : "") +
+                '}';
+    }
+}
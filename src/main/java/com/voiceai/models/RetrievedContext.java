@@ -0,0 +1,42 @@
+package com.voiceai.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Retrieved Context Model - one document chunk a RAG answer was generated from
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RetrievedContext {
+
+    @JsonProperty("doc_id")
+    private String docId;
+
+    @JsonProperty("text")
+    private String text;
+
+    // Default constructor required for Jackson deserialization
+    public RetrievedContext() {
+    }
+
+    public RetrievedContext(String docId, String text) {
+        this.docId = docId;
+        this.text = text;
+    }
+
+    public String getDocId() {
+        return docId;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "RetrievedContext{" +
+                "docId='" + docId + '\'' +
+                ", text='" + text + '\'' +
+                '}';
+    }
+}
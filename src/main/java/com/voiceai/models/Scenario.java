@@ -0,0 +1,53 @@
+package com.voiceai.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scenario Model - a named multi-turn conversation run on one session
+ */
+public class Scenario {
+    private final String name;
+    private final List<ScenarioStep> steps = new ArrayList<>();
+
+    public Scenario(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<ScenarioStep> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    // Fluent setters
+    public Scenario withStep(ScenarioStep step) {
+        steps.add(step);
+        return this;
+    }
+
+    /**
+     * Shortcut for a step that only checks the intent
+     */
+    public Scenario withStep(String utterance, String expectedIntent) {
+        return withStep(new ScenarioStep(utterance).withExpectedIntent(expectedIntent));
+    }
+
+    /**
+     * Apply the same think time to every step after the first
+     */
+    public Scenario withThinkTime(ThinkTime thinkTime) {
+        for (int i = 1; i < steps.size(); i++) {
+            steps.get(i).withThinkTime(thinkTime);
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "Scenario{name='" + name + "', steps=" + steps.size() + '}';
+    }
+}
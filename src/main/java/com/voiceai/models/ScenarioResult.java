@@ -0,0 +1,112 @@
+package com.voiceai.models;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scenario Result Model - outcome of running one scenario many times concurrently
+ *
+ * Scenario latency is the wall time from the session being ready to the last
+ * response, think time included; step latency is the round trip of each turn
+ * on its own. Session creation is not part of either.
+ */
+public class ScenarioResult {
+    private final String scenarioName;
+    private final long started;
+    private final long passed;
+    private final long failed;
+    private final long errors;
+    private final long durationMs;
+    private final LatencyReport scenarioLatency;
+    private final List<LatencyReport> stepLatencies;
+    private final List<String> failureSamples;
+
+    public ScenarioResult(String scenarioName, long started, long passed, long failed, long errors,
+            long durationMs, LatencyReport scenarioLatency, List<LatencyReport> stepLatencies,
+            List<String> failureSamples) {
+        this.scenarioName = scenarioName;
+        this.started = started;
+        this.passed = passed;
+        this.failed = failed;
+        this.errors = errors;
+        this.durationMs = durationMs;
+        this.scenarioLatency = scenarioLatency;
+        this.stepLatencies = Collections.unmodifiableList(stepLatencies);
+        this.failureSamples = Collections.unmodifiableList(failureSamples);
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public long getStarted() {
+        return started;
+    }
+
+    /**
+     * Scenarios whose every step met its expectations
+     */
+    public long getPassed() {
+        return passed;
+    }
+
+    /**
+     * Scenarios stopped by a failed step assertion
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Scenarios stopped by a request error (non-2xx, connection failure, rejection)
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public double getScenariosPerSecond() {
+        return durationMs == 0 ? 0.0 : (passed + failed + errors) * 1000.0 / durationMs;
+    }
+
+    public double getPassRate() {
+        return started == 0 ? 0.0 : passed * 100.0 / started;
+    }
+
+    public LatencyReport getScenarioLatency() {
+        return scenarioLatency;
+    }
+
+    /**
+     * One report per step, in scenario order
+     */
+    public List<LatencyReport> getStepLatencies() {
+        return stepLatencies;
+    }
+
+    public LatencyReport getStepLatency(int step) {
+        return stepLatencies.get(step);
+    }
+
+    /**
+     * The first few failure and error messages, for diagnostics
+     */
+    public List<String> getFailureSamples() {
+        return failureSamples;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Scenario '%s': %d started, %d passed, %d failed, %d errors in %d ms (%.1f/s)%n",
+                scenarioName, started, passed, failed, errors, durationMs, getScenariosPerSecond()));
+        sb.append("  ").append(scenarioLatency);
+        for (LatencyReport step : stepLatencies) {
+            sb.append(System.lineSeparator()).append("  ").append(step);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.voiceai.models;
+
+import com.voiceai.utils.PhraseMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Scenario Step Model - one user turn of a scenario and what its response must satisfy
+ */
+public class ScenarioStep {
+    private String utterance;
+    private String expectedIntent;
+    private List<String> keywords = new ArrayList<>();
+    private ThinkTime thinkTime = ThinkTime.none();
+    private String assertionDescription;
+    private Predicate<VoiceResponse> assertion;
+
+    public ScenarioStep(String utterance) {
+        this.utterance = utterance;
+    }
+
+    // Getters
+    public String getUtterance() {
+        return utterance;
+    }
+
+    public String getExpectedIntent() {
+        return expectedIntent;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Pause before this turn is sent
+     */
+    public ThinkTime getThinkTime() {
+        return thinkTime;
+    }
+
+    public String getAssertionDescription() {
+        return assertionDescription;
+    }
+
+    public Predicate<VoiceResponse> getAssertion() {
+        return assertion;
+    }
+
+    /**
+     * Check a response against this step; returns null when it passes, else the reason
+     */
+    public String check(VoiceResponse response) {
+        if (expectedIntent != null && !expectedIntent.equals(response.getIntent())) {
+            return "expected intent " + expectedIntent + " but got " + response.getIntent();
+        }
+        List<String> missing = PhraseMatcher.of(keywords).missing(response.getResponseText());
+        if (!missing.isEmpty()) {
+            return "response does not mention '" + String.join("', '", missing) + "'";
+        }
+        if (assertion != null && !assertion.test(response)) {
+            return "assertion failed: " + assertionDescription;
+        }
+        return null;
+    }
+
+    // Fluent setters
+    public ScenarioStep withExpectedIntent(String expectedIntent) {
+        this.expectedIntent = expectedIntent;
+        return this;
+    }
+
+    public ScenarioStep withKeywords(String... keywords) {
+        this.keywords = new ArrayList<>(Arrays.asList(keywords));
+        return this;
+    }
+
+    public ScenarioStep withThinkTime(ThinkTime thinkTime) {
+        this.thinkTime = thinkTime;
+        return this;
+    }
+
+    public ScenarioStep withAssertion(String description, Predicate<VoiceResponse> assertion) {
+        this.assertionDescription = description;
+        this.assertion = assertion;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ScenarioStep{" +
+                "utterance='" + utterance + '\'' +
+                ", expectedIntent='" + expectedIntent + '\'' +
+                ", keywords=" + keywords +
+                ", thinkTime=" + thinkTime +
+                '}';
+    }
+}
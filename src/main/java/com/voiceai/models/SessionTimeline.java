@@ -0,0 +1,112 @@
+package com.voiceai.models;
+
+import com.voiceai.models.TimelineEvent.Stage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Session Timeline Model - client calls and server log events of one session in time order
+ */
+public class SessionTimeline {
+    private final String sessionId;
+    private final List<TimelineEvent> events;
+
+    public SessionTimeline(String sessionId, List<TimelineEvent> events) {
+        this.sessionId = sessionId;
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public List<TimelineEvent> getEvents() {
+        return events;
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * First event of a stage, or null
+     */
+    public TimelineEvent first(Stage stage) {
+        for (TimelineEvent event : events) {
+            if (event.getStage() == stage) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Last event of a stage, or null
+     */
+    public TimelineEvent last(Stage stage) {
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (events.get(i).getStage() == stage) {
+                return events.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Time from the first event of one stage to the first event of another that
+     * follows it, or -1 when either is missing or untimed
+     */
+    public long gapMs(Stage from, Stage to) {
+        TimelineEvent start = first(from);
+        if (start == null || start.getEpochMs() < 0) {
+            return -1;
+        }
+        for (TimelineEvent event : events.subList(events.indexOf(start), events.size())) {
+            if (event.getStage() == to && event.getEpochMs() >= 0) {
+                return event.getEpochMs() - start.getEpochMs();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * First to last timed event
+     */
+    public long getSpanMs() {
+        long first = -1;
+        long last = -1;
+        for (TimelineEvent event : events) {
+            if (event.getEpochMs() < 0) {
+                continue;
+            }
+            if (first < 0) {
+                first = event.getEpochMs();
+            }
+            last = event.getEpochMs();
+        }
+        return first < 0 ? -1 : last - first;
+    }
+
+    public boolean hasErrors() {
+        return first(Stage.ERROR) != null;
+    }
+
+    /**
+     * One line per event with its offset from the first timed event
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("SessionTimeline{" + sessionId + ", " + events.size() + " events}");
+        long origin = -1;
+        for (TimelineEvent event : events) {
+            if (origin < 0 && event.getEpochMs() >= 0) {
+                origin = event.getEpochMs();
+            }
+            String offset = event.getEpochMs() < 0 ? "?" : "+" + (event.getEpochMs() - origin) + "ms";
+            text.append(String.format("%n  %8s %-14s %s", offset, event.getStage(), event.getDetail()));
+        }
+        return text.toString();
+    }
+}
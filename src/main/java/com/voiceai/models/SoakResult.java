@@ -0,0 +1,87 @@
+package com.voiceai.models;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Soak Result Model - totals, whole-run latency and drift findings of a soak run
+ */
+public class SoakResult {
+    private final long durationMs;
+    private final long intervals;
+    private final Map<String, Long> requests;
+    private final Map<String, Long> errors;
+    private final Map<String, LatencyReport> latency;
+    private final List<String> driftFindings;
+    private final Path timeSeriesFile;
+
+    public SoakResult(long durationMs, long intervals, Map<String, Long> requests, Map<String, Long> errors,
+            Map<String, LatencyReport> latency, List<String> driftFindings, Path timeSeriesFile) {
+        this.durationMs = durationMs;
+        this.intervals = intervals;
+        this.requests = Collections.unmodifiableMap(requests);
+        this.errors = Collections.unmodifiableMap(errors);
+        this.latency = Collections.unmodifiableMap(latency);
+        this.driftFindings = Collections.unmodifiableList(driftFindings);
+        this.timeSeriesFile = timeSeriesFile;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Number of intervals written to the time-series file
+     */
+    public long getIntervals() {
+        return intervals;
+    }
+
+    public long getRequests(String endpoint) {
+        return requests.getOrDefault(endpoint, 0L);
+    }
+
+    public long getErrors(String endpoint) {
+        return errors.getOrDefault(endpoint, 0L);
+    }
+
+    public Map<String, Long> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Latency over the whole run, per endpoint
+     */
+    public LatencyReport getLatency(String endpoint) {
+        return latency.get(endpoint);
+    }
+
+    /**
+     * Latency creep and error-rate growth detected during the run, in the order found
+     */
+    public List<String> getDriftFindings() {
+        return driftFindings;
+    }
+
+    public boolean isDrifting() {
+        return !driftFindings.isEmpty();
+    }
+
+    public Path getTimeSeriesFile() {
+        return timeSeriesFile;
+    }
+
+    @Override
+    public String toString() {
+        return "SoakResult{" +
+                "durationMs=" + durationMs +
+                ", intervals=" + intervals +
+                ", requests=" + requests +
+                ", errors=" + errors +
+                ", driftFindings=" + driftFindings +
+                ", timeSeriesFile=" + timeSeriesFile +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package com.voiceai.models;
+
+import java.util.Locale;
+
+/**
+ * Soak Snapshot Model - throughput, errors and latency of one endpoint over one interval
+ */
+public class SoakSnapshot {
+    public static final String CSV_HEADER =
+            "epoch_ms,elapsed_s,endpoint,count,errors,throughput_per_s,error_rate_pct,p50_ms,p90_ms,p99_ms,max_ms";
+
+    private final long epochMs;
+    private final long elapsedSeconds;
+    private final String endpoint;
+    private final long count;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double maxMs;
+
+    public SoakSnapshot(long epochMs, long elapsedSeconds, String endpoint, long count, long errors,
+            double throughputPerSecond, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+        this.epochMs = epochMs;
+        this.elapsedSeconds = elapsedSeconds;
+        this.endpoint = endpoint;
+        this.count = count;
+        this.errors = errors;
+        this.throughputPerSecond = throughputPerSecond;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+    }
+
+    public long getEpochMs() {
+        return epochMs;
+    }
+
+    public long getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public double getErrorRatePct() {
+        return count == 0 ? 0.0 : errors * 100.0 / count;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    /**
+     * One line of the time-series file, matching CSV_HEADER
+     */
+    public String toCsvLine() {
+        return String.format(Locale.ROOT, "%d,%d,%s,%d,%d,%.2f,%.3f,%.2f,%.2f,%.2f,%.2f",
+                epochMs, elapsedSeconds, endpoint, count, errors, throughputPerSecond,
+                getErrorRatePct(), p50Ms, p90Ms, p99Ms, maxMs);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s@%ds{%.1f/s, errors=%.2f%%, p50=%.1fms, p99=%.1fms}",
+                endpoint, elapsedSeconds, throughputPerSecond, getErrorRatePct(), p50Ms, p99Ms);
+    }
+}
@@ -0,0 +1,88 @@
+package com.voiceai.models;
+
+import java.util.Random;
+
+/**
+ * Think Time Model - pause a simulated user takes before a turn
+ *
+ * NONE sends immediately, CONSTANT always waits meanMs, UNIFORM waits between
+ * minMs and maxMs, EXPONENTIAL waits a random time with mean meanMs capped at
+ * maxMs (a common model for human pauses between utterances).
+ */
+public class ThinkTime {
+
+    public enum Distribution {
+        NONE,
+        CONSTANT,
+        UNIFORM,
+        EXPONENTIAL
+    }
+
+    private static final ThinkTime NO_THINK_TIME = new ThinkTime(Distribution.NONE, 0, 0, 0);
+
+    private final Distribution distribution;
+    private final long minMs;
+    private final long meanMs;
+    private final long maxMs;
+
+    private ThinkTime(Distribution distribution, long minMs, long meanMs, long maxMs) {
+        this.distribution = distribution;
+        this.minMs = minMs;
+        this.meanMs = meanMs;
+        this.maxMs = maxMs;
+    }
+
+    public static ThinkTime none() {
+        return NO_THINK_TIME;
+    }
+
+    public static ThinkTime constant(long ms) {
+        return new ThinkTime(Distribution.CONSTANT, ms, ms, ms);
+    }
+
+    public static ThinkTime uniform(long minMs, long maxMs) {
+        return new ThinkTime(Distribution.UNIFORM, minMs, (minMs + maxMs) / 2, maxMs);
+    }
+
+    public static ThinkTime exponential(long meanMs, long maxMs) {
+        return new ThinkTime(Distribution.EXPONENTIAL, 0, meanMs, maxMs);
+    }
+
+    /**
+     * Draw one pause in milliseconds
+     */
+    public long sampleMs(Random random) {
+        switch (distribution) {
+            case CONSTANT:
+                return meanMs;
+            case UNIFORM:
+                return maxMs <= minMs ? minMs : minMs + (long) (random.nextDouble() * (maxMs - minMs + 1));
+            case EXPONENTIAL:
+                double sample = -meanMs * Math.log(1.0 - random.nextDouble());
+                return Math.min(maxMs, Math.round(sample));
+            default:
+                return 0;
+        }
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    public long getMinMs() {
+        return minMs;
+    }
+
+    public long getMeanMs() {
+        return meanMs;
+    }
+
+    public long getMaxMs() {
+        return maxMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ThinkTime{" + distribution + ", min=" + minMs + "ms, mean=" + meanMs + "ms, max=" + maxMs + "ms}";
+    }
+}
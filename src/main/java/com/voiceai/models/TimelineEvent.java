@@ -0,0 +1,62 @@
+package com.voiceai.models;
+
+/**
+ * Timeline Event Model - one timestamped step of a session, from the client or the server log
+ */
+public class TimelineEvent {
+
+    /**
+     * CLIENT_* events come from APIClient calls, the rest from application log lines
+     */
+    public enum Stage {
+        CLIENT_SEND,
+        REQUEST_IN,
+        MODEL_CALL,
+        DB_WRITE,
+        RESPONSE_OUT,
+        CLIENT_RECEIVE,
+        ERROR,
+        OTHER
+    }
+
+    private final long epochMs;
+    private final Stage stage;
+    private final String detail;
+
+    public TimelineEvent(long epochMs, Stage stage, String detail) {
+        this.epochMs = epochMs;
+        this.stage = stage;
+        this.detail = detail;
+    }
+
+    /**
+     * Wall-clock time, or -1 when a log line carried no parseable timestamp
+     */
+    public long getEpochMs() {
+        return epochMs;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Log line for server events, endpoint and status for client events
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    public boolean isClient() {
+        return stage == Stage.CLIENT_SEND || stage == Stage.CLIENT_RECEIVE;
+    }
+
+    @Override
+    public String toString() {
+        return "TimelineEvent{" +
+                "epochMs=" + epochMs +
+                ", stage=" + stage +
+                ", detail='" + detail + '\'' +
+                '}';
+    }
+}
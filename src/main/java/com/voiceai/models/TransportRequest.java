@@ -0,0 +1,94 @@
+package com.voiceai.models;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transport Request Model - immutable description of one HTTP exchange
+ *
+ * Unlike the other models this one is immutable: with* methods return a copy,
+ * so a request can be shared between threads and reused as a template.
+ */
+public final class TransportRequest {
+    private final String method;
+    private final String path;
+    private final Map<String, String> queryParams;
+    private final byte[] body;
+    private final long timeoutMs;
+
+    private TransportRequest(String method, String path, Map<String, String> queryParams, byte[] body,
+            long timeoutMs) {
+        this.method = method;
+        this.path = path;
+        this.queryParams = queryParams;
+        this.body = body;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public static TransportRequest get(String path) {
+        return new TransportRequest("GET", path, Collections.emptyMap(), null, 0);
+    }
+
+    public static TransportRequest post(String path, byte[] body) {
+        return new TransportRequest("POST", path, Collections.emptyMap(), body, 0);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    /**
+     * Request body, or null for requests without one
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Time allowed for the response of one attempt, or 0 for the transport's default
+     */
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * Whether sending the request twice has the same effect as sending it once
+     */
+    public boolean isIdempotent() {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    public TransportRequest withQueryParam(String name, String value) {
+        Map<String, String> params = new LinkedHashMap<>(queryParams);
+        params.put(name, value);
+        return new TransportRequest(method, path, Collections.unmodifiableMap(params), body, timeoutMs);
+    }
+
+    public TransportRequest withBody(byte[] body) {
+        return new TransportRequest(method, path, queryParams, body, timeoutMs);
+    }
+
+    public TransportRequest withTimeoutMs(long timeoutMs) {
+        return new TransportRequest(method, path, queryParams, body, Math.max(0, timeoutMs));
+    }
+
+    @Override
+    public String toString() {
+        return "TransportRequest{" +
+                "method='" + method + '\'' +
+                ", path='" + path + '\'' +
+                ", queryParams=" + queryParams +
+                ", bodyBytes=" + (body == null ? 0 : body.length) +
+                ", timeoutMs=" + timeoutMs +
+                '}';
+    }
+}
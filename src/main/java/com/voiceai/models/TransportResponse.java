@@ -0,0 +1,70 @@
+package com.voiceai.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Transport Response Model - status, headers and raw body of one HTTP exchange
+ */
+public class TransportResponse {
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final long elapsedNanos;
+
+    public TransportResponse(int statusCode, Map<String, List<String>> headers, byte[] body, long elapsedNanos) {
+        Map<String, List<String>> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.putAll(headers);
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(caseInsensitive);
+        this.body = body == null ? new byte[0] : body;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * First value of a header (case-insensitive), or null when absent
+     */
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Wall time of the exchange as measured by the transport
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "TransportResponse{" +
+                "statusCode=" + statusCode +
+                ", bodyBytes=" + body.length +
+                ", elapsedMs=" + String.format("%.2f", elapsedNanos / 1_000_000.0) +
+                '}';
+    }
+}
@@ -1,38 +1,102 @@
 package com.voiceai.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.voiceai.config.TestConfig;
+import com.voiceai.models.LatencyReport;
 import com.voiceai.models.LatencyResult;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
 import com.voiceai.models.VoiceRequest;
 import com.voiceai.models.VoiceResponse;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.Matchers.*;
 
 /**
  * API Client utility for Voice AI API interactions
+ *
+ * The Response-returning methods use REST Assured for its fluent assertions.
+ * The TransportResponse-returning methods (postChat, postSession, getHistory)
+ * go through a pooled VoiceTransport and are meant for load paths. Neither
+ * touches REST Assured's global static configuration, so one client can be
+ * shared across threads.
+ *
+ * No call can hang: REST Assured calls use the connect and read timeouts from
+ * config.properties, and the transport is wrapped in a ResilientTransport
+ * that adds per-endpoint timeouts, retries and hedging.
  */
-public class APIClient {
+public class APIClient implements AutoCloseable {
 
     private static final Logger logger = LogManager.getLogger(APIClient.class);
+
+    /**
+     * Told about every chat call with its wall-clock send and receive times;
+     * LogCorrelator::recordCall in practice
+     */
+    @FunctionalInterface
+    public interface CallObserver {
+        void onCall(String sessionId, String endpoint, long sentEpochMs, long receivedEpochMs, int status);
+    }
+
     private final TestConfig config;
     private final String baseUrl;
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter requestWriter;
+    private final RequestSpecification requestSpec;
+    private final VoiceTransport transport;
+    private final LatencyRecorder chatLatency = new LatencyRecorder("chat");
+    private final LatencyDecomposition latencyDecomposition = new LatencyDecomposition();
+    private volatile CallObserver callObserver;
 
     public APIClient() {
+        this(null);
+    }
+
+    /**
+     * Create a client on the given transport, or on the one selected by
+     * api.transport when transport is null
+     */
+    public APIClient(VoiceTransport transport) {
         this.config = TestConfig.getInstance();
         this.baseUrl = config.getBaseUrl();
-        this.objectMapper = new ObjectMapper();
+        this.requestWriter = ResponseDecoder.mapper().writerFor(VoiceRequest.class);
+        this.requestSpec = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addHeader("Authorization", "Bearer " + config.getAuthToken())
+                .setConfig(RestAssuredConfig.config()
+                        .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
+                        .httpClient(HttpClientConfig.httpClientConfig()
+                                .setParam("http.connection.timeout", (int) config.getTransportConnectTimeoutMs())
+                                .setParam("http.socket.timeout", (int) config.getTransportReadTimeoutMs())))
+                .build();
+        VoiceTransport base = transport != null ? transport : createTransport();
+        this.transport = base instanceof ResilientTransport ? base : new ResilientTransport(base, config);
+        logger.info("APIClient initialized with base URL: {} ({})",
+                baseUrl, this.transport.getClass().getSimpleName());
+    }
 
-        RestAssured.baseURI = baseUrl;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
-        logger.info("APIClient initialized with base URL: {}", baseUrl);
+    private VoiceTransport createTransport() {
+        if ("restassured".equalsIgnoreCase(config.getTransportType())) {
+            return new RestAssuredTransport(requestSpec);
+        }
+        return new HttpClientTransport(config);
     }
 
     /**
@@ -51,11 +115,8 @@ public class APIClient {
     /**
      * Get a base request specification with common headers
      */
-    private RequestSpecification getBaseRequest() {
-        return RestAssured.given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .header("Authorization", "Bearer " + config.getAuthToken());
+    public RequestSpecification getBaseRequest() {
+        return RestAssured.given().spec(requestSpec);
     }
 
     /**
@@ -64,20 +125,24 @@ public class APIClient {
     public Response sendVoiceQuery(String userInput, String sessionId) {
         VoiceRequest request = new VoiceRequest(sessionId, userInput);
 
-        long startTime = System.currentTimeMillis();
+        long sentEpochMs = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         Response response = getBaseRequest()
-                .body(request)
+                .body(serialize(request))
                 .when()
                 .post(config.getChatEndpoint())
                 .then()
                 .extract()
                 .response();
 
-        long latency = System.currentTimeMillis() - startTime;
-
-        // Store latency in response header for later validation
-        System.out.println("Request latency: " + latency + "ms");
+        long latencyNanos = System.nanoTime() - startTime;
+        chatLatency.recordNanos(latencyNanos);
+        notifyCall(sessionId, sentEpochMs, latencyNanos, response.getStatusCode());
+        if (response.getStatusCode() / 100 == 2) {
+            latencyDecomposition.record(latencyNanos, serverTimeMs(response.asByteArray()));
+        }
+        logger.debug("Chat request latency: {}µs", latencyNanos / 1000);
 
         return response;
     }
@@ -89,7 +154,7 @@ public class APIClient {
         VoiceRequest request = new VoiceRequest(sessionId, userInput);
 
         return getBaseRequest()
-                .body(request)
+                .body(serialize(request))
                 .when()
                 .post(config.getChatEndpoint())
                 .then()
@@ -120,54 +185,105 @@ public class APIClient {
      * Validate response structure
      */
     public boolean validateResponseStructure(Response response) {
-        try {
-            response.then()
-                    .body("response_text", notNullValue())
-                    .body("intent", notNullValue())
-                    .body("confidence", notNullValue())
-                    .body("session_id", notNullValue());
-            return true;
-        } catch (AssertionError e) {
-            return false;
-        }
+        return validateResponseStructure(ResponseDecoder.readTree(response.asByteArray()));
+    }
+
+    /**
+     * Validate structure of an already parsed body
+     */
+    public boolean validateResponseStructure(JsonNode body) {
+        return hasValue(body, "response_text")
+                && hasValue(body, "intent")
+                && hasValue(body, "confidence")
+                && hasValue(body, "session_id");
+    }
+
+    /**
+     * Validate structure of an already decoded response. Confidence is a
+     * primitive on VoiceResponse, so only the string fields can be checked here.
+     */
+    public boolean validateResponseStructure(VoiceResponse voiceResponse) {
+        return voiceResponse.getResponseText() != null
+                && voiceResponse.getIntent() != null
+                && voiceResponse.getSessionId() != null;
+    }
+
+    private static boolean hasValue(JsonNode body, String field) {
+        JsonNode value = body.get(field);
+        return value != null && !value.isNull();
     }
 
     /**
      * Extract response as VoiceResponse object
      */
     public VoiceResponse getVoiceResponse(Response response) {
-        return response.as(VoiceResponse.class);
+        return ResponseDecoder.decode(response);
+    }
+
+    /**
+     * Extract session_id from a session creation response
+     */
+    public String extractSessionId(Response response) {
+        return ResponseDecoder.sessionId(response.asByteArray());
     }
 
     /**
      * Validate intent matches expected
      */
     public void validateIntent(Response response, String expectedIntent) {
-        response.then()
-                .body("intent", equalTo(expectedIntent));
+        validateIntent(getVoiceResponse(response), expectedIntent);
+    }
+
+    public void validateIntent(VoiceResponse voiceResponse, String expectedIntent) {
+        if (!Objects.equals(voiceResponse.getIntent(), expectedIntent)) {
+            throw new AssertionError("Expected intent <" + expectedIntent + "> but was <" +
+                    voiceResponse.getIntent() + ">");
+        }
     }
 
     /**
      * Validate confidence is above threshold
      */
     public void validateConfidence(Response response, double minConfidence) {
-        response.then()
-                .body("confidence", greaterThanOrEqualTo((float) minConfidence));
+        validateConfidence(getVoiceResponse(response), minConfidence);
+    }
+
+    public void validateConfidence(VoiceResponse voiceResponse, double minConfidence) {
+        if (voiceResponse.getConfidence() < minConfidence) {
+            throw new AssertionError("Confidence " + voiceResponse.getConfidence() +
+                    " is below " + minConfidence);
+        }
     }
 
     /**
-     * Validate response contains keywords
+     * Validate response contains keywords (whole words, case-insensitive), found in one PhraseMatcher pass
      */
     public void validateKeywords(Response response, String... keywords) {
-        String responseText = response.jsonPath().getString("response_text").toLowerCase();
+        validateKeywords(getVoiceResponse(response), keywords);
+    }
 
-        for (String keyword : keywords) {
-            if (!responseText.contains(keyword.toLowerCase())) {
-                throw new AssertionError("Response doesn't contain keyword: " + keyword);
-            }
+    public void validateKeywords(VoiceResponse voiceResponse, String... keywords) {
+        List<String> missing = PhraseMatcher.of(keywords).missing(voiceResponse.getResponseText());
+        if (!missing.isEmpty()) {
+            throw new AssertionError("Response doesn't contain keyword: " + String.join(", ", missing));
         }
     }
 
+    /**
+     * Latencies of every sendVoiceQuery call made through this client
+     */
+    public LatencyRecorder getChatLatencyRecorder() {
+        return chatLatency;
+    }
+
+    /**
+     * Client vs server vs DB latency of the chat calls made through this client.
+     * Feed DB-recorded times with recordDb() once rows have been read back.
+     */
+    public LatencyDecomposition getLatencyDecomposition() {
+        return latencyDecomposition;
+    }
+
     /**
      * Check latency is within threshold
      */
@@ -178,24 +294,132 @@ public class APIClient {
                 latencyMs <= config.getMaximumLatency());
     }
 
+    /**
+     * Check latency percentiles against the latency.p50 / p99 / p999 thresholds
+     */
+    public LatencyResult checkLatency(LatencyReport report) {
+        return new LatencyResult(
+                report,
+                report.getP50Ms() <= config.getP50LatencyThreshold(),
+                report.getP99Ms() <= config.getP99LatencyThreshold(),
+                report.getP999Ms() <= config.getP999LatencyThreshold());
+    }
+
+    // ==================== TRANSPORT (LOAD PATH) ====================
+
+    /**
+     * Send a chat turn through the pooled transport without assertions
+     */
+    public TransportResponse postChat(String userInput, String sessionId) {
+        VoiceRequest request = new VoiceRequest(sessionId, userInput);
+        long sentEpochMs = System.currentTimeMillis();
+        TransportResponse response = transport.send(
+                TransportRequest.post(config.getChatEndpoint(), serialize(request)));
+        chatLatency.recordNanos(response.getElapsedNanos());
+        notifyCall(sessionId, sentEpochMs, response.getElapsedNanos(), response.getStatusCode());
+        if (response.isSuccess()) {
+            latencyDecomposition.record(response.getElapsedNanos(), serverTimeMs(response.getBody()));
+        }
+        return response;
+    }
+
+    /**
+     * Server-reported time of a response, or -1 when the body is not JSON
+     * (e.g. a proxy's HTML page), so the side metric never fails the call
+     */
+    private static long serverTimeMs(byte[] body) {
+        try {
+            return ResponseDecoder.responseTimeMs(body);
+        } catch (UncheckedIOException e) {
+            logger.debug("No server time in non-JSON response: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Create a session through the pooled transport without assertions
+     */
+    public TransportResponse postSession() {
+        return transport.send(TransportRequest.post(config.getSessionEndpoint(), null));
+    }
+
+    /**
+     * Fetch conversation history through the pooled transport without assertions
+     */
+    public TransportResponse getHistory(String sessionId) {
+        return transport.send(TransportRequest.get(config.getHistoryEndpoint())
+                .withQueryParam("session_id", sessionId));
+    }
+
+    /**
+     * Observer of chat calls made through this client, or null to stop observing
+     */
+    public void setCallObserver(CallObserver observer) {
+        this.callObserver = observer;
+    }
+
+    private void notifyCall(String sessionId, long sentEpochMs, long elapsedNanos, int status) {
+        CallObserver observer = callObserver;
+        if (observer != null) {
+            observer.onCall(sessionId, config.getChatEndpoint(), sentEpochMs,
+                    sentEpochMs + TimeUnit.NANOSECONDS.toMillis(elapsedNanos), status);
+        }
+    }
+
+    public VoiceTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Retry, hedge and timeout statistics of the transport calls made through this client
+     */
+    public ResilientTransport getResilience() {
+        return (ResilientTransport) transport;
+    }
+
+    private byte[] serialize(VoiceRequest request) {
+        try {
+            return requestWriter.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + request, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        transport.close();
+    }
+
     // ==================== JSON SCHEMA VALIDATION ====================
 
     /**
      * Validate response against Voice Response JSON schema
      */
     public void validateVoiceResponseSchema(Response response) {
-        response.then()
-                .body(matchesJsonSchemaInClasspath("schemas/voice-response-schema.json"));
-        logger.info("Voice response schema validation passed");
+        validateVoiceResponseSchema(ResponseDecoder.readTree(response.asByteArray()));
+    }
+
+    /**
+     * Validate an already-parsed voice response against the compiled schema
+     */
+    public void validateVoiceResponseSchema(JsonNode tree) {
+        SchemaRegistry.assertValid(SchemaRegistry.VOICE_RESPONSE, tree);
+        logger.debug("Voice response schema validation passed");
     }
 
     /**
      * Validate session response against Session Response JSON schema
      */
     public void validateSessionResponseSchema(Response response) {
-        response.then()
-                .body(matchesJsonSchemaInClasspath("schemas/session-response-schema.json"));
-        logger.info("Session response schema validation passed");
+        validateSessionResponseSchema(ResponseDecoder.readTree(response.asByteArray()));
+    }
+
+    /**
+     * Validate an already-parsed session response against the compiled schema
+     */
+    public void validateSessionResponseSchema(JsonNode tree) {
+        SchemaRegistry.assertValid(SchemaRegistry.SESSION_RESPONSE, tree);
+        logger.debug("Session response schema validation passed");
     }
 
     /**
@@ -205,14 +429,14 @@ public class APIClient {
         VoiceRequest request = new VoiceRequest(sessionId, userInput);
 
         Response response = getBaseRequest()
-                .body(request)
+                .body(serialize(request))
                 .when()
                 .post(config.getChatEndpoint())
                 .then()
                 .statusCode(200)
-                .body(matchesJsonSchemaInClasspath("schemas/voice-response-schema.json"))
                 .extract()
                 .response();
+        validateVoiceResponseSchema(response);
 
         logger.info("Voice query with schema validation completed successfully");
         return response;
@@ -227,9 +451,9 @@ public class APIClient {
                 .post(config.getSessionEndpoint())
                 .then()
                 .statusCode(200)
-                .body(matchesJsonSchemaInClasspath("schemas/session-response-schema.json"))
                 .extract()
                 .response();
+        validateSessionResponseSchema(response);
 
         logger.info("Session created with schema validation");
         return response;
@@ -0,0 +1,117 @@
+package com.voiceai.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD Controller - finds the highest request rate the backend sustains
+ *
+ * Responses are counted in fixed windows. After a window without throttling
+ * (429) the limiter's rate grows by a fixed step (additive increase); after a
+ * window with any throttling it is multiplied by the decrease factor
+ * (multiplicative decrease). The rate therefore climbs until the backend
+ * pushes back and then saw-tooths just below its limit.
+ *
+ * The saturation rate is the best successful throughput measured in a clean
+ * window once throttling has been seen at least once; until then the limit
+ * has not been reached and the saturation rate is reported as -1.
+ */
+public class AimdController {
+
+    private static final Logger logger = LogManager.getLogger(AimdController.class);
+
+    private final RateLimiter limiter;
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final long windowNanos;
+
+    private final LongAdder windowSucceeded = new LongAdder();
+    private final LongAdder windowThrottled = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    private volatile boolean throttlingSeen;
+    private volatile double saturationRate = -1;
+    private volatile double bestCleanThroughput;
+    private volatile long decreases;
+
+    public AimdController(RateLimiter limiter, double minRate, double maxRate,
+            double increaseStep, double decreaseFactor, long windowMs) {
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("Decrease factor must be between 0 and 1: " + decreaseFactor);
+        }
+        this.limiter = limiter;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, windowMs));
+    }
+
+    /**
+     * Count one response; closes the current window when it has run its length
+     */
+    public void onResponse(int statusCode) {
+        if (statusCode == 429) {
+            windowThrottled.increment();
+        } else if (statusCode >= 200 && statusCode < 300) {
+            windowSucceeded.increment();
+        }
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            adjust(now - start);
+        }
+    }
+
+    /**
+     * Only the thread that won the window CAS gets here, so adjustments never overlap
+     */
+    private void adjust(long elapsedNanos) {
+        long succeeded = windowSucceeded.sumThenReset();
+        long throttled = windowThrottled.sumThenReset();
+        double rate = limiter.getRate();
+        double throughput = succeeded * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+
+        if (throttled > 0) {
+            throttlingSeen = true;
+            decreases++;
+            saturationRate = bestCleanThroughput > 0 ? bestCleanThroughput : throughput;
+            double next = Math.max(minRate, rate * decreaseFactor);
+            limiter.setRate(next);
+            logger.debug("AIMD: {} throttled at {}/s, rate -> {}/s", throttled, rate, next);
+        } else {
+            if (succeeded > 0) {
+                bestCleanThroughput = Math.max(bestCleanThroughput, throughput);
+                if (throttlingSeen) {
+                    saturationRate = bestCleanThroughput;
+                }
+            }
+            limiter.setRate(Math.min(maxRate, rate + increaseStep));
+        }
+    }
+
+    public double getCurrentRate() {
+        return limiter.getRate();
+    }
+
+    /**
+     * Highest sustained 2xx throughput (req/s), or -1 when the backend never throttled
+     */
+    public double getSaturationRate() {
+        return throttlingSeen ? saturationRate : -1;
+    }
+
+    public boolean isSaturated() {
+        return throttlingSeen;
+    }
+
+    public long getDecreases() {
+        return decreases;
+    }
+}
@@ -0,0 +1,28 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.TransportResponse;
+
+/**
+ * Thrown (or used to fail a future) when the API answers with a non-2xx status
+ */
+public class ApiStatusException extends RuntimeException {
+
+    private final transient TransportResponse response;
+
+    public ApiStatusException(String operation, TransportResponse response) {
+        super(operation + " failed with HTTP " + response.getStatusCode() + ": " + abbreviate(response.getBodyAsString()));
+        this.response = response;
+    }
+
+    public TransportResponse getResponse() {
+        return response;
+    }
+
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    private static String abbreviate(String body) {
+        return body.length() <= 200 ? body : body.substring(0, 200) + "...";
+    }
+}
@@ -0,0 +1,238 @@
+package com.voiceai.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.models.VoiceRequest;
+import com.voiceai.models.VoiceResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Async API Client - non-blocking counterpart of APIClient
+ *
+ * Every call returns a CompletableFuture and holds no thread while the request
+ * is on the wire. At most async.max.in.flight requests are sent at once;
+ * further calls wait in a queue of up to async.max.pending entries and are
+ * started in arrival order as earlier requests complete. Calls beyond that fail immediately
+ * with RejectedExecutionException so producers can slow down.
+ */
+public class AsyncAPIClient {
+
+    private static final Logger logger = LogManager.getLogger(AsyncAPIClient.class);
+
+    private final VoiceTransport transport;
+    private final TestConfig config;
+    private final ObjectWriter requestWriter = ResponseDecoder.mapper().writerFor(VoiceRequest.class);
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final int maxPending;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    public AsyncAPIClient(APIClient apiClient) {
+        this(apiClient.getTransport(), TestConfig.getInstance());
+    }
+
+    public AsyncAPIClient(VoiceTransport transport, TestConfig config) {
+        this(transport, config, config.getAsyncMaxInFlight(), config.getAsyncMaxPending());
+    }
+
+    public AsyncAPIClient(VoiceTransport transport, TestConfig config, int maxInFlight, int maxPending) {
+        this.transport = transport;
+        this.config = config;
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.maxPending = maxPending;
+        logger.info("AsyncAPIClient initialized (max {} in flight, {} pending)", maxInFlight, maxPending);
+    }
+
+    /**
+     * Create a new session and complete with its session_id
+     */
+    public CompletableFuture<String> createSession() {
+        return submit(() -> transport.sendAsync(TransportRequest.post(config.getSessionEndpoint(), null)))
+                .thenApply(response -> {
+                    String sessionId = ResponseDecoder.sessionId(requireSuccess("createSession", response).getBody());
+                    if (sessionId == null || sessionId.isEmpty()) {
+                        throw new IllegalStateException("Session response has no session_id: "
+                                + response.getBodyAsString());
+                    }
+                    return sessionId;
+                });
+    }
+
+    /**
+     * Send one chat turn and complete with the decoded response
+     */
+    public CompletableFuture<VoiceResponse> sendVoiceQuery(String userInput, String sessionId) {
+        byte[] body = serialize(new VoiceRequest(sessionId, userInput));
+        return submit(() -> transport.sendAsync(TransportRequest.post(config.getChatEndpoint(), body)))
+                .thenApply(response -> ResponseDecoder.decode(requireSuccess("sendVoiceQuery", response)));
+    }
+
+    /**
+     * Fetch conversation history as a JSON tree
+     */
+    public CompletableFuture<JsonNode> getConversationHistory(String sessionId) {
+        TransportRequest request = TransportRequest.get(config.getHistoryEndpoint())
+                .withQueryParam("session_id", sessionId);
+        return submit(() -> transport.sendAsync(request))
+                .thenApply(response -> ResponseDecoder.readTree(requireSuccess("getConversationHistory", response).getBody()));
+    }
+
+    /**
+     * Create a session, send the turns in order, then fetch the history.
+     * Each step is chained on completion of the previous one, so a
+     * conversation occupies no thread between requests.
+     */
+    public CompletableFuture<ConversationResult> runConversation(List<String> turns) {
+        return createSession().thenCompose(sessionId -> {
+            List<VoiceResponse> responses = Collections.synchronizedList(new ArrayList<>());
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (String turn : turns) {
+                chain = chain.thenCompose(ignored -> sendVoiceQuery(turn, sessionId))
+                        .thenAccept(responses::add);
+            }
+            return chain.thenCompose(ignored -> getConversationHistory(sessionId))
+                    .thenApply(history -> new ConversationResult(sessionId, responses, history));
+        });
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int getPending() {
+        return pendingCount.get();
+    }
+
+    // ==================== BACKPRESSURE ====================
+
+    private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                release();
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((value, error) -> {
+                release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        // Queued callers go first; the fast path is only for an empty queue
+        if (pending.isEmpty() && permits.tryAcquire()) {
+            start.run();
+        } else if (pendingCount.incrementAndGet() <= maxPending) {
+            pending.add(start);
+            drainPending();
+        } else {
+            pendingCount.decrementAndGet();
+            result.completeExceptionally(new RejectedExecutionException(
+                    "AsyncAPIClient queue is full (" + maxPending + " pending)"));
+        }
+        return result;
+    }
+
+    private void release() {
+        permits.release();
+        drainPending();
+    }
+
+    /**
+     * Start queued calls while permits are free. A call that completes
+     * synchronously releases back into this method on the same stack; that
+     * nested call returns at once and the outer loop picks up the freed permit,
+     * so the stack stays flat however many queued calls fail immediately.
+     */
+    private void drainPending() {
+        if (draining.get()) {
+            return;
+        }
+        draining.set(Boolean.TRUE);
+        try {
+            while (!pending.isEmpty() && permits.tryAcquire()) {
+                Runnable next = pending.poll();
+                if (next == null) {
+                    // Another thread took the entry; re-check so a concurrent add is not stranded
+                    permits.release();
+                    continue;
+                }
+                pendingCount.decrementAndGet();
+                next.run();
+            }
+        } finally {
+            draining.set(Boolean.FALSE);
+        }
+    }
+
+    // ==================== JSON ====================
+
+    private TransportResponse requireSuccess(String operation, TransportResponse response) {
+        if (!response.isSuccess()) {
+            throw new ApiStatusException(operation, response);
+        }
+        return response;
+    }
+
+    private byte[] serialize(VoiceRequest request) {
+        try {
+            return requestWriter.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + request, e);
+        }
+    }
+
+    /**
+     * Inner class for a completed multi-turn conversation
+     */
+    public static class ConversationResult {
+        private final String sessionId;
+        private final List<VoiceResponse> responses;
+        private final JsonNode history;
+
+        public ConversationResult(String sessionId, List<VoiceResponse> responses, JsonNode history) {
+            this.sessionId = sessionId;
+            this.responses = responses;
+            this.history = history;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public List<VoiceResponse> getResponses() {
+            return responses;
+        }
+
+        public JsonNode getHistory() {
+            return history;
+        }
+    }
+}
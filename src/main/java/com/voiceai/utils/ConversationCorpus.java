@@ -0,0 +1,267 @@
+package com.voiceai.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.CorpusEntry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Conversation Corpus - streams utterances and expectations from JSONL or CSV
+ *
+ * Nothing is loaded up front: every stream(), dataProvider() or cursor()
+ * opens the source and parses one line at a time, so memory use does not
+ * depend on corpus size. The location is a classpath resource or a file
+ * path; the format comes from the extension.
+ *
+ * JSONL: one object per line with utterance, expected_intent, keywords[], category.
+ * CSV:   header row naming those columns; keywords separated by '|'.
+ * Blank lines and lines starting with '#' are skipped in both formats.
+ */
+public class ConversationCorpus {
+
+    private static final ObjectReader ENTRY_READER = ResponseDecoder.mapper().readerFor(CorpusEntry.class);
+
+    private final String location;
+    private final boolean csv;
+
+    public ConversationCorpus(String location) {
+        this.location = location;
+        this.csv = location.toLowerCase().endsWith(".csv");
+    }
+
+    /**
+     * Corpus named by corpus.path in config.properties
+     */
+    public static ConversationCorpus fromConfig() {
+        return new ConversationCorpus(TestConfig.getInstance().getCorpusPath());
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Lazily parsed entries. Close the stream (try-with-resources) to release the file.
+     */
+    public Stream<CorpusEntry> stream() {
+        BufferedReader reader = open(location);
+        try {
+            String[] columns = null;
+            if (csv) {
+                String header = reader.readLine();
+                while (header != null && isSkipped(header)) {
+                    header = reader.readLine();
+                }
+                if (header == null) {
+                    reader.close();
+                    return Stream.empty();
+                }
+                columns = parseCsvLine(header);
+            }
+            Stream<String> lines = reader.lines()
+                    .filter(line -> !isSkipped(line));
+            String[] csvColumns = columns;
+            Stream<CorpusEntry> entries = csv
+                    ? lines.map(line -> fromCsv(csvColumns, parseCsvLine(line)))
+                    : lines.map(ConversationCorpus::fromJson);
+            return entries.onClose(() -> closeQuietly(reader));
+        } catch (IOException e) {
+            closeQuietly(reader);
+            throw new UncheckedIOException("Cannot read corpus " + location, e);
+        }
+    }
+
+    private static boolean isSkipped(String line) {
+        return line.isBlank() || line.startsWith("#");
+    }
+
+    /**
+     * TestNG data provider rows of {CorpusEntry}, parsed as TestNG pulls them.
+     * The source is closed once the last row has been handed out.
+     */
+    public Iterator<Object[]> dataProvider() {
+        return dataProvider(Long.MAX_VALUE);
+    }
+
+    public Iterator<Object[]> dataProvider(long limit) {
+        Stream<CorpusEntry> entries = stream().limit(limit);
+        Iterator<CorpusEntry> it = entries.iterator();
+        return new Iterator<>() {
+            private boolean closed;
+
+            @Override
+            public synchronized boolean hasNext() {
+                if (closed) {
+                    return false;
+                }
+                if (!it.hasNext()) {
+                    entries.close();
+                    closed = true;
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public synchronized Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Object[]{it.next()};
+            }
+        };
+    }
+
+    /**
+     * Endless, thread-safe cursor over the corpus for load runs; wraps around at the end
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Cycles through the corpus, re-opening the source at the end
+     */
+    public class Cursor implements AutoCloseable {
+        private Stream<CorpusEntry> entries;
+        private Iterator<CorpusEntry> it;
+
+        private Cursor() {
+        }
+
+        public synchronized CorpusEntry next() {
+            if (it == null || !it.hasNext()) {
+                reopen();
+                if (!it.hasNext()) {
+                    throw new IllegalStateException("Corpus is empty: " + location);
+                }
+            }
+            return it.next();
+        }
+
+        private void reopen() {
+            if (entries != null) {
+                entries.close();
+            }
+            entries = stream();
+            it = entries.iterator();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (entries != null) {
+                entries.close();
+                entries = null;
+                it = null;
+            }
+        }
+    }
+
+    // ==================== PARSING ====================
+
+    /**
+     * Reader over a classpath resource or, failing that, a file
+     */
+    static BufferedReader open(String location) {
+        try {
+            InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(location);
+            if (in == null) {
+                Path path = Paths.get(location);
+                if (!Files.isRegularFile(path)) {
+                    throw new IllegalArgumentException("Corpus not found on classpath or disk: " + location);
+                }
+                in = Files.newInputStream(path);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open corpus " + location, e);
+        }
+    }
+
+    private static CorpusEntry fromJson(String line) {
+        try {
+            return ENTRY_READER.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Bad corpus line: " + line, e);
+        }
+    }
+
+    private static CorpusEntry fromCsv(String[] columns, String[] values) {
+        CorpusEntry entry = new CorpusEntry();
+        for (int i = 0; i < columns.length && i < values.length; i++) {
+            String value = values[i].isEmpty() ? null : values[i];
+            switch (columns[i].trim()) {
+                case "utterance":
+                    entry.withUtterance(values[i]);
+                    break;
+                case "expected_intent":
+                    entry.withExpectedIntent(value);
+                    break;
+                case "keywords":
+                    entry.withKeywords(value == null ? new ArrayList<>() : Arrays.asList(value.split("\\|")));
+                    break;
+                case "category":
+                    entry.withCategory(value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Split one CSV line, honouring double quotes and "" escapes (no embedded newlines)
+     */
+    private static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // Nothing useful to do with a failed close of a read-only source
+        }
+    }
+}
@@ -1,15 +1,34 @@
 package com.voiceai.utils;
 
 import com.voiceai.config.*;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Database Validator for Voice AI Testing
+ *
+ * All instances share one bounded HikariCP pool, so any number of test
+ * threads can verify persistence concurrently. Each query borrows a
+ * connection (validated on borrow) and returns it when done. The PostgreSQL
+ * driver keeps server-side prepared statements per pooled connection, so
+ * the repeated verification queries are parsed once per connection.
  */
 public class DBValidator {
 
-    private Connection connection;
-    private TestConfig config;
+    private static volatile HikariDataSource dataSource;
+    private static boolean shutdownHookRegistered;
+
+    private final TestConfig config;
 
     public DBValidator() {
         this.config = TestConfig.getInstance();
@@ -17,16 +36,11 @@ public class DBValidator {
     }
 
     /**
-     * Establish database connection
+     * Make sure the shared pool exists and can hand out a connection
      */
     public boolean connect() {
-        try {
-            Class.forName("org.postgresql.Driver");
-            connection = DriverManager.getConnection(
-                    config.getDbUrl(),
-                    config.getDbUsername(),
-                    config.getDbPassword());
-            return true;
+        try (Connection connection = getConnection()) {
+            return connection.isValid((int) Math.max(1, config.getDbPoolValidationTimeoutMs() / 1000));
         } catch (Exception e) {
             System.err.println("Database connection failed: " + e.getMessage());
             return false;
@@ -34,16 +48,67 @@ public class DBValidator {
     }
 
     /**
-     * Close database connection
+     * Release this validator. The pool is shared and stays open for other
+     * validators; it is closed by shutdownPool() or at JVM exit.
      */
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            System.err.println("Error closing connection: " + e.getMessage());
+        // Nothing held per instance
+    }
+
+    /**
+     * Close the shared pool and all of its connections
+     */
+    public static synchronized void shutdownPool() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    /**
+     * Connections currently borrowed from the pool, or 0 before first use
+     */
+    public static int getActiveConnections() {
+        HikariDataSource pool = dataSource;
+        return pool == null || pool.getHikariPoolMXBean() == null ? 0 : pool.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    private Connection getConnection() throws SQLException {
+        HikariDataSource pool = dataSource;
+        if (pool == null) {
+            pool = createPool(config);
+        }
+        return pool.getConnection();
+    }
+
+    private static synchronized HikariDataSource createPool(TestConfig config) {
+        if (dataSource != null) {
+            return dataSource;
+        }
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName("voiceai-db");
+        hikari.setDriverClassName("org.postgresql.Driver");
+        hikari.setJdbcUrl(config.getDbUrl());
+        hikari.setUsername(config.getDbUsername());
+        hikari.setPassword(config.getDbPassword());
+        hikari.setMaximumPoolSize(config.getDbPoolMaxSize());
+        hikari.setMinimumIdle(Math.min(config.getDbPoolMinIdle(), config.getDbPoolMaxSize()));
+        hikari.setConnectionTimeout(config.getDbPoolConnectionTimeoutMs());
+        hikari.setValidationTimeout(config.getDbPoolValidationTimeoutMs());
+        hikari.setReadOnly(true);
+        // Start even when the database is down; borrowing then fails per query
+        hikari.setInitializationFailTimeout(-1);
+        // Server-side prepared statements, cached per physical connection
+        hikari.addDataSourceProperty("prepareThreshold", "1");
+        hikari.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(config.getDbStatementCacheSize()));
+        hikari.addDataSourceProperty("preparedStatementCacheSizeMiB", "5");
+
+        dataSource = new HikariDataSource(hikari);
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(DBValidator::shutdownPool, "voiceai-db-shutdown"));
+            shutdownHookRegistered = true;
         }
+        return dataSource;
     }
 
     /**
@@ -54,7 +119,8 @@ public class DBValidator {
                 "WHERE session_id = ? AND user_input = ? " +
                 "ORDER BY created_at DESC LIMIT 1";
 
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, sessionId);
             stmt.setString(2, userInput);
 
@@ -88,7 +154,8 @@ public class DBValidator {
                 "WHERE session_id = ? " +
                 "ORDER BY created_at DESC LIMIT 1";
 
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, sessionId);
 
             ResultSet rs = stmt.executeQuery();
@@ -117,7 +184,8 @@ public class DBValidator {
                 "FROM conversations " +
                 "WHERE session_id = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, sessionId);
 
             ResultSet rs = stmt.executeQuery();
@@ -145,7 +213,8 @@ public class DBValidator {
                 "WHERE session_id = ? " +
                 "ORDER BY created_at DESC LIMIT 1";
 
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, sessionId);
 
             ResultSet rs = stmt.executeQuery();
@@ -168,7 +237,8 @@ public class DBValidator {
     public int getConversationCount(String sessionId) {
         String query = "SELECT COUNT(*) as count FROM conversations WHERE session_id = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, sessionId);
 
             ResultSet rs = stmt.executeQuery();
@@ -185,6 +255,181 @@ public class DBValidator {
         }
     }
 
+    // ==================== AGGREGATED METRICS ====================
+
+    private static final Set<String> METRIC_BUCKETS = Set.of("second", "minute", "hour", "day");
+
+    /**
+     * Server-side metrics over many sessions, optionally split into time buckets.
+     * Percentiles are computed in PostgreSQL with percentile_cont, so only one
+     * row per bucket crosses the wire however many conversations match.
+     *
+     * @param sessionIds sessions to include, or null for every session
+     * @param from       inclusive lower bound on created_at, or null
+     * @param to         exclusive upper bound on created_at, or null
+     * @param bucket     date_trunc unit (second, minute, hour, day), or null for one overall bucket
+     */
+    public List<MetricsBucket> getConversationMetrics(Collection<String> sessionIds, Timestamp from,
+            Timestamp to, String bucket) {
+        if (bucket != null && !METRIC_BUCKETS.contains(bucket)) {
+            throw new IllegalArgumentException("Unsupported bucket '" + bucket + "', expected one of " + METRIC_BUCKETS);
+        }
+        String query = "SELECT " +
+                (bucket == null ? "NULL::timestamp" : "date_trunc('" + bucket + "', created_at)") + " AS bucket, " +
+                "COUNT(*) AS interactions, " +
+                "percentile_cont(ARRAY[0.5, 0.95, 0.99]) WITHIN GROUP (ORDER BY response_time_ms) AS response_time, " +
+                "AVG(response_time_ms) AS avg_response_time, " +
+                "MAX(response_time_ms) AS max_response_time, " +
+                "AVG(CASE WHEN is_fallback THEN 1.0 ELSE 0.0 END) AS fallback_rate, " +
+                "percentile_cont(ARRAY[0.1, 0.5, 0.9]) WITHIN GROUP (ORDER BY confidence) AS confidence, " +
+                "AVG(confidence) AS avg_confidence " +
+                "FROM conversations " +
+                "WHERE (?::text[] IS NULL OR session_id = ANY(?::text[])) " +
+                "AND (?::timestamp IS NULL OR created_at >= ?::timestamp) " +
+                "AND (?::timestamp IS NULL OR created_at < ?::timestamp) " +
+                "GROUP BY 1 ORDER BY 1";
+
+        List<MetricsBucket> buckets = new ArrayList<>();
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
+            Array sessions = sessionIds == null ? null
+                    : connection.createArrayOf("text", sessionIds.toArray(new String[0]));
+            stmt.setArray(1, sessions);
+            stmt.setArray(2, sessions);
+            stmt.setTimestamp(3, from);
+            stmt.setTimestamp(4, from);
+            stmt.setTimestamp(5, to);
+            stmt.setTimestamp(6, to);
+
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                long interactions = rs.getLong("interactions");
+                if (interactions == 0) {
+                    continue;
+                }
+                double[] responseTime = percentiles(rs.getArray("response_time"));
+                double[] confidence = percentiles(rs.getArray("confidence"));
+                buckets.add(new MetricsBucket(
+                        rs.getTimestamp("bucket"),
+                        interactions,
+                        responseTime[0], responseTime[1], responseTime[2],
+                        rs.getDouble("avg_response_time"),
+                        rs.getLong("max_response_time"),
+                        rs.getDouble("fallback_rate"),
+                        confidence[0], confidence[1], confidence[2],
+                        rs.getDouble("avg_confidence")));
+            }
+
+            return buckets;
+
+        } catch (SQLException e) {
+            System.err.println("Error getting conversation metrics: " + e.getMessage());
+            return buckets;
+        }
+    }
+
+    /**
+     * Overall metrics for one session, including response-time percentiles
+     */
+    public MetricsBucket getSessionPercentiles(String sessionId) {
+        List<MetricsBucket> buckets = getConversationMetrics(List.of(sessionId), null, null, null);
+        return buckets.isEmpty() ? null : buckets.get(0);
+    }
+
+    private static double[] percentiles(Array array) throws SQLException {
+        double[] values = new double[3];
+        if (array == null) {
+            return values;
+        }
+        Object[] raw = (Object[]) array.getArray();
+        for (int i = 0; i < values.length && i < raw.length; i++) {
+            values[i] = raw[i] == null ? 0.0 : ((Number) raw[i]).doubleValue();
+        }
+        return values;
+    }
+
+    // ==================== BATCH VERIFICATION ====================
+
+    /**
+     * Verify many (session, input, expected intent) tuples with set-based queries.
+     * Tuples are sent as two parallel text arrays, joined through unnest and
+     * reduced to the latest row per (session_id, user_input) with DISTINCT ON,
+     * so each chunk of db.verify.batch.size tuples costs one round trip.
+     * Results are keyed by expectation, in input order.
+     */
+    public Map<ConversationExpectation, VerificationResult> verifyConversationsLogged(
+            Collection<ConversationExpectation> expectations) {
+        List<ConversationExpectation> unique = new ArrayList<>(new LinkedHashSet<>(expectations));
+        Map<ConversationExpectation, VerificationResult> results = new LinkedHashMap<>();
+        int batchSize = Math.max(1, config.getDbVerifyBatchSize());
+
+        for (int from = 0; from < unique.size(); from += batchSize) {
+            List<ConversationExpectation> chunk = unique.subList(from, Math.min(unique.size(), from + batchSize));
+            verifyChunk(chunk, results);
+        }
+        return results;
+    }
+
+    private void verifyChunk(List<ConversationExpectation> chunk,
+            Map<ConversationExpectation, VerificationResult> results) {
+        String query = "SELECT DISTINCT ON (c.session_id, c.user_input) " +
+                "c.id, c.session_id, c.user_input, c.ai_response, c.intent, c.confidence, " +
+                "c.created_at, c.is_fallback, c.response_time_ms " +
+                "FROM conversations c " +
+                "JOIN unnest(?::text[], ?::text[]) AS e(session_id, user_input) " +
+                "ON c.session_id = e.session_id AND c.user_input = e.user_input " +
+                "ORDER BY c.session_id, c.user_input, c.created_at DESC";
+
+        String[] sessionIds = new String[chunk.size()];
+        String[] userInputs = new String[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            sessionIds[i] = chunk.get(i).getSessionId();
+            userInputs[i] = chunk.get(i).getUserInput();
+        }
+
+        Map<String, ConversationRecord> found = new HashMap<>();
+        Map<String, Long> responseTimes = new HashMap<>();
+        try (Connection connection = getConnection();
+             PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setArray(1, connection.createArrayOf("text", sessionIds));
+            stmt.setArray(2, connection.createArrayOf("text", userInputs));
+
+            ResultSet rs = stmt.executeQuery();
+
+            while (rs.next()) {
+                ConversationRecord record = new ConversationRecord(
+                        rs.getLong("id"),
+                        rs.getString("session_id"),
+                        rs.getString("user_input"),
+                        rs.getString("ai_response"),
+                        rs.getString("intent"),
+                        rs.getDouble("confidence"),
+                        rs.getTimestamp("created_at"),
+                        rs.getBoolean("is_fallback"));
+                String key = turnKey(record.getSessionId(), record.getUserInput());
+                found.put(key, record);
+                responseTimes.put(key, rs.getLong("response_time_ms"));
+            }
+
+            for (ConversationExpectation expectation : chunk) {
+                String key = turnKey(expectation.getSessionId(), expectation.getUserInput());
+                results.put(expectation, new VerificationResult(expectation, found.get(key),
+                        responseTimes.getOrDefault(key, 0L), null));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error verifying conversation batch: " + e.getMessage());
+            for (ConversationExpectation expectation : chunk) {
+                results.put(expectation, new VerificationResult(expectation, null, 0, e.getMessage()));
+            }
+        }
+    }
+
+    private static String turnKey(String sessionId, String userInput) {
+        return sessionId + '\u0000' + userInput;
+    }
+
     /**
      * Inner class for conversation record
      */
@@ -272,4 +517,207 @@ public class DBValidator {
             return avgConfidence;
         }
     }
+
+    /**
+     * Inner class for one expected conversation turn; expectedIntent may be null
+     */
+    public static class ConversationExpectation {
+        private final String sessionId;
+        private final String userInput;
+        private final String expectedIntent;
+
+        public ConversationExpectation(String sessionId, String userInput, String expectedIntent) {
+            this.sessionId = sessionId;
+            this.userInput = userInput;
+            this.expectedIntent = expectedIntent;
+        }
+
+        // Getters
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public String getUserInput() {
+            return userInput;
+        }
+
+        public String getExpectedIntent() {
+            return expectedIntent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversationExpectation)) {
+                return false;
+            }
+            ConversationExpectation other = (ConversationExpectation) o;
+            return Objects.equals(sessionId, other.sessionId)
+                    && Objects.equals(userInput, other.userInput)
+                    && Objects.equals(expectedIntent, other.expectedIntent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, userInput, expectedIntent);
+        }
+
+        @Override
+        public String toString() {
+            return "ConversationExpectation{sessionId='" + sessionId + "', userInput='" + userInput
+                    + "', expectedIntent='" + expectedIntent + "'}";
+        }
+    }
+
+    /**
+     * Inner class for the outcome of one batched verification
+     */
+    public static class VerificationResult {
+        private final ConversationExpectation expectation;
+        private final ConversationRecord record;
+        private final long responseTimeMs;
+        private final String error;
+
+        public VerificationResult(ConversationExpectation expectation, ConversationRecord record,
+                long responseTimeMs, String error) {
+            this.expectation = expectation;
+            this.record = record;
+            this.responseTimeMs = responseTimeMs;
+            this.error = error;
+        }
+
+        // Getters
+        public ConversationExpectation getExpectation() {
+            return expectation;
+        }
+
+        /**
+         * Latest matching row, or null when nothing was logged
+         */
+        public ConversationRecord getRecord() {
+            return record;
+        }
+
+        public long getResponseTimeMs() {
+            return responseTimeMs;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isLogged() {
+            return record != null;
+        }
+
+        /**
+         * True when logged and, if an intent was expected, the logged intent matches
+         */
+        public boolean isIntentMatched() {
+            return record != null && (expectation.getExpectedIntent() == null
+                    || expectation.getExpectedIntent().equals(record.getIntent()));
+        }
+
+        public boolean isVerified() {
+            return error == null && isIntentMatched();
+        }
+    }
+
+    /**
+     * Inner class for aggregated metrics of one time bucket (or of the whole range)
+     */
+    public static class MetricsBucket {
+        private final Timestamp bucketStart;
+        private final long interactions;
+        private final double p50ResponseTimeMs;
+        private final double p95ResponseTimeMs;
+        private final double p99ResponseTimeMs;
+        private final double avgResponseTimeMs;
+        private final long maxResponseTimeMs;
+        private final double fallbackRate;
+        private final double p10Confidence;
+        private final double p50Confidence;
+        private final double p90Confidence;
+        private final double avgConfidence;
+
+        public MetricsBucket(Timestamp bucketStart, long interactions,
+                double p50ResponseTimeMs, double p95ResponseTimeMs, double p99ResponseTimeMs,
+                double avgResponseTimeMs, long maxResponseTimeMs, double fallbackRate,
+                double p10Confidence, double p50Confidence, double p90Confidence, double avgConfidence) {
+            this.bucketStart = bucketStart;
+            this.interactions = interactions;
+            this.p50ResponseTimeMs = p50ResponseTimeMs;
+            this.p95ResponseTimeMs = p95ResponseTimeMs;
+            this.p99ResponseTimeMs = p99ResponseTimeMs;
+            this.avgResponseTimeMs = avgResponseTimeMs;
+            this.maxResponseTimeMs = maxResponseTimeMs;
+            this.fallbackRate = fallbackRate;
+            this.p10Confidence = p10Confidence;
+            this.p50Confidence = p50Confidence;
+            this.p90Confidence = p90Confidence;
+            this.avgConfidence = avgConfidence;
+        }
+
+        // Getters
+        /**
+         * Start of the bucket, or null when the range was not bucketed
+         */
+        public Timestamp getBucketStart() {
+            return bucketStart;
+        }
+
+        public long getInteractions() {
+            return interactions;
+        }
+
+        public double getP50ResponseTimeMs() {
+            return p50ResponseTimeMs;
+        }
+
+        public double getP95ResponseTimeMs() {
+            return p95ResponseTimeMs;
+        }
+
+        public double getP99ResponseTimeMs() {
+            return p99ResponseTimeMs;
+        }
+
+        public double getAvgResponseTimeMs() {
+            return avgResponseTimeMs;
+        }
+
+        public long getMaxResponseTimeMs() {
+            return maxResponseTimeMs;
+        }
+
+        public double getFallbackRate() {
+            return fallbackRate;
+        }
+
+        public double getP10Confidence() {
+            return p10Confidence;
+        }
+
+        public double getP50Confidence() {
+            return p50Confidence;
+        }
+
+        public double getP90Confidence() {
+            return p90Confidence;
+        }
+
+        public double getAvgConfidence() {
+            return avgConfidence;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("MetricsBucket{start=%s, n=%d, rt p50/p95/p99=%.0f/%.0f/%.0fms, max=%dms, "
+                            + "fallback=%.1f%%, confidence p10/p50/p90=%.2f/%.2f/%.2f}",
+                    bucketStart, interactions, p50ResponseTimeMs, p95ResponseTimeMs, p99ResponseTimeMs,
+                    maxResponseTimeMs, fallbackRate * 100, p10Confidence, p50Confidence, p90Confidence);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.SoakSnapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Drift Detector - spots latency creep and error-rate growth over a long run
+ *
+ * For each endpoint the first window of non-empty intervals is the baseline
+ * and the latest window is compared against it. Medians are used so a single
+ * bad interval does not raise a finding. Latency creep is a recent median p99
+ * more than latencyCreepPct above the baseline's; error growth is a recent
+ * median error rate more than errorGrowthPct points above it. Memory is two
+ * windows per endpoint regardless of run length.
+ */
+public class DriftDetector {
+
+    public static final String LATENCY_CREEP = "latency creep";
+    public static final String ERROR_GROWTH = "error-rate growth";
+
+    private final int window;
+    private final double latencyCreepPct;
+    private final double errorGrowthPct;
+    private final Map<String, EndpointHistory> histories = new HashMap<>();
+    private final Set<String> active = new HashSet<>();
+    private final List<String> findings = new ArrayList<>();
+
+    public DriftDetector(int window, double latencyCreepPct, double errorGrowthPct) {
+        this.window = Math.max(1, window);
+        this.latencyCreepPct = latencyCreepPct;
+        this.errorGrowthPct = errorGrowthPct;
+    }
+
+    /**
+     * Add one interval; returns the findings this interval raised for the first time
+     */
+    public synchronized List<String> observe(SoakSnapshot snapshot) {
+        if (snapshot.getCount() == 0) {
+            return List.of();
+        }
+        EndpointHistory history = histories.computeIfAbsent(snapshot.getEndpoint(), key -> new EndpointHistory());
+        history.add(snapshot);
+        if (history.baselineP99.size() < window || history.recentP99.size() < window) {
+            return List.of();
+        }
+
+        List<String> raised = new ArrayList<>();
+        double baselineP99 = median(history.baselineP99);
+        double recentP99 = median(history.recentP99);
+        if (recentP99 > baselineP99 * (1 + latencyCreepPct / 100.0)) {
+            raise(raised, snapshot, LATENCY_CREEP, String.format(Locale.ROOT,
+                    "p99 %.1fms -> %.1fms", baselineP99, recentP99));
+        } else {
+            active.remove(snapshot.getEndpoint() + ":" + LATENCY_CREEP);
+        }
+        double baselineErrors = median(history.baselineErrors);
+        double recentErrors = median(history.recentErrors);
+        if (recentErrors > baselineErrors + errorGrowthPct) {
+            raise(raised, snapshot, ERROR_GROWTH, String.format(Locale.ROOT,
+                    "errors %.2f%% -> %.2f%%", baselineErrors, recentErrors));
+        } else {
+            active.remove(snapshot.getEndpoint() + ":" + ERROR_GROWTH);
+        }
+        return raised;
+    }
+
+    /**
+     * Every finding raised so far; a condition that clears and returns is reported again
+     */
+    public synchronized List<String> getFindings() {
+        return new ArrayList<>(findings);
+    }
+
+    private void raise(List<String> raised, SoakSnapshot snapshot, String kind, String detail) {
+        if (active.add(snapshot.getEndpoint() + ":" + kind)) {
+            String finding = snapshot.getEndpoint() + " " + kind + " at " + snapshot.getElapsedSeconds() + "s: " + detail;
+            raised.add(finding);
+            findings.add(finding);
+        }
+    }
+
+    private static double median(Deque<Double> values) {
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+
+    /**
+     * Baseline (first window, then frozen) and sliding recent window of one endpoint
+     */
+    private class EndpointHistory {
+        private final Deque<Double> baselineP99 = new ArrayDeque<>();
+        private final Deque<Double> baselineErrors = new ArrayDeque<>();
+        private final Deque<Double> recentP99 = new ArrayDeque<>();
+        private final Deque<Double> recentErrors = new ArrayDeque<>();
+
+        private void add(SoakSnapshot snapshot) {
+            if (baselineP99.size() < window) {
+                baselineP99.add(snapshot.getP99Ms());
+                baselineErrors.add(snapshot.getErrorRatePct());
+                return;
+            }
+            recentP99.add(snapshot.getP99Ms());
+            recentErrors.add(snapshot.getErrorRatePct());
+            if (recentP99.size() > window) {
+                recentP99.removeFirst();
+                recentErrors.removeFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.voiceai.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.EvaluationCase;
+import com.voiceai.models.EvaluationReport;
+import com.voiceai.models.EvaluationScore;
+import com.voiceai.models.RetrievedContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Hallucination Evaluator - token-overlap hallucination and context-accuracy scoring of RAG answers
+ *
+ * An answer is hallucinated when more than eval.hallucination.max.missing of
+ * its word tokens appear in none of the retrieved contexts. Context accuracy
+ * holds when a retrieved context is the gold document, or when nothing was
+ * retrieved and no document was expected.
+ *
+ * Corpora are scored as parallel streams on a fork-join pool of
+ * eval.parallelism workers (0 = the common pool). Tokens are compared as
+ * TextTokenizer hashes: contexts repeat across answers, so each distinct
+ * context text is hashed once into a primitive LongHashSet that is cached (up
+ * to eval.context.cache.size texts), and an answer is scanned in the worker's
+ * reusable token buffer. Token strings are only built for missing tokens.
+ */
+public class HallucinationEvaluator {
+
+    private static final Logger logger = LogManager.getLogger(HallucinationEvaluator.class);
+    private static final ObjectReader CASE_READER = ResponseDecoder.mapper().readerFor(EvaluationCase.class);
+    private static final int MAX_SAMPLES = 20;
+    private static final LongHashSet EMPTY = new LongHashSet();
+
+    private final int maxMissingTokens;
+    private final int parallelism;
+    private final int contextCacheSize;
+
+    private final Map<String, LongHashSet> contextTokens = new ConcurrentHashMap<>();
+
+    public HallucinationEvaluator() {
+        this(TestConfig.getInstance());
+    }
+
+    public HallucinationEvaluator(TestConfig config) {
+        this(config.getEvalMaxMissingTokens(), config.getEvalParallelism(), config.getEvalContextCacheSize());
+    }
+
+    public HallucinationEvaluator(int maxMissingTokens, int parallelism, int contextCacheSize) {
+        this.maxMissingTokens = maxMissingTokens;
+        this.parallelism = parallelism;
+        this.contextCacheSize = contextCacheSize;
+    }
+
+    // ==================== SCORING ====================
+
+    /**
+     * Score one case
+     */
+    public EvaluationScore score(EvaluationCase evaluationCase) {
+        List<RetrievedContext> retrieved = evaluationCase.getContexts();
+        LongHashSet[] contexts = new LongHashSet[retrieved.size()];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = contextTokens(retrieved.get(i).getText());
+        }
+        List<String> missing = missing(evaluationCase.getAnswer(), contexts);
+        return new EvaluationScore(evaluationCase.getConversationId(), missing.size() > maxMissingTokens,
+                missing, isContextAccurate(evaluationCase));
+    }
+
+    /**
+     * Tokens of the answer found in no context; repeats are kept, as each counts
+     */
+    public List<String> missingTokens(String answer, Collection<String> contexts) {
+        LongHashSet[] sets = new LongHashSet[contexts.size()];
+        int i = 0;
+        for (String context : contexts) {
+            sets[i++] = contextTokens(context);
+        }
+        return missing(answer, sets);
+    }
+
+    public boolean isHallucinated(String answer, Collection<String> contexts) {
+        return missingTokens(answer, contexts).size() > maxMissingTokens;
+    }
+
+    private static boolean isContextAccurate(EvaluationCase evaluationCase) {
+        String gold = evaluationCase.getGoldDocId();
+        if (gold == null) {
+            return evaluationCase.getContexts().isEmpty();
+        }
+        for (RetrievedContext context : evaluationCase.getContexts()) {
+            if (gold.equals(context.getDocId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> missing(String answer, LongHashSet[] contexts) {
+        TextTokenizer.Tokens tokens = TextTokenizer.tokenize(answer);
+        List<String> missing = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (!containedInAny(contexts, tokens.hash(i))) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(tokens.text(i));
+            }
+        }
+        return missing == null ? Collections.emptyList() : missing;
+    }
+
+    private static boolean containedInAny(LongHashSet[] sets, long token) {
+        for (LongHashSet set : sets) {
+            if (set.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== CORPORA ====================
+
+    /**
+     * Score a JSONL corpus (classpath resource or file) of EvaluationCase lines
+     */
+    public EvaluationReport evaluate(String location) {
+        try (Stream<EvaluationCase> cases = readCases(location)) {
+            return evaluate(cases);
+        }
+    }
+
+    public EvaluationReport evaluate(Collection<EvaluationCase> cases) {
+        return evaluate(cases.stream());
+    }
+
+    /**
+     * Score all cases in parallel; the stream is consumed
+     */
+    public EvaluationReport evaluate(Stream<EvaluationCase> cases) {
+        long start = System.nanoTime();
+        Tally tally;
+        if (parallelism <= 0) {
+            tally = cases.parallel().map(this::score).collect(Tally.COLLECTOR);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                tally = pool.submit(() -> cases.parallel().map(this::score).collect(Tally.COLLECTOR)).join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+        EvaluationReport report = new EvaluationReport(tally.total, tally.hallucinated, tally.contextAccurate,
+                (System.nanoTime() - start) / 1_000_000, tally.samples);
+        logger.info("Evaluated {} ({} cached contexts)", report, contextTokens.size());
+        return report;
+    }
+
+    /**
+     * Lazily parsed cases of a JSONL corpus; close the stream to release the file
+     */
+    public static Stream<EvaluationCase> readCases(String location) {
+        BufferedReader reader = ConversationCorpus.open(location);
+        return reader.lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(HallucinationEvaluator::parseCase)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static EvaluationCase parseCase(String line) {
+        try {
+            return CASE_READER.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Bad evaluation line: " + line, e);
+        }
+    }
+
+    /**
+     * Counts and capped samples, merged across fork-join workers
+     */
+    private static final class Tally {
+        static final Collector<EvaluationScore, Tally, Tally> COLLECTOR =
+                Collector.of(Tally::new, Tally::add, Tally::merge);
+
+        long total;
+        long hallucinated;
+        long contextAccurate;
+        final List<EvaluationScore> samples = new ArrayList<>();
+
+        void add(EvaluationScore score) {
+            total++;
+            if (score.isContextAccurate()) {
+                contextAccurate++;
+            }
+            if (score.isHallucinated()) {
+                hallucinated++;
+                if (samples.size() < MAX_SAMPLES) {
+                    samples.add(score);
+                }
+            }
+        }
+
+        Tally merge(Tally other) {
+            total += other.total;
+            hallucinated += other.hallucinated;
+            contextAccurate += other.contextAccurate;
+            for (EvaluationScore sample : other.samples) {
+                if (samples.size() < MAX_SAMPLES) {
+                    samples.add(sample);
+                }
+            }
+            return this;
+        }
+    }
+
+    // ==================== TOKENS ====================
+
+    /**
+     * Token hash set of a context text, from the cache when the text was seen before
+     */
+    private LongHashSet contextTokens(String text) {
+        if (text == null) {
+            return EMPTY;
+        }
+        LongHashSet cached = contextTokens.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        LongHashSet tokens = TextTokenizer.tokenSet(text);
+        if (contextTokens.size() < contextCacheSize) {
+            contextTokens.putIfAbsent(text, tokens);
+        }
+        return tokens;
+    }
+
+    public int getCachedContexts() {
+        return contextTokens.size();
+    }
+}
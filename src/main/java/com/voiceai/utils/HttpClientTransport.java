@@ -0,0 +1,145 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * HTTP Client Transport - VoiceTransport on java.net.http.HttpClient
+ *
+ * One HttpClient is shared by all calls, so connections are kept alive and
+ * reused, and HTTP/2 streams are multiplexed over a single connection when the
+ * server supports it. The number of exchanges in flight is bounded by
+ * transport.max.connections, which also bounds the HTTP/1.1 connection pool.
+ * Default headers are baked into a request template once; each call only
+ * copies the template and sets the URI and body.
+ */
+public class HttpClientTransport implements VoiceTransport {
+
+    private static final Logger logger = LogManager.getLogger(HttpClientTransport.class);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final HttpRequest.Builder template;
+    private final Semaphore inFlight;
+    private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+
+    public HttpClientTransport(TestConfig config) {
+        this(config.getBaseUrl(), config.getAuthToken(), config.getTransportMaxConnections(),
+                Duration.ofMillis(config.getTransportConnectTimeoutMs()),
+                HttpClient.Version.valueOf(config.getTransportHttpVersion()));
+    }
+
+    public HttpClientTransport(String baseUrl, String authToken, int maxConnections,
+            Duration connectTimeout, HttpClient.Version version) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.executor = Executors.newFixedThreadPool(Math.max(2, Math.min(maxConnections, 16)), runnable -> {
+            Thread thread = new Thread(runnable, "voice-transport");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.template = HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + authToken);
+        this.inFlight = new Semaphore(maxConnections);
+        logger.info("HttpClientTransport initialized for {} ({}, max {} connections)",
+                this.baseUrl, version, maxConnections);
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        HttpRequest httpRequest = buildRequest(request);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a connection slot", e);
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+            return new TransportResponse(response.statusCode(), response.headers().map(),
+                    response.body(), System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.getMethod() + " " + request.getPath() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + request.getMethod() + " " + request.getPath(), e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Non-blocking send on the HttpClient's own executor. This path does not
+     * wait for a transport.max.connections slot; AsyncAPIClient bounds it.
+     */
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        HttpRequest httpRequest = buildRequest(request);
+        long start = System.nanoTime();
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new TransportResponse(response.statusCode(), response.headers().map(),
+                        response.body(), System.nanoTime() - start));
+    }
+
+    HttpRequest buildRequest(TransportRequest request) {
+        HttpRequest.BodyPublisher body = request.getBody() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.getBody());
+        HttpRequest.Builder builder = template.copy()
+                .uri(resolve(request))
+                .method(request.getMethod(), body);
+        if (request.getTimeoutMs() > 0) {
+            builder.timeout(Duration.ofMillis(request.getTimeoutMs()));
+        }
+        return builder.build();
+    }
+
+    private URI resolve(TransportRequest request) {
+        if (request.getQueryParams().isEmpty()) {
+            return uriCache.computeIfAbsent(request.getPath(), path -> URI.create(baseUrl + path));
+        }
+        StringBuilder uri = new StringBuilder(baseUrl).append(request.getPath());
+        char separator = '?';
+        for (Map.Entry<String, String> param : request.getQueryParams().entrySet()) {
+            uri.append(separator)
+                    .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return URI.create(uri.toString());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,67 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.LatencyBreakdown;
+import com.voiceai.models.VoiceResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency Decomposition - client, server and DB latency of the same calls
+ *
+ * Each chat call records the client wall time next to the server-reported
+ * response_time_ms, and the difference as the network/queueing share. When
+ * the persisted row is read back, recordDb() adds the DB-recorded time and
+ * the gateway share (server minus DB). All recorders are LatencyRecorders,
+ * so recording is lock-free and safe from any thread.
+ */
+public class LatencyDecomposition {
+
+    private final LatencyRecorder client = new LatencyRecorder("client");
+    private final LatencyRecorder server = new LatencyRecorder("server");
+    private final LatencyRecorder network = new LatencyRecorder("network");
+    private final LatencyRecorder db = new LatencyRecorder("db");
+    private final LatencyRecorder gateway = new LatencyRecorder("gateway");
+
+    /**
+     * Record one call. A negative serverMs (field missing) records client time only.
+     */
+    public void record(long clientNanos, long serverMs) {
+        client.recordNanos(clientNanos);
+        if (serverMs < 0) {
+            return;
+        }
+        long serverNanos = TimeUnit.MILLISECONDS.toNanos(serverMs);
+        server.recordNanos(serverNanos);
+        network.recordNanos(Math.max(0, clientNanos - serverNanos));
+    }
+
+    public void record(long clientNanos, VoiceResponse response) {
+        record(clientNanos, response.getResponseTimeMs());
+    }
+
+    /**
+     * Record the DB-side time of a call once its row is visible
+     */
+    public void recordDb(long serverMs, long dbMs) {
+        if (dbMs < 0) {
+            return;
+        }
+        db.recordNanos(TimeUnit.MILLISECONDS.toNanos(dbMs));
+        if (serverMs >= 0) {
+            gateway.recordNanos(TimeUnit.MILLISECONDS.toNanos(Math.max(0, serverMs - dbMs)));
+        }
+    }
+
+    public LatencyBreakdown report() {
+        return new LatencyBreakdown(client.report(), server.report(), network.report(),
+                db.report(), gateway.report());
+    }
+
+    public void reset() {
+        client.reset();
+        server.reset();
+        network.reset();
+        db.reset();
+        gateway.reset();
+    }
+}
@@ -0,0 +1,159 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.LatencyReport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Recorder - fixed-memory, log-linear latency histogram
+ *
+ * Values are recorded in nanoseconds (use {@link System#nanoTime()}) and stored
+ * with microsecond resolution in HdrHistogram-style buckets: every power-of-two
+ * range is split into 128 linear sub-buckets, giving better than 1% precision
+ * from 1µs up to one hour in about 26 KB of counters. Recording only touches
+ * atomic counters, so it allocates nothing and is safe for any number of
+ * concurrent writer threads. Values above one hour are clamped.
+ */
+public class LatencyRecorder {
+
+    private static final int SUB_BUCKET_COUNT_MAGNITUDE = 8;
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = SUB_BUCKET_COUNT_MAGNITUDE - 1;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_COUNT_MAGNITUDE;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int COUNTS_LENGTH = countsLengthFor(HIGHEST_TRACKABLE_MICROS);
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(COUNTS_LENGTH);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public LatencyRecorder() {
+        this("latency");
+    }
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Record one latency sample measured with System.nanoTime()
+     */
+    public void recordNanos(long latencyNanos) {
+        long micros = Math.min(Math.max(latencyNanos / 1000, 0), HIGHEST_TRACKABLE_MICROS);
+        counts.incrementAndGet(countsIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        minMicros.accumulateAndGet(micros, Math::min);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Record the time elapsed since a System.nanoTime() start stamp
+     */
+    public void recordSince(long startNanos) {
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds. The value is the
+     * upper edge of the bucket holding that sample, so it never under-reports.
+     */
+    public double getPercentileMs(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0.0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * total));
+
+        long seen = 0;
+        for (int index = 0; index < COUNTS_LENGTH; index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                long upper = Math.min(highestEquivalentValue(index), maxMicros.get());
+                return upper / 1000.0;
+            }
+        }
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Summarise the samples recorded so far. Concurrent writers may land while
+     * the report is built; each report is consistent to within those samples.
+     */
+    public LatencyReport report() {
+        long count = getCount();
+        if (count == 0) {
+            return new LatencyReport(name, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new LatencyReport(
+                name,
+                count,
+                minMicros.get() / 1000.0,
+                totalMicros.sum() / (double) count / 1000.0,
+                getPercentileMs(50),
+                getPercentileMs(90),
+                getPercentileMs(99),
+                getPercentileMs(99.9),
+                maxMicros.get() / 1000.0);
+    }
+
+    /**
+     * Clear all recorded samples
+     */
+    public void reset() {
+        for (int index = 0; index < COUNTS_LENGTH; index++) {
+            counts.set(index, 0);
+        }
+        totalCount.reset();
+        totalMicros.reset();
+        minMicros.set(Long.MAX_VALUE);
+        maxMicros.set(0);
+    }
+
+    // ==================== BUCKET MATH ====================
+
+    private static int countsIndex(long micros) {
+        int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(micros | SUB_BUCKET_MASK);
+        int subBucketIndex = (int) (micros >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + (subBucketIndex - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        long lowest = ((long) subBucketIndex) << bucketIndex;
+        return lowest + (1L << bucketIndex) - 1;
+    }
+
+    private static int countsLengthFor(long highestTrackable) {
+        long smallestUntrackable = (long) SUB_BUCKET_COUNT;
+        int buckets = 1;
+        while (smallestUntrackable <= highestTrackable) {
+            smallestUntrackable <<= 1;
+            buckets++;
+        }
+        return (buckets + 1) * SUB_BUCKET_HALF_COUNT;
+    }
+}
@@ -0,0 +1,323 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.LoadProfile;
+import com.voiceai.models.LoadResult;
+import com.voiceai.models.TransportResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Load Generator - drives concurrent chat traffic through APIClient's pooled transport
+ *
+ * Open-loop runs send requests on a fixed arrival timeline (linear ramp-up,
+ * constant steady state, linear ramp-down) whether or not earlier requests
+ * have completed. Closed-loop runs start a fixed number of clients, each
+ * sending its next request as soon as the previous one returns, or on a
+ * fixed pacing interval when one is set; clients are started across the
+ * ramp-up phase and stopped across the ramp-down phase.
+ *
+ * Every request has an intended send time on the run's timeline: the
+ * arrival schedule in open-loop mode, or start + n * pacing for each paced
+ * closed-loop client. An unpaced closed-loop client has no such timeline, so
+ * only raw latency is reported for it. A paced client that falls behind its schedule still
+ * stops at its wall-clock stop time; the backlog it never sent is not
+ * fired after the run ends. Latency is recorded twice - raw, from the moment the
+ * request was actually sent, and corrected, from the moment it should have
+ * been sent. When the backend stalls, requests that pile up behind the stall
+ * carry the waiting time in the corrected distribution instead of the stall
+ * counting as one slow sample (coordinated omission).
+ *
+ * With a rate limit, every request first takes a token from a shared
+ * RateLimiter; its intended send time moves to the moment the token is
+ * granted, so deliberate client-side pacing is not reported as backend
+ * latency. A Retry-After header on a 429 pauses the limiter for the time the
+ * server asked for. In adaptive mode an AimdController raises the rate until
+ * the backend throttles and reports the highest sustained throughput as the
+ * run's saturation rate.
+ *
+ * Requests run on virtual threads when the runtime supports them and fall
+ * back to a bounded platform thread pool otherwise.
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LogManager.getLogger(LoadGenerator.class);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+    private static final long MAX_RETRY_AFTER_MS = 60_000;
+
+    private final LoadProfile profile;
+
+    public LoadGenerator() {
+        this(LoadProfile.fromConfig(TestConfig.getInstance()));
+    }
+
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Run the profile against the chat endpoint with a fixed input on one session
+     */
+    public LoadResult runChat(APIClient apiClient, String sessionId, String userInput) {
+        return run(sequence -> apiClient.postChat(userInput, sessionId));
+    }
+
+    /**
+     * Run the profile against the chat endpoint on one session, cycling through
+     * the corpus utterances. The corpus is streamed, never loaded whole.
+     */
+    public LoadResult runChat(APIClient apiClient, String sessionId, ConversationCorpus corpus) {
+        try (ConversationCorpus.Cursor cursor = corpus.cursor()) {
+            return run(sequence -> apiClient.postChat(cursor.next().getUtterance(), sessionId));
+        }
+    }
+
+    /**
+     * Run the profile, invoking the request function once per request.
+     * The function receives a zero-based sequence number and may be called
+     * from many threads at once.
+     */
+    public LoadResult run(LongFunction<TransportResponse> request) {
+        logger.info("Starting load run: {}", profile);
+        if (!profile.isLatencyCorrected()) {
+            logger.info("Closed loop without pacing: coordinated-omission correction is off, reporting raw latency only");
+        }
+        Stats stats = new Stats(profile);
+        long startNanos = System.nanoTime();
+
+        if (profile.getMode() == LoadProfile.Mode.OPEN_LOOP) {
+            runOpenLoop(request, stats, startNanos);
+        } else {
+            runClosedLoop(request, stats, startNanos);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        LoadResult result = stats.toResult(profile, durationMs);
+        logger.info("Load run finished: {}", result);
+        return result;
+    }
+
+    // ==================== OPEN LOOP ====================
+
+    private void runOpenLoop(LongFunction<TransportResponse> request, Stats stats, long startNanos) {
+        long total = expectedArrivals();
+        ExecutorService executor = newExecutor(profile.getMaxThreads());
+        try {
+            for (long sequence = 0; sequence < total; sequence++) {
+                long intendedNanos = startNanos + arrivalOffsetNanos(sequence);
+                parkUntil(intendedNanos);
+                long seq = sequence;
+                executor.execute(() -> execute(request, seq, intendedNanos, stats));
+            }
+        } finally {
+            drain(executor);
+        }
+    }
+
+    /**
+     * Number of arrivals over the whole profile: the area under the rate curve
+     */
+    long expectedArrivals() {
+        double rate = profile.getArrivalRate();
+        double rampUp = profile.getRampUpMs() / 1000.0;
+        double steady = profile.getSteadyMs() / 1000.0;
+        double rampDown = profile.getRampDownMs() / 1000.0;
+        return (long) Math.floor(rate * (rampUp / 2 + steady + rampDown / 2));
+    }
+
+    /**
+     * Offset from the start of the run at which the given arrival is due,
+     * found by inverting the cumulative arrival count of the rate curve
+     */
+    long arrivalOffsetNanos(long sequence) {
+        double rate = profile.getArrivalRate();
+        double rampUp = profile.getRampUpMs() / 1000.0;
+        double steady = profile.getSteadyMs() / 1000.0;
+        double rampDown = profile.getRampDownMs() / 1000.0;
+
+        double rampUpArrivals = rate * rampUp / 2;
+        double steadyArrivals = rate * steady;
+        double seconds;
+
+        if (sequence < rampUpArrivals) {
+            seconds = Math.sqrt(2 * rampUp * sequence / rate);
+        } else if (sequence < rampUpArrivals + steadyArrivals) {
+            seconds = rampUp + (sequence - rampUpArrivals) / rate;
+        } else {
+            double intoRampDown = sequence - rampUpArrivals - steadyArrivals;
+            double remaining = Math.max(0, rampDown * rampDown - 2 * rampDown * intoRampDown / rate);
+            seconds = rampUp + steady + rampDown - Math.sqrt(remaining);
+        }
+        return (long) (seconds * 1_000_000_000L);
+    }
+
+    // ==================== CLOSED LOOP ====================
+
+    private void runClosedLoop(LongFunction<TransportResponse> request, Stats stats, long startNanos) {
+        int clients = profile.getConcurrency();
+        long rampUpNanos = TimeUnit.MILLISECONDS.toNanos(profile.getRampUpMs());
+        long rampDownNanos = TimeUnit.MILLISECONDS.toNanos(profile.getRampDownMs());
+        long endNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(profile.getTotalDurationMs());
+        long pacingNanos = TimeUnit.MILLISECONDS.toNanos(profile.getPacingMs());
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService executor = newExecutor(clients);
+        try {
+            for (int client = 0; client < clients; client++) {
+                long startAt = startNanos + rampUpNanos * client / clients;
+                long stopAt = endNanos - rampDownNanos * client / clients;
+                executor.execute(() -> {
+                    long intendedNanos = startAt;
+                    while (intendedNanos < stopAt && System.nanoTime() < stopAt
+                            && !Thread.currentThread().isInterrupted()) {
+                        parkUntil(intendedNanos);
+                        execute(request, sequence.getAndIncrement(), intendedNanos, stats);
+                        intendedNanos = pacingNanos > 0 ? intendedNanos + pacingNanos : System.nanoTime();
+                    }
+                });
+            }
+        } finally {
+            drain(executor);
+        }
+    }
+
+    // ==================== EXECUTION ====================
+
+    private void execute(LongFunction<TransportResponse> request, long sequence, long intendedNanos, Stats stats) {
+        if (stats.limiter != null) {
+            stats.limiter.acquire();
+            intendedNanos = Math.max(intendedNanos, System.nanoTime());
+        }
+        stats.sent.increment();
+        long start = System.nanoTime();
+        try {
+            TransportResponse response = request.apply(sequence);
+            long end = System.nanoTime();
+            stats.recordResponse(response.getStatusCode(), end - start, end - intendedNanos);
+            stats.recordBackpressure(response, end);
+        } catch (Exception e) {
+            stats.errors.increment();
+            logger.debug("Request {} failed: {}", sequence, e.getMessage());
+        }
+    }
+
+    static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private void drain(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Load run did not drain within {}s, interrupting in-flight requests",
+                        DRAIN_TIMEOUT_SECONDS);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Virtual-thread-per-task executor when available (Java 21+),
+     * otherwise a fixed pool of platform threads
+     */
+    static ExecutorService newExecutor(int platformThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(platformThreads);
+        }
+    }
+
+    /**
+     * Counters shared by all request threads of one run
+     */
+    private static class Stats {
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyRecorder rawLatency = new LatencyRecorder("raw");
+        private final LatencyRecorder correctedLatency = new LatencyRecorder("corrected");
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final LongAdder retryAfterPauses = new LongAdder();
+        private final RateLimiter limiter;
+        private final AimdController aimd;
+
+        Stats(LoadProfile profile) {
+            if (profile.isRateLimited()) {
+                double initialRate = profile.getRateLimit() > 0 ? profile.getRateLimit() : profile.getAdaptiveIncrease();
+                limiter = new RateLimiter(initialRate, profile.getRateBurst());
+            } else {
+                limiter = null;
+            }
+            aimd = profile.isAdaptive()
+                    ? new AimdController(limiter, 1.0, profile.getAdaptiveMaxRate(), profile.getAdaptiveIncrease(),
+                            profile.getAdaptiveDecrease(), profile.getAdaptiveWindowMs())
+                    : null;
+        }
+
+        void recordResponse(int statusCode, long rawNanos, long correctedNanos) {
+            if (statusCode >= 200 && statusCode < 300) {
+                succeeded.increment();
+            } else {
+                failed.increment();
+            }
+            statusCounts.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+            rawLatency.recordNanos(rawNanos);
+            correctedLatency.recordNanos(Math.max(rawNanos, correctedNanos));
+        }
+
+        /**
+         * Feed the AIMD controller and honour Retry-After by pausing the limiter
+         */
+        void recordBackpressure(TransportResponse response, long nowNanos) {
+            if (aimd != null) {
+                aimd.onResponse(response.getStatusCode());
+            }
+            if (limiter == null || response.getStatusCode() != 429) {
+                return;
+            }
+            long retryAfterMs = RateLimiter.parseRetryAfterMs(response.getHeader("Retry-After"));
+            if (retryAfterMs > 0) {
+                limiter.pauseUntil(nowNanos + TimeUnit.MILLISECONDS.toNanos(Math.min(retryAfterMs, MAX_RETRY_AFTER_MS)));
+                retryAfterPauses.increment();
+            }
+        }
+
+        LoadResult toResult(LoadProfile profile, long durationMs) {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statusCounts.forEach((code, count) -> counts.put(code, count.sum()));
+            return new LoadResult(profile.getMode(), sent.sum(), succeeded.sum(), failed.sum(), errors.sum(),
+                    counts, durationMs, rawLatency.report(),
+                    profile.isLatencyCorrected() ? correctedLatency.report() : null,
+                    retryAfterPauses.sum(), limiter == null ? 0 : limiter.getRate(),
+                    aimd == null ? -1 : aimd.getSaturationRate());
+        }
+    }
+}
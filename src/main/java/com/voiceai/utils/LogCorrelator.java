@@ -0,0 +1,605 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.SessionTimeline;
+import com.voiceai.models.TimelineEvent;
+import com.voiceai.models.TimelineEvent.Stage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Log Correlator - per-session timelines joining APIClient calls with application log lines
+ *
+ * build() makes one streaming pass over the log and writes an on-disk index
+ * of (64-bit session_id hash, line position) records. Positions are collected
+ * in fixed-size runs (log.index.run.records); each full run is sorted and
+ * spilled to a file, and the runs are merged into one sorted index file, so
+ * heap use depends on the run size and not on the log size.
+ *
+ * timeline() binary-searches the index with positional reads, reads only
+ * that session's lines and classifies them as request-in, model-call,
+ * DB-write or response-out by marker text (log.stage.markers). Pass
+ * recordCall to APIClient.setCallObserver to put the client's send and
+ * receive times on the same timeline. The index covers the file as it was
+ * when build() ran; rotated files are not followed.
+ */
+public class LogCorrelator implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(LogCorrelator.class);
+
+    private static final int RECORD_BYTES = 16;
+    private static final int LENGTH_BITS = 24;
+    private static final long MAX_LENGTH = (1L << LENGTH_BITS) - 1;
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_LINE_BYTES = 16 << 20;
+    private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+    private static final String[] TIMESTAMP_FIELDS = {"timestamp", "@timestamp", "ts", "time"};
+
+    private final Path logPath;
+    private final Path indexDir;
+    private final String sessionKey;
+    private final byte[] sessionKeyBytes;
+    private final int runRecords;
+    private final ZoneId zone;
+    private final Map<Stage, List<String>> markers;
+
+    private final Map<String, List<TimelineEvent>> clientEvents = new ConcurrentHashMap<>();
+    private final Map<String, Long> clientLatencyMs = new ConcurrentHashMap<>();
+
+    private FileChannel log;
+    private FileChannel index;
+    private long indexRecords;
+    private long linesScanned;
+
+    public LogCorrelator() {
+        this(TestConfig.getInstance());
+    }
+
+    public LogCorrelator(TestConfig config) {
+        this(Paths.get(config.getLogFilePath()), config);
+    }
+
+    /**
+     * Correlator over the same log file as a LogValidator
+     */
+    public LogCorrelator(LogValidator validator) {
+        this(validator.getPath(), TestConfig.getInstance());
+    }
+
+    private LogCorrelator(Path logPath, TestConfig config) {
+        this(logPath, Paths.get(config.getLogIndexDir()), config.getLogSessionKey(),
+                config.getLogIndexRunRecords(), ZoneId.of(config.getLogTimeZone()),
+                parseMarkers(config.getLogStageMarkers()));
+    }
+
+    /**
+     * @param runRecords index records held in memory before a sorted run is spilled to disk
+     * @param zone       zone of log timestamps that carry no offset
+     */
+    public LogCorrelator(Path logPath, Path indexDir, String sessionKey, int runRecords, ZoneId zone,
+            Map<Stage, List<String>> markers) {
+        this.logPath = logPath;
+        this.indexDir = indexDir;
+        this.sessionKey = sessionKey;
+        this.sessionKeyBytes = sessionKey.getBytes(StandardCharsets.UTF_8);
+        this.runRecords = Math.max(1, runRecords);
+        this.zone = zone;
+        this.markers = markers;
+    }
+
+    /**
+     * "request_in:request received|request_in;model_call:inference" to stage markers,
+     * matched in the order given
+     */
+    public static Map<Stage, List<String>> parseMarkers(String spec) {
+        Map<Stage, List<String>> markers = new LinkedHashMap<>();
+        for (String entry : spec.split(";")) {
+            String[] parts = entry.split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Bad stage marker entry '" + entry + "' in " + spec);
+            }
+            List<String> texts = Arrays.stream(parts[1].split("\\|"))
+                    .map(text -> text.trim().toLowerCase(Locale.ROOT))
+                    .filter(text -> !text.isEmpty())
+                    .collect(Collectors.toList());
+            markers.put(Stage.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), texts);
+        }
+        return markers;
+    }
+
+    // ==================== CLIENT CALLS ====================
+
+    /**
+     * Record one client call; matches APIClient.CallObserver
+     */
+    public void recordCall(String sessionId, String endpoint, long sentEpochMs, long receivedEpochMs, int status) {
+        if (sessionId == null) {
+            return;
+        }
+        long latencyMs = receivedEpochMs - sentEpochMs;
+        clientEvents.compute(sessionId, (key, events) -> {
+            List<TimelineEvent> list = events != null ? events : new ArrayList<>(4);
+            list.add(new TimelineEvent(sentEpochMs, Stage.CLIENT_SEND, endpoint));
+            list.add(new TimelineEvent(receivedEpochMs, Stage.CLIENT_RECEIVE,
+                    endpoint + " " + status + " (" + latencyMs + "ms)"));
+            return list;
+        });
+        clientLatencyMs.merge(sessionId, latencyMs, Math::max);
+    }
+
+    /**
+     * Sessions with the slowest single client call, slowest first
+     */
+    public List<String> slowestSessions(int limit) {
+        return clientLatencyMs.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    // ==================== INDEX ====================
+
+    /**
+     * Index the log in one streaming pass; returns the number of session lines indexed
+     */
+    public synchronized long build() {
+        closeChannels();
+        linesScanned = 0;
+        RunWriter runs = new RunWriter();
+        try {
+            Files.createDirectories(indexDir);
+            try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+                long end = channel.size();
+                long offset = 0;
+                while (offset < end) {
+                    buffer.clear();
+                    int read = channel.read(buffer, offset);
+                    if (read <= 0) {
+                        break;
+                    }
+                    int lineStart = 0;
+                    for (int i = 0; i < read; i++) {
+                        if (buffer.get(i) == '\n') {
+                            scanLine(buffer, offset, lineStart, i, runs);
+                            lineStart = i + 1;
+                        }
+                    }
+                    if (offset + read >= end && lineStart < read) {
+                        // Unterminated last line of the file
+                        scanLine(buffer, offset, lineStart, read, runs);
+                        lineStart = read;
+                    }
+                    if (lineStart > 0) {
+                        offset += lineStart;
+                    } else if (buffer.capacity() < MAX_LINE_BYTES) {
+                        buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    } else {
+                        logger.warn("Skipping {} bytes of an over-long line at offset {} in {}", read, offset, logPath);
+                        offset += read;
+                    }
+                }
+            }
+            Path indexFile = merge(runs.finish());
+            index = FileChannel.open(indexFile, StandardOpenOption.READ);
+            indexRecords = index.size() / RECORD_BYTES;
+            log = FileChannel.open(logPath, StandardOpenOption.READ);
+        } catch (IOException e) {
+            closeChannels();
+            throw new UncheckedIOException("Cannot index log " + logPath, e);
+        }
+        logger.info("Indexed {} session lines of {} in {} ({} runs)",
+                indexRecords, linesScanned, logPath, runs.files.size());
+        return indexRecords;
+    }
+
+    private void scanLine(ByteBuffer buffer, long base, int start, int end, RunWriter runs) throws IOException {
+        linesScanned++;
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        int keyAt = LogValidator.indexOf(buffer, start, end, sessionKeyBytes);
+        if (keyAt < 0) {
+            return;
+        }
+        int[] value = LogValidator.valueBounds(buffer, keyAt + sessionKeyBytes.length, end);
+        if (value != null) {
+            runs.add(hash(buffer, value[0], value[1]), pack(base + start, end - start));
+        }
+    }
+
+    /**
+     * Buffers index records and spills each full buffer as a sorted run file
+     */
+    private final class RunWriter {
+        private final long[] hashes = new long[runRecords];
+        private final long[] positions = new long[runRecords];
+        private final List<Path> files = new ArrayList<>();
+        private int size;
+
+        void add(long hash, long position) throws IOException {
+            if (size == runRecords) {
+                spill();
+            }
+            hashes[size] = hash;
+            positions[size] = position;
+            size++;
+        }
+
+        List<Path> finish() throws IOException {
+            if (size > 0 || files.isEmpty()) {
+                spill();
+            }
+            return files;
+        }
+
+        private void spill() throws IOException {
+            sort(hashes, positions, 0, size - 1);
+            Path run = indexDir.resolve(logPath.getFileName() + ".run" + files.size());
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(run), STREAM_BUFFER_BYTES))) {
+                for (int i = 0; i < size; i++) {
+                    out.writeLong(hashes[i]);
+                    out.writeLong(positions[i]);
+                }
+            }
+            files.add(run);
+            size = 0;
+        }
+    }
+
+    /**
+     * K-way merge of the sorted runs into the index file
+     */
+    private Path merge(List<Path> runs) throws IOException {
+        Path indexFile = indexDir.resolve(logPath.getFileName() + ".sessions.idx");
+        if (runs.size() == 1) {
+            return Files.move(runs.get(0), indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        PriorityQueue<RunCursor> queue = new PriorityQueue<>(
+                Comparator.comparingLong((RunCursor cursor) -> cursor.hash).thenComparingLong(cursor -> cursor.position));
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(indexFile), STREAM_BUFFER_BYTES))) {
+            for (Path run : runs) {
+                RunCursor cursor = new RunCursor(run);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                out.writeLong(cursor.hash);
+                out.writeLong(cursor.position);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+        } finally {
+            for (RunCursor cursor : queue) {
+                cursor.close();
+            }
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+        return indexFile;
+    }
+
+    /**
+     * Reads one spilled run sequentially
+     */
+    private static final class RunCursor {
+        private final DataInputStream in;
+        private long remaining;
+        private long hash;
+        private long position;
+
+        RunCursor(Path run) throws IOException {
+            this.remaining = Files.size(run) / RECORD_BYTES;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), STREAM_BUFFER_BYTES));
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            hash = in.readLong();
+            position = in.readLong();
+            return true;
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    // ==================== TIMELINES ====================
+
+    /**
+     * Server log events and client calls of one session in time order.
+     * Events without a timestamp sort first.
+     */
+    public synchronized SessionTimeline timeline(String sessionId) {
+        if (index == null) {
+            throw new IllegalStateException("LogCorrelator.build() has not been run for " + logPath);
+        }
+        List<TimelineEvent> events = new ArrayList<>();
+        try {
+            for (long position : lookup(hash(sessionId))) {
+                String line = readLine(position);
+                // Different sessions can share a hash; keep only lines of this one
+                if (sessionId.equals(LogValidator.field(line, sessionKey))) {
+                    events.add(new TimelineEvent(parseTimestamp(line, zone), classify(line), line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log " + logPath, e);
+        }
+        // Copy under the map's lock for the key, which recordCall appends under
+        clientEvents.computeIfPresent(sessionId, (key, client) -> {
+            events.addAll(client);
+            return client;
+        });
+        events.sort(Comparator.comparingLong(TimelineEvent::getEpochMs));
+        return new SessionTimeline(sessionId, events);
+    }
+
+    /**
+     * Positions of all index records with the hash, in log order
+     */
+    private List<Long> lookup(long hash) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        long low = 0;
+        long high = indexRecords;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (readRecord(record, mid).getLong(0) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<Long> positions = new ArrayList<>();
+        for (long i = low; i < indexRecords && readRecord(record, i).getLong(0) == hash; i++) {
+            positions.add(record.getLong(8));
+        }
+        return positions;
+    }
+
+    private ByteBuffer readRecord(ByteBuffer record, long number) throws IOException {
+        record.clear();
+        while (record.hasRemaining()) {
+            if (index.read(record, number * RECORD_BYTES + record.position()) < 0) {
+                throw new IOException("Index truncated at record " + number);
+            }
+        }
+        return record;
+    }
+
+    private String readLine(long packed) throws IOException {
+        ByteBuffer line = ByteBuffer.allocate((int) (packed & MAX_LENGTH));
+        long offset = packed >>> LENGTH_BITS;
+        while (line.hasRemaining()) {
+            if (log.read(line, offset + line.position()) < 0) {
+                break;
+            }
+        }
+        return new String(line.array(), 0, line.position(), StandardCharsets.UTF_8);
+    }
+
+    private Stage classify(String line) {
+        if (LogValidator.isError(line)) {
+            return Stage.ERROR;
+        }
+        String event = LogValidator.field(line, "event");
+        String text = (event != null ? event : line).toLowerCase(Locale.ROOT);
+        for (Map.Entry<Stage, List<String>> entry : markers.entrySet()) {
+            for (String marker : entry.getValue()) {
+                if (text.contains(marker)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return Stage.OTHER;
+    }
+
+    /**
+     * Epoch millis of a line: a timestamp/ts/time field (ISO-8601 or epoch), else a
+     * leading "yyyy-MM-dd HH:mm:ss[.,]SSS"; -1 when neither parses
+     */
+    public static long parseTimestamp(String line, ZoneId zone) {
+        for (String field : TIMESTAMP_FIELDS) {
+            String value = LogValidator.field(line, field);
+            if (value != null) {
+                long millis = parseInstant(value, zone);
+                if (millis >= 0) {
+                    return millis;
+                }
+            }
+        }
+        if (line.length() >= 19 && Character.isDigit(line.charAt(0)) && line.charAt(4) == '-') {
+            int end = line.indexOf(' ', 11);
+            return parseInstant(line.substring(0, end < 0 ? line.length() : end)
+                    .replace(' ', 'T').replace(',', '.'), zone);
+        }
+        return -1;
+    }
+
+    private static long parseInstant(String value, ZoneId zone) {
+        if (value.chars().allMatch(Character::isDigit)) {
+            long epoch = Long.parseLong(value);
+            return value.length() <= 10 ? epoch * 1000 : epoch;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // No offset: local time in the log's zone
+        }
+        try {
+            return LocalDateTime.parse(value).atZone(zone).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    // ==================== HASHING AND SORTING ====================
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 bytes, computed on the read buffer without decoding
+     */
+    private static long hash(ByteBuffer buffer, int start, int end) {
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ (buffer.get(i) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static long hash(String sessionId) {
+        byte[] bytes = sessionId.getBytes(StandardCharsets.UTF_8);
+        return hash(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    private static long pack(long offset, int length) {
+        return (offset << LENGTH_BITS) | Math.min(length, MAX_LENGTH);
+    }
+
+    /**
+     * In-place quicksort of (hash, position) pairs held in two parallel arrays
+     */
+    private static void sort(long[] hashes, long[] positions, int low, int high) {
+        while (low < high) {
+            if (high - low < 16) {
+                for (int i = low + 1; i <= high; i++) {
+                    for (int j = i; j > low && compare(hashes, positions, j - 1, j) > 0; j--) {
+                        swap(hashes, positions, j - 1, j);
+                    }
+                }
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            long pivotHash = hashes[mid];
+            long pivotPosition = positions[mid];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compareTo(hashes[i], positions[i], pivotHash, pivotPosition) < 0) {
+                    i++;
+                }
+                while (compareTo(hashes[j], positions[j], pivotHash, pivotPosition) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(hashes, positions, i++, j--);
+                }
+            }
+            // Recurse into the smaller side to bound the stack
+            if (j - low < high - i) {
+                sort(hashes, positions, low, j);
+                low = i;
+            } else {
+                sort(hashes, positions, i, high);
+                high = j;
+            }
+        }
+    }
+
+    private static int compare(long[] hashes, long[] positions, int a, int b) {
+        return compareTo(hashes[a], positions[a], hashes[b], positions[b]);
+    }
+
+    private static int compareTo(long hashA, long positionA, long hashB, long positionB) {
+        int byHash = Long.compare(hashA, hashB);
+        return byHash != 0 ? byHash : Long.compare(positionA, positionB);
+    }
+
+    private static void swap(long[] hashes, long[] positions, int a, int b) {
+        long hash = hashes[a];
+        hashes[a] = hashes[b];
+        hashes[b] = hash;
+        long position = positions[a];
+        positions[a] = positions[b];
+        positions[b] = position;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    public long getIndexedLines() {
+        return indexRecords;
+    }
+
+    public long getLinesScanned() {
+        return linesScanned;
+    }
+
+    public int getClientSessions() {
+        return clientEvents.size();
+    }
+
+    private void closeChannels() {
+        for (FileChannel channel : new FileChannel[]{index, log}) {
+            if (channel == null) {
+                continue;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Cannot close {}: {}", channel, e.getMessage());
+            }
+        }
+        index = null;
+        log = null;
+        indexRecords = 0;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeChannels();
+        clientEvents.clear();
+        clientLatencyMs.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "LogCorrelator{" + logPath + ", indexed=" + indexRecords + ", clientSessions="
+                + clientEvents.size() + '}';
+    }
+}
@@ -0,0 +1,504 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Log Validator - incremental, session-indexed reader of the voice assistant application log
+ *
+ * tail() reads only the bytes appended since the last call, through a
+ * FileChannel into a reused direct buffer, and records where each line that
+ * carries a session_id starts. Nothing but those positions is kept: queries
+ * read the lines of one session back with positional reads, so an assertion
+ * costs a few small reads however large the log is.
+ *
+ * Lines may be plain text (session_id=abc intent=greeting) or JSON
+ * ("session_id":"abc"). Rotation by rename is detected through the file key:
+ * the old file is read to its end and kept open so its lines stay readable,
+ * then the new file is read from the start. When the file is truncated in
+ * place (copytruncate), lines indexed before the truncation are dropped.
+ */
+public class LogValidator implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(LogValidator.class);
+
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_LINE_BYTES = 16 << 20;
+
+    private final Path path;
+    private final byte[] sessionKey;
+    private final long awaitTimeoutMs;
+    private final long pollIntervalMs;
+
+    private final List<FileChannel> generations = new ArrayList<>();
+    private final Map<String, SessionLines> index = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    private Object fileKey;
+    private long offset;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES);
+    private volatile long linesRead;
+    private volatile int rotations;
+
+    public LogValidator() {
+        this(TestConfig.getInstance());
+    }
+
+    public LogValidator(TestConfig config) {
+        this(Paths.get(config.getLogFilePath()), config.isLogReadFromStart(), config.getLogSessionKey(),
+                config.getLogAwaitTimeoutMs(), config.getLogPollIntervalMs());
+    }
+
+    /**
+     * @param fromStart index what is already in the file; otherwise start at its current end
+     */
+    public LogValidator(Path path, boolean fromStart, String sessionKey, long awaitTimeoutMs, long pollIntervalMs) {
+        this.path = path;
+        this.sessionKey = sessionKey.getBytes(StandardCharsets.UTF_8);
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.pollIntervalMs = Math.max(1, pollIntervalMs);
+        if (open() && !fromStart) {
+            offset = size();
+        }
+        logger.info("LogValidator on {} from offset {}", path, offset);
+    }
+
+    // ==================== TAILING ====================
+
+    /**
+     * Index the lines appended since the last call; returns how many were read
+     */
+    public synchronized long tail() {
+        long before = linesRead;
+        try {
+            checkRotation();
+            if (channel != null) {
+                drain(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log " + path, e);
+        }
+        return linesRead - before;
+    }
+
+    private void checkRotation() throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // Renamed away and not re-created yet: keep reading the old file
+            return;
+        }
+        if (channel == null) {
+            open();
+            return;
+        }
+        Object key = attributes.fileKey();
+        if (key != null && !key.equals(fileKey)) {
+            drain(true);
+            rotations++;
+            logger.info("Log {} rotated after {} bytes", path, offset);
+            open();
+        } else if (attributes.size() < offset) {
+            generations.set(generations.size() - 1, null);
+            channel.close();
+            rotations++;
+            logger.warn("Log {} truncated from {} to {} bytes; earlier lines are no longer readable",
+                    path, offset, attributes.size());
+            open();
+        }
+    }
+
+    private boolean open() {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            generations.add(channel);
+            offset = 0;
+            return true;
+        } catch (NoSuchFileException e) {
+            logger.warn("Log {} does not exist yet", path);
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log " + path, e);
+        }
+    }
+
+    private long size() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log " + path, e);
+        }
+    }
+
+    /**
+     * Read complete lines up to the current end; a trailing partial line is
+     * left for the next call, unless the file has been rotated away and
+     * will never see its newline
+     */
+    private void drain(boolean rotatedAway) throws IOException {
+        int generation = generations.size() - 1;
+        long end = channel.size();
+        while (offset < end) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                return;
+            }
+            int lineStart = 0;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    indexLine(generation, offset, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            if (rotatedAway && offset + read >= end && lineStart < read) {
+                // Unterminated last line of the rotated file
+                indexLine(generation, offset, lineStart, read);
+                lineStart = read;
+            }
+            if (lineStart > 0) {
+                offset += lineStart;
+            } else if (read < buffer.capacity()) {
+                return;
+            } else if (buffer.capacity() < MAX_LINE_BYTES) {
+                buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+            } else {
+                logger.warn("Skipping {} bytes of an over-long line at offset {} in {}", read, offset, path);
+                offset += read;
+            }
+        }
+    }
+
+    private void indexLine(int generation, long base, int start, int end) {
+        linesRead++;
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        int keyAt = indexOf(buffer, start, end, sessionKey);
+        if (keyAt < 0) {
+            return;
+        }
+        int[] value = valueBounds(buffer, keyAt + sessionKey.length, end);
+        if (value == null) {
+            return;
+        }
+        byte[] id = new byte[value[1] - value[0]];
+        buffer.get(value[0], id);
+        index.computeIfAbsent(new String(id, StandardCharsets.UTF_8), k -> new SessionLines())
+                .add(generation, base + start, end - start);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Lines logged for a session so far, oldest first. Calls tail() first.
+     */
+    public List<String> getLines(String sessionId) {
+        tail();
+        SessionLines lines = index.get(sessionId);
+        if (lines == null) {
+            return Collections.emptyList();
+        }
+        return lines.read(this);
+    }
+
+    /**
+     * Whether any line of the session matches
+     */
+    public boolean anyLine(String sessionId, Predicate<String> condition) {
+        return getLines(sessionId).stream().anyMatch(condition);
+    }
+
+    /**
+     * Whether the session logged the intent (intent=greeting or "intent":"greeting")
+     */
+    public boolean hasIntent(String sessionId, String intent) {
+        return anyLine(sessionId, line -> intent.equals(field(line, "intent")));
+    }
+
+    /**
+     * Whether the session logged an ERROR line containing the text; null matches any error
+     */
+    public boolean hasError(String sessionId, String text) {
+        return anyLine(sessionId, line -> isError(line) && (text == null || line.contains(text)));
+    }
+
+    /**
+     * hasIntent, waiting up to log.await.timeout.ms for the line to be written
+     */
+    public boolean awaitIntent(String sessionId, String intent) {
+        return await(() -> hasIntent(sessionId, intent));
+    }
+
+    /**
+     * hasError, waiting up to log.await.timeout.ms for the line to be written
+     */
+    public boolean awaitError(String sessionId, String text) {
+        return await(() -> hasError(sessionId, text));
+    }
+
+    private boolean await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMs);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollIntervalMs));
+        }
+        return true;
+    }
+
+    public Set<String> getSessions() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    public int getLineCount(String sessionId) {
+        SessionLines lines = index.get(sessionId);
+        return lines == null ? 0 : lines.size();
+    }
+
+    /**
+     * Byte offset reached in the current file
+     */
+    public synchronized long getOffset() {
+        return offset;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public int getRotations() {
+        return rotations;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private synchronized String readLine(int generation, long position, int length) {
+        FileChannel source = generations.get(generation);
+        if (source == null) {
+            return null;
+        }
+        ByteBuffer line = ByteBuffer.allocate(length);
+        try {
+            while (line.hasRemaining()) {
+                if (source.read(line, position + line.position()) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read log " + path, e);
+        }
+        return new String(line.array(), 0, line.position(), StandardCharsets.UTF_8);
+    }
+
+    // ==================== PARSING ====================
+
+    /**
+     * Value of key=value or "key":"value" in a line, or null when absent.
+     * Quoted values run to the closing quote, unquoted ones to the next delimiter.
+     */
+    public static String field(String line, String key) {
+        int from = 0;
+        while (true) {
+            int at = line.indexOf(key, from);
+            if (at < 0) {
+                return null;
+            }
+            from = at + key.length();
+            if (at > 0 && isWordChar(line.charAt(at - 1))) {
+                continue;
+            }
+            int i = from;
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+            }
+            i = skipSpaces(line, i);
+            if (i >= line.length() || (line.charAt(i) != '=' && line.charAt(i) != ':')) {
+                continue;
+            }
+            i = skipSpaces(line, i + 1);
+            boolean quoted = i < line.length() && line.charAt(i) == '"';
+            if (quoted) {
+                i++;
+            }
+            int start = i;
+            while (i < line.length() && (quoted ? line.charAt(i) != '"' : !isDelimiter(line.charAt(i)))) {
+                i++;
+            }
+            return i > start ? line.substring(start, i) : null;
+        }
+    }
+
+    /**
+     * ERROR level, as level=ERROR, "level":"ERROR" or a bare ERROR token
+     */
+    public static boolean isError(String line) {
+        String level = field(line, "level");
+        if (level != null) {
+            return level.equalsIgnoreCase("ERROR");
+        }
+        return line.contains(" ERROR ") || line.contains("[ERROR]");
+    }
+
+    static int indexOf(ByteBuffer buffer, int start, int end, byte[] key) {
+        outer:
+        for (int i = start; i <= end - key.length; i++) {
+            for (int k = 0; k < key.length; k++) {
+                if (buffer.get(i + k) != key[k]) {
+                    continue outer;
+                }
+            }
+            if (i == start || !isWordChar((char) buffer.get(i - 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Start (inclusive) and end (exclusive) of the value after a key, same rules as field()
+     */
+    static int[] valueBounds(ByteBuffer buffer, int i, int end) {
+        if (i < end && buffer.get(i) == '"') {
+            i++;
+        }
+        while (i < end && buffer.get(i) == ' ') {
+            i++;
+        }
+        if (i >= end || (buffer.get(i) != '=' && buffer.get(i) != ':')) {
+            return null;
+        }
+        i++;
+        while (i < end && buffer.get(i) == ' ') {
+            i++;
+        }
+        boolean quoted = i < end && buffer.get(i) == '"';
+        if (quoted) {
+            i++;
+        }
+        int start = i;
+        while (i < end && (quoted ? buffer.get(i) != '"' : !isDelimiter((char) buffer.get(i)))) {
+            i++;
+        }
+        return i > start ? new int[]{start, i} : null;
+    }
+
+    private static int skipSpaces(String line, int i) {
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '"' || c == ' ' || c == ',' || c == '}' || c == ']' || c == ';' || c == '\t' || c == '&';
+    }
+
+    // ==================== INDEX ====================
+
+    /**
+     * Positions of one session's lines: file generation, byte offset and length
+     */
+    private static final class SessionLines {
+        private int[] generations = new int[4];
+        private long[] offsets = new long[4];
+        private int[] lengths = new int[4];
+        private int size;
+
+        synchronized void add(int generation, long offset, int length) {
+            if (size == offsets.length) {
+                generations = Arrays.copyOf(generations, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            generations[size] = generation;
+            offsets[size] = offset;
+            lengths[size] = length;
+            size++;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Copies the positions under this lock and reads outside it, since
+         * tail() holds the validator lock while adding here
+         */
+        List<String> read(LogValidator validator) {
+            int count;
+            int[] gens;
+            long[] positions;
+            int[] lens;
+            synchronized (this) {
+                count = size;
+                gens = generations;
+                positions = offsets;
+                lens = lengths;
+            }
+            List<String> lines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String line = validator.readLine(gens[i], positions[i], lens[i]);
+                if (line != null) {
+                    lines.add(line);
+                }
+            }
+            return lines;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (FileChannel generation : generations) {
+            if (generation == null) {
+                continue;
+            }
+            try {
+                generation.close();
+            } catch (IOException e) {
+                logger.warn("Cannot close log {}: {}", path, e.getMessage());
+            }
+        }
+        generations.clear();
+        channel = null;
+        index.clear();
+        logger.info("LogValidator closed ({} lines read, {} rotations)", linesRead, rotations);
+    }
+
+    @Override
+    public String toString() {
+        return "LogValidator{" + path + ", offset=" + offset + ", sessions=" + index.size() + '}';
+    }
+}
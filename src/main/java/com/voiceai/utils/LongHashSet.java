@@ -0,0 +1,120 @@
+package com.voiceai.utils;
+
+import java.util.Arrays;
+
+/**
+ * Long Hash Set - open-addressing set of primitive longs (token hashes)
+ *
+ * Linear probing over a power-of-two table kept at most half full; 0 marks a
+ * free slot, so the key 0 is tracked by a flag. No boxing and no per-entry
+ * objects. Not thread-safe while being filled; a set that is no longer
+ * modified can be read from any number of threads once safely published.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Sized to hold expectedSize keys without resizing
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        slots = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Add a key; returns false when it was already present
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int i = slot(key, mask);
+        long current;
+        while ((current = slots[i]) != 0) {
+            if (current == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = key;
+        if (++size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return hasZero;
+        }
+        int i = slot(key, mask);
+        long current;
+        while ((current = slots[i]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all keys, keeping the table for reuse
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(slots, 0L);
+            size = 0;
+            hasZero = false;
+        }
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length << 1];
+        mask = slots.length - 1;
+        for (long key : old) {
+            if (key != 0) {
+                int i = slot(key, mask);
+                while (slots[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = key;
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        // Fibonacci hashing: spread keys whose low bits are similar
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + slots.length + '}';
+    }
+}
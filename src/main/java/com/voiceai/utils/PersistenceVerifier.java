@@ -0,0 +1,216 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.utils.DBValidator.ConversationExpectation;
+import com.voiceai.utils.DBValidator.VerificationResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Persistence Verifier - waits for conversation turns to become visible in the database
+ *
+ * Call expect() right after the API response. The expectation is queued and
+ * a single background thread polls the conversations table for everything
+ * outstanding in one batched query, backing off while nothing new shows up.
+ * The returned future completes when the row is visible, or with an
+ * unlogged result after db.persistence.timeout.ms. The time from expect()
+ * to the poll that saw the row is recorded as write-visibility lag; it is an
+ * upper bound with the resolution of the current poll interval.
+ */
+public class PersistenceVerifier implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(PersistenceVerifier.class);
+
+    /**
+     * Batched lookup of expectations; DBValidator::verifyConversationsLogged in practice
+     */
+    @FunctionalInterface
+    public interface BatchLookup {
+        Map<ConversationExpectation, VerificationResult> lookup(Collection<ConversationExpectation> expectations);
+    }
+
+    private final BatchLookup lookup;
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final long timeoutNanos;
+
+    private final ScheduledExecutorService poller;
+    private final Queue<Pending> incoming = new ConcurrentLinkedQueue<>();
+    private final List<Pending> waiting = new ArrayList<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LatencyRecorder visibilityLag = new LatencyRecorder("db-visibility-lag");
+    private volatile int waitingCount;
+    private volatile boolean closed;
+    private long delayMs;
+
+    public PersistenceVerifier(DBValidator dbValidator) {
+        this(dbValidator::verifyConversationsLogged, TestConfig.getInstance());
+    }
+
+    public PersistenceVerifier(BatchLookup lookup, TestConfig config) {
+        this(lookup, config.getPersistencePollInitialMs(), config.getPersistencePollMaxMs(),
+                config.getPersistenceTimeoutMs());
+    }
+
+    public PersistenceVerifier(BatchLookup lookup, long initialDelayMs, long maxDelayMs, long timeoutMs) {
+        this.lookup = lookup;
+        this.initialDelayMs = Math.max(1, initialDelayMs);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.delayMs = this.initialDelayMs;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence-verifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a turn that should appear in the conversations table.
+     * Never blocks; expectedIntent may be null to check presence only.
+     */
+    public CompletableFuture<VerificationResult> expect(String sessionId, String userInput, String expectedIntent) {
+        Pending pending = new Pending(new ConversationExpectation(sessionId, userInput, expectedIntent), System.nanoTime());
+        if (closed) {
+            pending.future.completeExceptionally(new RejectedExecutionException("PersistenceVerifier is closed"));
+            return pending.future;
+        }
+        incoming.add(pending);
+        if (scheduled.compareAndSet(false, true)) {
+            schedule(initialDelayMs);
+        }
+        return pending.future;
+    }
+
+    /**
+     * Write-visibility lag of every turn seen so far
+     */
+    public LatencyRecorder getVisibilityLagRecorder() {
+        return visibilityLag;
+    }
+
+    public int getOutstanding() {
+        return incoming.size() + waitingCount;
+    }
+
+    // ==================== POLLING ====================
+
+    private void schedule(long delay) {
+        try {
+            poller.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    private synchronized void poll() {
+        boolean newArrivals = false;
+        for (Pending next = incoming.poll(); next != null; next = incoming.poll()) {
+            waiting.add(next);
+            newArrivals = true;
+        }
+        waitingCount = waiting.size();
+        if (waiting.isEmpty()) {
+            scheduled.set(false);
+            // An expect() may have queued after the drain but before the flag cleared
+            if (!incoming.isEmpty() && scheduled.compareAndSet(false, true)) {
+                schedule(initialDelayMs);
+            }
+            return;
+        }
+
+        Map<ConversationExpectation, VerificationResult> results;
+        try {
+            results = lookup.lookup(new LinkedHashSet<>(expectationsOf(waiting)));
+        } catch (RuntimeException e) {
+            logger.warn("Persistence poll failed: {}", e.getMessage());
+            results = Map.of();
+        }
+        long now = System.nanoTime();
+
+        boolean progress = false;
+        List<Pending> finished = new ArrayList<>();
+        List<VerificationResult> outcomes = new ArrayList<>();
+        for (Iterator<Pending> it = waiting.iterator(); it.hasNext(); ) {
+            Pending pending = it.next();
+            VerificationResult result = results.get(pending.expectation);
+            if (result != null && result.isLogged()) {
+                visibilityLag.recordNanos(now - pending.respondedAtNanos);
+                finished.add(pending);
+                outcomes.add(result);
+                it.remove();
+                progress = true;
+            } else if (now - pending.respondedAtNanos >= timeoutNanos) {
+                String reason = result != null && result.getError() != null
+                        ? result.getError()
+                        : "Not visible after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms";
+                finished.add(pending);
+                outcomes.add(new VerificationResult(pending.expectation, null, 0, reason));
+                it.remove();
+            }
+        }
+
+        // Publish the new count before waking anyone, so a woken caller never sees itself as outstanding
+        waitingCount = waiting.size();
+        for (int i = 0; i < finished.size(); i++) {
+            finished.get(i).future.complete(outcomes.get(i));
+        }
+        delayMs = progress || newArrivals ? initialDelayMs : Math.min(maxDelayMs, delayMs * 2);
+        schedule(delayMs);
+    }
+
+    private static List<ConversationExpectation> expectationsOf(List<Pending> pendings) {
+        List<ConversationExpectation> expectations = new ArrayList<>(pendings.size());
+        for (Pending pending : pendings) {
+            expectations.add(pending.expectation);
+        }
+        return expectations;
+    }
+
+    /**
+     * Stop polling and fail anything still outstanding
+     */
+    @Override
+    public void close() {
+        closed = true;
+        poller.shutdownNow();
+        RejectedExecutionException stopped = new RejectedExecutionException("PersistenceVerifier closed");
+        for (Pending next = incoming.poll(); next != null; next = incoming.poll()) {
+            next.future.completeExceptionally(stopped);
+        }
+        synchronized (this) {
+            waiting.forEach(pending -> pending.future.completeExceptionally(stopped));
+            waiting.clear();
+            waitingCount = 0;
+        }
+        if (visibilityLag.getCount() > 0) {
+            logger.info("Write-visibility lag: {}", visibilityLag.report());
+        }
+    }
+
+    private static final class Pending {
+        private final ConversationExpectation expectation;
+        private final long respondedAtNanos;
+        private final CompletableFuture<VerificationResult> future = new CompletableFuture<>();
+
+        private Pending(ConversationExpectation expectation, long respondedAtNanos) {
+            this.expectation = expectation;
+            this.respondedAtNanos = respondedAtNanos;
+        }
+    }
+}
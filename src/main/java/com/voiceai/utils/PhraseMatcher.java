@@ -0,0 +1,340 @@
+package com.voiceai.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Phrase Matcher - Aho-Corasick automaton finding every phrase of a set in one pass over a text
+ *
+ * Matching is case-insensitive and on whole words: a phrase that starts or
+ * ends with a letter, digit or underscore only matches where the text has a
+ * word boundary, so "order" is not found in "reorder". Whitespace of any kind
+ * matches a space and typographic apostrophes match "'", so "don't know" is
+ * also found across a line break or with a curly apostrophe. The cost of a
+ * scan depends on the text length and the number of hits, not on the number
+ * of phrases.
+ *
+ * A matcher is immutable and thread-safe once compiled. of() compiles each
+ * distinct phrase list once and shares it (up to 1024 lists).
+ */
+public final class PhraseMatcher {
+
+    private static final int MAX_CACHED = 1024;
+    private static final ConcurrentMap<List<String>, PhraseMatcher> CACHE = new ConcurrentHashMap<>();
+
+    private final List<String> phrases;
+    private final int[] lengths;
+    private final boolean[] wordStart;
+    private final boolean[] wordEnd;
+
+    // Automaton: the edges of state s are edgeChars/edgeTargets[edgeOffsets[s] .. edgeOffsets[s + 1]), sorted
+    private final int[] edgeOffsets;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+
+    /**
+     * Compile a matcher; blank phrases and repeats (after normalization) are dropped
+     */
+    public PhraseMatcher(Collection<String> phrases) {
+        List<String> kept = new ArrayList<>();
+        List<String> normalized = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String phrase : phrases) {
+            String key = normalize(phrase);
+            if (!key.isBlank() && seen.add(key)) {
+                kept.add(phrase);
+                normalized.add(key);
+            }
+        }
+        this.phrases = Collections.unmodifiableList(kept);
+        int count = kept.size();
+        lengths = new int[count];
+        wordStart = new boolean[count];
+        wordEnd = new boolean[count];
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(-1);
+        for (int p = 0; p < count; p++) {
+            String key = normalized.get(p);
+            lengths[p] = key.length();
+            wordStart[p] = TextTokenizer.isTokenChar(key.charAt(0));
+            wordEnd[p] = TextTokenizer.isTokenChar(key.charAt(key.length() - 1));
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = trie.get(state).get(key.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(key.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    terminal.add(-1);
+                }
+                state = next;
+            }
+            terminal.set(state, p);
+        }
+
+        int states = trie.size();
+        edgeOffsets = new int[states + 1];
+        for (int s = 0; s < states; s++) {
+            edgeOffsets[s + 1] = edgeOffsets[s] + trie.get(s).size();
+        }
+        edgeChars = new char[edgeOffsets[states]];
+        edgeTargets = new int[edgeOffsets[states]];
+        output = new int[states];
+        for (int s = 0; s < states; s++) {
+            int e = edgeOffsets[s];
+            for (Map.Entry<Character, Integer> edge : trie.get(s).entrySet()) {
+                edgeChars[e] = edge.getKey();
+                edgeTargets[e] = edge.getValue();
+                e++;
+            }
+            output[s] = terminal.get(s);
+        }
+
+        // Failure links in breadth-first order: the longest proper suffix that is also a trie path
+        fail = new int[states];
+        outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeOffsets[0]; e < edgeOffsets[1]; e++) {
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeOffsets[state]; e < edgeOffsets[state + 1]; e++) {
+                int child = edgeTargets[e];
+                int f = fail[state];
+                int next;
+                while ((next = transition(f, edgeChars[e])) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = next < 0 ? 0 : next;
+                outputLink[child] = output[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Shared compiled matcher for a phrase list
+     */
+    public static PhraseMatcher of(Collection<String> phrases) {
+        List<String> key = List.copyOf(phrases);
+        PhraseMatcher matcher = CACHE.get(key);
+        if (matcher != null) {
+            return matcher;
+        }
+        if (CACHE.size() >= MAX_CACHED) {
+            return new PhraseMatcher(key);
+        }
+        return CACHE.computeIfAbsent(key, PhraseMatcher::new);
+    }
+
+    public static PhraseMatcher of(String... phrases) {
+        return of(Arrays.asList(phrases));
+    }
+
+    // ==================== MATCHING ====================
+
+    /**
+     * Every occurrence of every phrase, overlapping ones included, ordered by end position
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        scan(text, (phrase, start, end) -> {
+            matches.add(new Match(phrases.get(phrase), start, end));
+            return true;
+        });
+        return matches;
+    }
+
+    /**
+     * First occurrence of each phrase found, keyed by phrase in phrase order
+     */
+    public Map<String, Match> firstMatches(CharSequence text) {
+        Match[] first = new Match[phrases.size()];
+        int[] remaining = {phrases.size()};
+        scan(text, (phrase, start, end) -> {
+            if (first[phrase] == null) {
+                first[phrase] = new Match(phrases.get(phrase), start, end);
+                remaining[0]--;
+            }
+            return remaining[0] > 0;
+        });
+        Map<String, Match> found = new LinkedHashMap<>();
+        for (Match match : first) {
+            if (match != null) {
+                found.put(match.getPhrase(), match);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Phrases not found in the text, in phrase order; stops scanning once all are found
+     */
+    public List<String> missing(CharSequence text) {
+        boolean[] found = new boolean[phrases.size()];
+        int[] remaining = {phrases.size()};
+        if (remaining[0] > 0) {
+            scan(text, (phrase, start, end) -> {
+                if (!found[phrase]) {
+                    found[phrase] = true;
+                    remaining[0]--;
+                }
+                return remaining[0] > 0;
+            });
+        }
+        List<String> missing = new ArrayList<>(remaining[0]);
+        for (int p = 0; p < found.length; p++) {
+            if (!found[p]) {
+                missing.add(phrases.get(p));
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Whether any phrase occurs; stops at the first hit
+     */
+    public boolean matchesAny(CharSequence text) {
+        boolean[] hit = {false};
+        scan(text, (phrase, start, end) -> {
+            hit[0] = true;
+            return false;
+        });
+        return hit[0];
+    }
+
+    public List<String> getPhrases() {
+        return phrases;
+    }
+
+    private interface Hit {
+        /**
+         * Called per whole-word occurrence; return false to stop the scan
+         */
+        boolean on(int phrase, int start, int end);
+    }
+
+    private void scan(CharSequence text, Hit hit) {
+        if (text == null || phrases.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = normalize(text.charAt(i));
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int phrase = output[s];
+                int end = i + 1;
+                int start = end - lengths[phrase];
+                if (isBoundary(text, start, end, phrase) && !hit.on(phrase, start, end)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isBoundary(CharSequence text, int start, int end, int phrase) {
+        if (wordStart[phrase] && start > 0 && TextTokenizer.isTokenChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !wordEnd[phrase] || end == text.length() || !TextTokenizer.isTokenChar(text.charAt(end));
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeOffsets[state];
+        int high = edgeOffsets[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edge = edgeChars[mid];
+            if (edge < c) {
+                low = mid + 1;
+            } else if (edge > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String phrase) {
+        StringBuilder key = new StringBuilder(phrase.length());
+        for (int i = 0; i < phrase.length(); i++) {
+            key.append(normalize(phrase.charAt(i)));
+        }
+        return key.toString();
+    }
+
+    private static char normalize(char c) {
+        if (c < 128) {
+            if (c >= 'A' && c <= 'Z') {
+                return (char) (c | 0x20);
+            }
+            return c == '\t' || c == '\n' || c == '\r' ? ' ' : c;
+        }
+        if (c == '\u2019' || c == '\u2018') {
+            return '\'';
+        }
+        return Character.isSpaceChar(c) ? ' ' : TextTokenizer.lower(c);
+    }
+
+    @Override
+    public String toString() {
+        return "PhraseMatcher{phrases=" + phrases.size() + ", states=" + fail.length + '}';
+    }
+
+    /**
+     * One occurrence of a phrase: [start, end) in the scanned text
+     */
+    public static final class Match {
+        private final String phrase;
+        private final int start;
+        private final int end;
+
+        Match(String phrase, int start, int end) {
+            this.phrase = phrase;
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getPhrase() {
+            return phrase;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return phrase + "@" + start + ".." + end;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.voiceai.utils;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rate Limiter - token bucket for client-side request pacing
+ *
+ * Tokens accrue at the configured rate up to the burst size. acquire() takes
+ * one token, parking the caller until it is available; callers queue behind
+ * each other by reserving future tokens, so the sending rate stays smooth
+ * however many threads share the limiter. The rate can be changed while the
+ * limiter is in use, and pauseUntil() stops all sending until a deadline,
+ * which is how a server's Retry-After is honoured.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double burst;
+    private double ratePerSecond;
+    private double tokens;
+    private long refilledAt;
+    private volatile long pausedUntil;
+
+    public RateLimiter(double ratePerSecond, double burst) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.refilledAt = System.nanoTime();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Take one token, waiting as long as needed. Returns the nanoseconds waited.
+     */
+    public long acquire() {
+        long start = System.nanoTime();
+        parkUntil(start + reserve(start));
+        // A pause that started while this caller was queued still applies
+        long paused;
+        while ((paused = pausedUntil) - System.nanoTime() > 0) {
+            parkUntil(paused);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Take one token only if it is available now
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        refill(now);
+        if (tokens < 1 || now - refilledAt < 0) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Change the rate; tokens accrued so far are kept
+     */
+    public synchronized void setRate(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+        refill(System.nanoTime());
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public synchronized double getRate() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Send nothing before the deadline (System.nanoTime() based) and drop any saved burst
+     */
+    public synchronized void pauseUntil(long deadlineNanos) {
+        if (deadlineNanos - pausedUntil > 0) {
+            pausedUntil = deadlineNanos;
+        }
+        refill(System.nanoTime());
+        tokens = Math.min(tokens, 0);
+        if (deadlineNanos - refilledAt > 0) {
+            refilledAt = deadlineNanos;
+        }
+    }
+
+    /**
+     * Claim the next token and return how long the caller must wait for it
+     */
+    private synchronized long reserve(long now) {
+        refill(now);
+        tokens -= 1;
+        long wait = Math.max(0, refilledAt - now);
+        if (tokens < 0) {
+            wait += (long) (-tokens * NANOS_PER_SECOND / ratePerSecond);
+        }
+        return wait;
+    }
+
+    /**
+     * Add the tokens accrued since the last refill; refilledAt may lie in the
+     * future during a pause, in which case nothing accrues yet
+     */
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * ratePerSecond / NANOS_PER_SECOND);
+            refilledAt = now;
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Milliseconds to wait from a Retry-After header (delay-seconds or HTTP-date),
+     * or -1 when the header is missing or unreadable
+     */
+    public static long parseRetryAfterMs(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed)));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, at.toInstant().toEpochMilli() - System.currentTimeMillis());
+            } catch (DateTimeParseException notDate) {
+                return -1;
+            }
+        }
+    }
+}
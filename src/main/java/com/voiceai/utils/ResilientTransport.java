@@ -0,0 +1,333 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Resilient Transport - timeouts, retries and hedging around another VoiceTransport
+ *
+ * Every attempt gets the read timeout of its endpoint, shortened to whatever
+ * is left of the call's total budget (test.timeout), so no call can hang a
+ * thread. Failed attempts are retried under the RetryPolicy, honouring a
+ * Retry-After header when it asks for a longer wait than the backoff.
+ * Idempotent requests are hedged: if the first copy has not answered within
+ * hedge.delay.ms a second copy is sent and the first response wins.
+ *
+ * First attempts, retries and hedges are timed in separate recorders, so the
+ * first-attempt distribution reflects the server alone and is not hidden by
+ * a faster hedge or inflated by backoff. The call recorder holds what the
+ * caller saw end to end.
+ */
+public class ResilientTransport implements VoiceTransport {
+
+    private static final Logger logger = LogManager.getLogger(ResilientTransport.class);
+
+    private final VoiceTransport delegate;
+    private final RetryPolicy policy;
+    private final Map<String, Long> readTimeouts;
+    private final long defaultReadTimeoutMs;
+    private final long hedgeDelayMs;
+
+    private final LatencyRecorder firstAttempts = new LatencyRecorder("first-attempt");
+    private final LatencyRecorder retryAttempts = new LatencyRecorder("retry");
+    private final LatencyRecorder hedgeAttempts = new LatencyRecorder("hedge");
+    private final LatencyRecorder calls = new LatencyRecorder("call");
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public ResilientTransport(VoiceTransport delegate, TestConfig config) {
+        this(delegate, RetryPolicy.fromConfig(config), endpointTimeouts(config),
+                config.getTransportReadTimeoutMs(), config.getHedgeDelayMs());
+    }
+
+    public ResilientTransport(VoiceTransport delegate, RetryPolicy policy, Map<String, Long> readTimeouts,
+            long defaultReadTimeoutMs, long hedgeDelayMs) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.readTimeouts = new HashMap<>(readTimeouts);
+        this.defaultReadTimeoutMs = defaultReadTimeoutMs;
+        this.hedgeDelayMs = hedgeDelayMs;
+        logger.info("ResilientTransport initialized ({}, hedge after {}ms)", policy, hedgeDelayMs);
+    }
+
+    private static Map<String, Long> endpointTimeouts(TestConfig config) {
+        Map<String, Long> timeouts = new HashMap<>();
+        timeouts.put(config.getChatEndpoint(), config.getTransportReadTimeoutMs("chat"));
+        timeouts.put(config.getSessionEndpoint(), config.getTransportReadTimeoutMs("session"));
+        timeouts.put(config.getHistoryEndpoint(), config.getTransportReadTimeoutMs("history"));
+        return timeouts;
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(policy.getTotalTimeoutMs());
+        for (int attempt = 0; ; attempt++) {
+            TransportResponse response;
+            try {
+                TransportRequest bounded = bound(request, deadline);
+                response = isHedged(request)
+                        ? join(hedgedAttempt(bounded, attempt))
+                        : timedAttempt(bounded, attempt);
+            } catch (RuntimeException e) {
+                long delayMs = retryDelayMs(request, attempt, null, e, deadline);
+                if (delayMs < 0) {
+                    calls.recordSince(start);
+                    throw e;
+                }
+                sleep(delayMs);
+                continue;
+            }
+            long delayMs = retryDelayMs(request, attempt, response, null, deadline);
+            if (delayMs < 0) {
+                calls.recordSince(start);
+                return response;
+            }
+            sleep(delayMs);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(policy.getTotalTimeoutMs());
+        return attemptAsync(request, 0, deadline)
+                .whenComplete((response, error) -> calls.recordSince(start));
+    }
+
+    // ==================== ATTEMPTS ====================
+
+    private CompletableFuture<TransportResponse> attemptAsync(TransportRequest request, int attempt, long deadline) {
+        CompletableFuture<TransportResponse> future;
+        try {
+            TransportRequest bounded = bound(request, deadline);
+            future = isHedged(request) ? hedgedAttempt(bounded, attempt) : timedAttemptAsync(bounded, attempt);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((response, error) -> {
+            Throwable cause = unwrap(error);
+            long delayMs = retryDelayMs(request, attempt, response, cause, deadline);
+            if (delayMs < 0) {
+                return error == null
+                        ? CompletableFuture.completedFuture(response)
+                        : CompletableFuture.<TransportResponse>failedFuture(cause);
+            }
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> attemptAsync(request, attempt + 1, deadline));
+        }).thenCompose(next -> next);
+    }
+
+    private TransportResponse timedAttempt(TransportRequest request, int attempt) {
+        long start = System.nanoTime();
+        try {
+            return delegate.send(request);
+        } finally {
+            recordAttempt(attempt, start);
+        }
+    }
+
+    private CompletableFuture<TransportResponse> timedAttemptAsync(TransportRequest request, int attempt) {
+        long start = System.nanoTime();
+        return delegate.sendAsync(request).whenComplete((response, error) -> recordAttempt(attempt, start));
+    }
+
+    /**
+     * Send the request, and a second copy if the first has not answered within
+     * the hedge delay. Completes with the first response; fails only when every
+     * copy that was sent has failed.
+     */
+    private CompletableFuture<TransportResponse> hedgedAttempt(TransportRequest request, int attempt) {
+        CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+        AtomicBoolean hedgeSent = new AtomicBoolean();
+        AtomicBoolean answered = new AtomicBoolean();
+        AtomicInteger outstanding = new AtomicInteger(1);
+
+        timedAttemptAsync(request, attempt).whenComplete((response, error) -> {
+            if (error == null) {
+                if (answered.compareAndSet(false, true)) {
+                    result.complete(response);
+                }
+            } else if (hedgeSent.compareAndSet(false, true) || outstanding.decrementAndGet() == 0) {
+                // No hedge in flight (and none will be sent now), or the hedge failed as well
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+
+        CompletableFuture.delayedExecutor(hedgeDelayMs, TimeUnit.MILLISECONDS).execute(() -> {
+            outstanding.incrementAndGet();
+            if (result.isDone() || !hedgeSent.compareAndSet(false, true)) {
+                outstanding.decrementAndGet();
+                return;
+            }
+            hedges.increment();
+            long start = System.nanoTime();
+            delegate.sendAsync(request).whenComplete((response, error) -> {
+                hedgeAttempts.recordSince(start);
+                if (error == null) {
+                    if (answered.compareAndSet(false, true)) {
+                        // Counted before completing, so callers see consistent stats
+                        hedgeWins.increment();
+                        result.complete(response);
+                    }
+                } else if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(unwrap(error));
+                }
+            });
+        });
+        return result;
+    }
+
+    private void recordAttempt(int attempt, long startNanos) {
+        (attempt == 0 ? firstAttempts : retryAttempts).recordSince(startNanos);
+    }
+
+    // ==================== POLICY ====================
+
+    private boolean isHedged(TransportRequest request) {
+        return hedgeDelayMs > 0 && request.isIdempotent();
+    }
+
+    /**
+     * Give the attempt its endpoint read timeout, capped by the remaining budget
+     */
+    private TransportRequest bound(TransportRequest request, long deadlineNanos) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new UncheckedIOException(new HttpTimeoutException(request.getMethod() + " " + request.getPath()
+                    + " exceeded its " + policy.getTotalTimeoutMs() + "ms budget"));
+        }
+        long readTimeoutMs = request.getTimeoutMs() > 0
+                ? request.getTimeoutMs()
+                : readTimeouts.getOrDefault(request.getPath(), defaultReadTimeoutMs);
+        return request.withTimeoutMs(readTimeoutMs > 0 ? Math.min(readTimeoutMs, remainingMs) : remainingMs);
+    }
+
+    /**
+     * Milliseconds to wait before retrying, or -1 when the outcome is final
+     */
+    private long retryDelayMs(TransportRequest request, int attempt, TransportResponse response,
+            Throwable error, long deadlineNanos) {
+        if (error != null && isTimeout(error)) {
+            timeouts.increment();
+        }
+        boolean retryable = error != null
+                ? policy.isRetryable(request, error)
+                : policy.isRetryable(request, response);
+        if (!retryable || attempt >= policy.getMaxRetries()) {
+            return -1;
+        }
+        long delayMs = policy.backoffMs(attempt + 1, ThreadLocalRandom.current());
+        if (response != null) {
+            delayMs = Math.max(delayMs, RateLimiter.parseRetryAfterMs(response.getHeader("Retry-After")));
+        }
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs) >= deadlineNanos) {
+            return -1;
+        }
+        retries.increment();
+        logger.debug("Retrying {} {} in {}ms (attempt {})", request.getMethod(), request.getPath(),
+                delayMs, attempt + 2);
+        return delayMs;
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static TransportResponse join(CompletableFuture<TransportResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
+    private static void sleep(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Interrupted while backing off");
+            }
+        }
+    }
+
+    // ==================== STATS ====================
+
+    /**
+     * Latency of first attempts only: the server's own latency, unmasked by retries or hedges
+     */
+    public LatencyRecorder getFirstAttemptLatency() {
+        return firstAttempts;
+    }
+
+    public LatencyRecorder getRetryLatency() {
+        return retryAttempts;
+    }
+
+    public LatencyRecorder getHedgeLatency() {
+        return hedgeAttempts;
+    }
+
+    /**
+     * End-to-end latency of each call as the caller saw it, backoff included
+     */
+    public LatencyRecorder getCallLatency() {
+        return calls;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public VoiceTransport getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
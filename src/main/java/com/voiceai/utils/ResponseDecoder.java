@@ -0,0 +1,125 @@
+package com.voiceai.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.models.VoiceResponse;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Response Decoder - single-pass Jackson decoding of API response bodies
+ *
+ * The readers are built once and shared; ObjectReader is immutable and safe
+ * to use from any number of threads. Decode a body once and run every
+ * validation against the resulting object instead of re-parsing it through
+ * REST Assured's JsonPath for each assertion.
+ */
+public final class ResponseDecoder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader VOICE_RESPONSE_READER = MAPPER.readerFor(VoiceResponse.class);
+    private static final ObjectReader TREE_READER = MAPPER.reader();
+    private static final JsonFactory JSON_FACTORY = MAPPER.getFactory();
+
+    private ResponseDecoder() {
+    }
+
+    /**
+     * Shared mapper, for callers that need a writer or a reader of another type
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static VoiceResponse decode(byte[] body) {
+        try {
+            return VOICE_RESPONSE_READER.readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode voice response", e);
+        }
+    }
+
+    public static VoiceResponse decode(TransportResponse response) {
+        return decode(response.getBody());
+    }
+
+    public static VoiceResponse decode(Response response) {
+        return decode(response.asByteArray());
+    }
+
+    /**
+     * Decode a voice response from a tree that has already been parsed
+     */
+    public static VoiceResponse decode(JsonNode tree) {
+        try {
+            return VOICE_RESPONSE_READER.readValue(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot decode voice response", e);
+        }
+    }
+
+    public static JsonNode readTree(byte[] body) {
+        try {
+            return TREE_READER.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse response body", e);
+        }
+    }
+
+    /**
+     * Stream the top-level session_id out of a body without building a tree.
+     * Returns null when the body has no top-level session_id string.
+     */
+    public static String sessionId(byte[] body) {
+        return topLevelText(body, "session_id");
+    }
+
+    /**
+     * Stream the top-level response_time_ms (server-reported latency) out of a body.
+     * Returns -1 when the field is missing or not a number.
+     */
+    public static long responseTimeMs(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken value = seekTopLevel(parser, "response_time_ms");
+            return value != null && value.isNumeric() ? parser.getLongValue() : -1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse response body", e);
+        }
+    }
+
+    private static String topLevelText(byte[] body, String field) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return seekTopLevel(parser, field) == JsonToken.VALUE_STRING ? parser.getText() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot parse response body", e);
+        }
+    }
+
+    /**
+     * Advance to the value of a top-level field, skipping nested structures.
+     * Returns the value token, or null when the field is absent.
+     */
+    private static JsonToken seekTopLevel(JsonParser parser, String field) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals(name)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Assured Transport - VoiceTransport on a pre-built RequestSpecification
+ *
+ * Keeps the REST Assured request/response filters (logging, Allure) in the
+ * path. REST Assured opens a new connection per call, so prefer
+ * HttpClientTransport for load runs.
+ */
+public class RestAssuredTransport implements VoiceTransport {
+
+    private final RequestSpecification spec;
+
+    public RestAssuredTransport(RequestSpecification spec) {
+        this.spec = spec;
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        RequestSpecification call = RestAssured.given().spec(spec);
+        if (!request.getQueryParams().isEmpty()) {
+            call.queryParams(request.getQueryParams());
+        }
+        if (request.getBody() != null) {
+            call.body(request.getBody());
+        }
+        if (request.getTimeoutMs() > 0) {
+            call.config(withSocketTimeout(request.getTimeoutMs()));
+        }
+
+        long start = System.nanoTime();
+        Response response = call.request(request.getMethod(), request.getPath());
+        byte[] body = response.asByteArray();
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        return new TransportResponse(response.getStatusCode(), headers, body, elapsed);
+    }
+
+    /**
+     * The spec's own config with the read timeout of this request
+     */
+    private RestAssuredConfig withSocketTimeout(long timeoutMs) {
+        RestAssuredConfig base = SpecificationQuerier.query(spec).getConfig();
+        if (base == null) {
+            base = RestAssuredConfig.config();
+        }
+        HttpClientConfig httpClient = base.getHttpClientConfig()
+                .setParam("http.socket.timeout", (int) Math.min(Integer.MAX_VALUE, timeoutMs));
+        return base.httpClient(httpClient);
+    }
+
+    @Override
+    public void close() {
+        // REST Assured does not pool connections
+    }
+}
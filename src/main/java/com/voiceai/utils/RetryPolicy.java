@@ -0,0 +1,109 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Retry Policy - when to retry a call and how long to back off
+ *
+ * A call gets up to maxRetries further attempts, all within totalTimeoutMs.
+ * Idempotent requests are retried on any retryable status and on failures
+ * without a response. A POST may already have been processed behind a 502 or
+ * 504 from a gateway, so it is only retried when the server said it did not
+ * handle it (503, or 429 with Retry-After) or when the connection was never
+ * established; a chat turn is not sent twice. Backoff is exponential with
+ * full jitter: a uniform draw between 0 and min(max, initial * 2^retry).
+ */
+public class RetryPolicy {
+
+    private final int maxRetries;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Set<Integer> retryStatuses;
+    private final long totalTimeoutMs;
+
+    public RetryPolicy(int maxRetries, long initialBackoffMs, long maxBackoffMs,
+            Set<Integer> retryStatuses, long totalTimeoutMs) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, maxBackoffMs);
+        this.retryStatuses = Collections.unmodifiableSet(new HashSet<>(retryStatuses));
+        this.totalTimeoutMs = totalTimeoutMs;
+    }
+
+    /**
+     * Policy from test.retry.count, test.timeout and the retry.* properties
+     */
+    public static RetryPolicy fromConfig(TestConfig config) {
+        return new RetryPolicy(config.getRetryCount(), config.getRetryBackoffInitialMs(),
+                config.getRetryBackoffMaxMs(), config.getRetryStatuses(), config.getTestTimeoutMs());
+    }
+
+    /**
+     * Single attempt, bounded by the given total timeout
+     */
+    public static RetryPolicy noRetries(long totalTimeoutMs) {
+        return new RetryPolicy(0, 0, 0, Collections.emptySet(), totalTimeoutMs);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getTotalTimeoutMs() {
+        return totalTimeoutMs;
+    }
+
+    public boolean isRetryable(TransportRequest request, TransportResponse response) {
+        int statusCode = response.getStatusCode();
+        if (!retryStatuses.contains(statusCode)) {
+            return false;
+        }
+        if (request.isIdempotent()) {
+            return true;
+        }
+        return statusCode == 503 || (statusCode == 429 && response.getHeader("Retry-After") != null);
+    }
+
+    public boolean isRetryable(TransportRequest request, Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+            if (cause instanceof IOException) {
+                return request.isIdempotent();
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Jittered delay before the given retry (1 = first retry)
+     */
+    public long backoffMs(int retry, Random random) {
+        long ceiling = initialBackoffMs << Math.min(retry - 1, 30);
+        ceiling = Math.min(maxBackoffMs, ceiling < 0 ? maxBackoffMs : ceiling);
+        return ceiling == 0 ? 0 : (long) (random.nextDouble() * (ceiling + 1));
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxRetries=" + maxRetries +
+                ", backoff=" + initialBackoffMs + ".." + maxBackoffMs + "ms" +
+                ", retryStatuses=" + retryStatuses +
+                ", totalTimeoutMs=" + totalTimeoutMs +
+                '}';
+    }
+}
@@ -0,0 +1,198 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.LatencyReport;
+import com.voiceai.models.Scenario;
+import com.voiceai.models.ScenarioResult;
+import com.voiceai.models.ScenarioStep;
+import com.voiceai.models.VoiceResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scenario Runner - runs a multi-turn scenario many times concurrently
+ *
+ * Each run creates its own session and sends the scenario's turns in order,
+ * waiting each step's think time before sending it. Runs are driven by a
+ * fixed number of virtual users, each starting its next run as soon as the
+ * previous one finishes. Everything is chained on AsyncAPIClient futures and
+ * think times are scheduled with a delayed executor, so thousands of
+ * conversations can be in progress without a thread per conversation. A run
+ * stops at the first step whose response misses its expectations.
+ */
+public class ScenarioRunner {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioRunner.class);
+    private static final int MAX_FAILURE_SAMPLES = 20;
+
+    private final AsyncAPIClient client;
+    private final TestConfig config;
+
+    public ScenarioRunner(APIClient apiClient) {
+        this(new AsyncAPIClient(apiClient), TestConfig.getInstance());
+    }
+
+    public ScenarioRunner(AsyncAPIClient client, TestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    /**
+     * Run with scenario.count and scenario.concurrency from config.properties
+     */
+    public ScenarioResult run(Scenario scenario) {
+        return run(scenario, config.getScenarioCount(), config.getScenarioConcurrency());
+    }
+
+    public ScenarioResult run(Scenario scenario, int count, int concurrency) {
+        return runAsync(scenario, count, concurrency).join();
+    }
+
+    /**
+     * Start count runs of the scenario with at most concurrency in progress
+     */
+    public CompletableFuture<ScenarioResult> runAsync(Scenario scenario, int count, int concurrency) {
+        if (scenario.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("Scenario has no steps: " + scenario.getName());
+        }
+        Run run = new Run(scenario, count);
+        int users = Math.max(1, Math.min(concurrency, count));
+        logger.info("Running scenario '{}' {} times with {} virtual users", scenario.getName(), count, users);
+
+        CompletableFuture<?>[] virtualUsers = new CompletableFuture<?>[users];
+        for (int i = 0; i < users; i++) {
+            virtualUsers[i] = nextRun(run);
+        }
+        return CompletableFuture.allOf(virtualUsers).thenApply(ignored -> {
+            ScenarioResult result = run.result();
+            logger.info("Scenario '{}' finished: {} passed, {} failed, {} errors",
+                    scenario.getName(), result.getPassed(), result.getFailed(), result.getErrors());
+            return result;
+        });
+    }
+
+    // ==================== EXECUTION ====================
+
+    /**
+     * Claim the next run for a virtual user; the async hop keeps the stack flat
+     * when runs complete synchronously (e.g. immediate rejections)
+     */
+    private CompletableFuture<Void> nextRun(Run run) {
+        if (run.next.getAndIncrement() >= run.count) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return runOnce(run).thenComposeAsync(ignored -> nextRun(run));
+    }
+
+    private CompletableFuture<Void> runOnce(Run run) {
+        return client.createSession().thenCompose(sessionId -> {
+            long start = System.nanoTime();
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            List<ScenarioStep> steps = run.scenario.getSteps();
+            for (int i = 0; i < steps.size(); i++) {
+                int index = i;
+                chain = chain.thenCompose(ignored -> runStep(run, index, steps.get(index), sessionId));
+            }
+            return chain.thenRun(() -> run.scenarioLatency.recordSince(start));
+        }).handle((ignored, error) -> {
+            run.finish(error);
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> runStep(Run run, int index, ScenarioStep step, String sessionId) {
+        long thinkMs = step.getThinkTime().sampleMs(ThreadLocalRandom.current());
+        CompletableFuture<Void> pause = thinkMs > 0
+                ? CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(thinkMs, TimeUnit.MILLISECONDS))
+                : CompletableFuture.completedFuture(null);
+        return pause.thenCompose(ignored -> {
+            long sent = System.nanoTime();
+            return client.sendVoiceQuery(step.getUtterance(), sessionId).thenAccept(response -> {
+                run.stepLatencies.get(index).recordSince(sent);
+                check(index, step, response);
+            });
+        });
+    }
+
+    private static void check(int index, ScenarioStep step, VoiceResponse response) {
+        String failure = step.check(response);
+        if (failure != null) {
+            throw new StepFailedException("step " + (index + 1) + " '" + step.getUtterance() + "': " + failure);
+        }
+    }
+
+    /**
+     * Counters and recorders shared by all virtual users of one runAsync call
+     */
+    private static class Run {
+        private final Scenario scenario;
+        private final int count;
+        private final AtomicInteger next = new AtomicInteger();
+        private final LatencyRecorder scenarioLatency;
+        private final List<LatencyRecorder> stepLatencies = new ArrayList<>();
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Queue<String> failureSamples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final long startNanos = System.nanoTime();
+
+        private Run(Scenario scenario, int count) {
+            this.scenario = scenario;
+            this.count = count;
+            this.scenarioLatency = new LatencyRecorder(scenario.getName());
+            for (int i = 0; i < scenario.getSteps().size(); i++) {
+                stepLatencies.add(new LatencyRecorder("step " + (i + 1)));
+            }
+        }
+
+        private void finish(Throwable error) {
+            if (error == null) {
+                passed.increment();
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof StepFailedException) {
+                failed.increment();
+            } else {
+                errors.increment();
+            }
+            if (sampleCount.incrementAndGet() <= MAX_FAILURE_SAMPLES) {
+                failureSamples.add(cause.getMessage());
+            }
+        }
+
+        private ScenarioResult result() {
+            List<LatencyReport> steps = new ArrayList<>();
+            for (LatencyRecorder recorder : stepLatencies) {
+                steps.add(recorder.report());
+            }
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            return new ScenarioResult(scenario.getName(), Math.min(next.get(), count), passed.sum(),
+                    failed.sum(), errors.sum(), durationMs, scenarioLatency.report(), steps,
+                    new ArrayList<>(failureSamples));
+        }
+    }
+
+    /**
+     * A response that missed its step's expectations; carries no stack trace
+     */
+    private static class StepFailedException extends RuntimeException {
+        private StepFailedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.voiceai.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Schema Registry - compiled JSON schemas from the classpath schemas/ folder
+ *
+ * Each schema is loaded and compiled the first time it is used and then
+ * shared; compiled JsonSchema instances are immutable and thread-safe.
+ * Validation runs against an already-parsed JsonNode, so it is cheap enough
+ * to leave on during load runs.
+ */
+public final class SchemaRegistry {
+
+    private static final Logger logger = LogManager.getLogger(SchemaRegistry.class);
+
+    public static final String VOICE_REQUEST = "voice-request-schema.json";
+    public static final String VOICE_RESPONSE = "voice-response-schema.json";
+    public static final String SESSION_RESPONSE = "session-response-schema.json";
+
+    private static final String SCHEMA_FOLDER = "schemas/";
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final ConcurrentMap<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {
+    }
+
+    /**
+     * Compiled schema for a file name under schemas/, compiled once per JVM
+     */
+    public static JsonSchema get(String schemaName) {
+        return SCHEMAS.computeIfAbsent(schemaName, SchemaRegistry::compile);
+    }
+
+    /**
+     * Check a tree against a schema, without building a report on success
+     */
+    public static boolean isValid(String schemaName, JsonNode tree) {
+        return get(schemaName).validInstanceUnchecked(tree);
+    }
+
+    /**
+     * Full validation report, listing every violation
+     */
+    public static ProcessingReport validate(String schemaName, JsonNode tree) {
+        return get(schemaName).validateUnchecked(tree);
+    }
+
+    /**
+     * Fail with an AssertionError naming each violation when the tree does not match
+     */
+    public static void assertValid(String schemaName, JsonNode tree) {
+        if (isValid(schemaName, tree)) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Response does not match ").append(schemaName).append(':');
+        for (ProcessingMessage violation : validate(schemaName, tree)) {
+            message.append("\n  - ").append(violation.getMessage());
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    private static JsonSchema compile(String schemaName) {
+        String path = SCHEMA_FOLDER + schemaName;
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = loader.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + path);
+            }
+            JsonSchema schema = FACTORY.getJsonSchema(ResponseDecoder.mapper().readTree(in));
+            logger.info("Compiled JSON schema {}", path);
+            return schema;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read schema " + path, e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Invalid schema " + path + ": " + e.getMessage(), e);
+        }
+    }
+}
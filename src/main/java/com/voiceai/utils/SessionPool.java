@@ -0,0 +1,213 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Session Pool - pre-created sessions handed out without a blocking round trip
+ *
+ * The pool keeps up to session.pool.size sessions ready, creating them in the
+ * background through AsyncAPIClient and topping up asynchronously after each
+ * hand-out. Only when the pool has run dry does acquire() wait for a new
+ * session (counted as a miss); it then claims a creation already in flight
+ * before starting one of its own. The reuse policy decides how often a caller
+ * gets a new session: every acquire, once per thread, or once per scenario key.
+ */
+public class SessionPool implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(SessionPool.class);
+
+    /**
+     * FRESH hands out a new session on every acquire, PER_THREAD keeps one per
+     * calling thread, PER_SCENARIO keeps one per scenario key.
+     */
+    public enum Policy {
+        FRESH,
+        PER_THREAD,
+        PER_SCENARIO;
+
+        public static Policy fromConfig(String value) {
+            if ("per_thread".equalsIgnoreCase(value) || "thread".equalsIgnoreCase(value)) {
+                return PER_THREAD;
+            }
+            if ("per_scenario".equalsIgnoreCase(value) || "scenario".equalsIgnoreCase(value)) {
+                return PER_SCENARIO;
+            }
+            return FRESH;
+        }
+    }
+
+    private static final String DEFAULT_SCENARIO = "default";
+
+    private final Supplier<CompletableFuture<String>> sessionFactory;
+    private final int targetSize;
+    private final Policy policy;
+
+    private final BlockingQueue<String> ready = new LinkedBlockingQueue<>();
+    private final ConcurrentLinkedQueue<CompletableFuture<String>> inFlight = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger creating = new AtomicInteger();
+    private final ThreadLocal<String> threadSessions = new ThreadLocal<>();
+    private final Map<String, CompletableFuture<String>> scenarioSessions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean closed;
+
+    public SessionPool(APIClient apiClient) {
+        this(new AsyncAPIClient(apiClient), TestConfig.getInstance());
+    }
+
+    public SessionPool(AsyncAPIClient asyncClient, TestConfig config) {
+        this(asyncClient::createSession, config.getSessionPoolSize(),
+                Policy.fromConfig(config.getSessionPoolPolicy()));
+    }
+
+    public SessionPool(Supplier<CompletableFuture<String>> sessionFactory, int targetSize, Policy policy) {
+        this.sessionFactory = sessionFactory;
+        this.targetSize = Math.max(0, targetSize);
+        this.policy = policy;
+        refill();
+        logger.info("SessionPool started (target {}, policy {})", this.targetSize, policy);
+    }
+
+    /**
+     * Session for the caller under the pool's policy, using the default scenario
+     */
+    public String acquire() {
+        return acquire(DEFAULT_SCENARIO);
+    }
+
+    /**
+     * Session for the caller; the scenario key only matters under PER_SCENARIO
+     */
+    public String acquire(String scenario) {
+        switch (policy) {
+            case PER_THREAD:
+                String session = threadSessions.get();
+                if (session == null) {
+                    session = take().join();
+                    threadSessions.set(session);
+                }
+                return session;
+            case PER_SCENARIO:
+                // Only the non-blocking claim runs inside the map; the wait happens outside it
+                CompletableFuture<String> future = scenarioSessions.computeIfAbsent(scenario, key -> take());
+                try {
+                    return future.join();
+                } catch (RuntimeException e) {
+                    scenarioSessions.remove(scenario, future);
+                    throw e;
+                }
+            default:
+                return take().join();
+        }
+    }
+
+    /**
+     * Forget the sessions held for the calling thread and for a scenario,
+     * so their next acquire gets a new one
+     */
+    public void release(String scenario) {
+        threadSessions.remove();
+        scenarioSessions.remove(scenario);
+    }
+
+    public int getReady() {
+        return ready.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    // ==================== POOL ====================
+
+    /**
+     * A ready session if there is one, otherwise a creation already in flight,
+     * otherwise a new creation; never blocks
+     */
+    private CompletableFuture<String> take() {
+        CompletableFuture<String> future;
+        String session = ready.poll();
+        if (session != null) {
+            hits.increment();
+            future = CompletableFuture.completedFuture(session);
+        } else {
+            misses.increment();
+            future = inFlight.poll();
+            if (future != null) {
+                creating.decrementAndGet();
+            } else {
+                future = sessionFactory.get();
+            }
+        }
+        refill();
+        return future;
+    }
+
+    /**
+     * Start enough background creations to bring ready + unclaimed creations up to the target
+     */
+    private void refill() {
+        while (!closed) {
+            int unclaimed = creating.get();
+            if (ready.size() + unclaimed >= targetSize) {
+                return;
+            }
+            if (!creating.compareAndSet(unclaimed, unclaimed + 1)) {
+                continue;
+            }
+            CompletableFuture<String> future;
+            try {
+                future = sessionFactory.get();
+            } catch (RuntimeException e) {
+                creating.decrementAndGet();
+                logger.warn("Session pre-creation failed: {}", e.getMessage());
+                return;
+            }
+            inFlight.add(future);
+            future.whenComplete((session, error) -> {
+                // A caller that claimed this creation on a miss already owns the result
+                if (!inFlight.remove(future)) {
+                    return;
+                }
+                creating.decrementAndGet();
+                if (error != null) {
+                    // Stop this round; the next acquire tries again
+                    logger.warn("Session pre-creation failed: {}", error.getMessage());
+                } else if (!closed) {
+                    ready.add(session);
+                }
+            });
+            if (future.isCompletedExceptionally()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ready.clear();
+        scenarioSessions.clear();
+        logger.info("SessionPool closed ({} hits, {} misses)", getHits(), getMisses());
+    }
+}
@@ -0,0 +1,391 @@
+package com.voiceai.utils;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.LatencyReport;
+import com.voiceai.models.SoakResult;
+import com.voiceai.models.SoakSnapshot;
+import com.voiceai.models.TransportResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Soak Runner - fixed-rate, long-running mix of chat, session and history calls
+ *
+ * Requests are sent on an open-loop timeline at the configured rate, each one
+ * going to an endpoint picked by the weighted mix. Latency is measured from
+ * the request's intended send time, so executor queueing under backlog is
+ * counted rather than hidden, and each request is recorded into the interval
+ * in which it completes. Session calls rotate the session that chat and
+ * history calls use, so the backend sees session churn as well as long
+ * conversations. Every interval the counters are swapped
+ * for fresh ones and one CSV line per endpoint (throughput, error rate,
+ * percentiles) is appended and flushed to the time-series file; a run that
+ * is killed still leaves everything up to the last interval on disk. Each
+ * snapshot is also fed to a DriftDetector, whose findings are logged as they
+ * appear and returned with the result. Memory use does not grow with run length.
+ */
+public class SoakRunner {
+
+    private static final Logger logger = LogManager.getLogger(SoakRunner.class);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    public static final String CHAT = "chat";
+    public static final String SESSION = "session";
+    public static final String HISTORY = "history";
+
+    private final APIClient apiClient;
+    private final double ratePerSecond;
+    private final long durationMs;
+    private final long intervalMs;
+    private final String[] slots;
+    private final Path timeSeriesFile;
+    private final DriftDetector driftDetector;
+    private final ConversationCorpus corpus;
+
+    private final AtomicReference<String> currentSession = new AtomicReference<>();
+    private final AtomicReference<Interval> interval = new AtomicReference<>();
+    private final ReadWriteLock intervalLock = new ReentrantReadWriteLock();
+    private final Map<String, LatencyRecorder> totalLatency = new LinkedHashMap<>();
+    private final Map<String, LongAdder> totalRequests = new LinkedHashMap<>();
+    private final Map<String, LongAdder> totalErrors = new LinkedHashMap<>();
+    private final AtomicLong intervalsWritten = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private BufferedWriter writer;
+    private long runStartNanos;
+
+    public SoakRunner(APIClient apiClient, TestConfig config) {
+        this(apiClient, config.getSoakRate(), TimeUnit.MINUTES.toMillis(config.getSoakDurationMinutes()),
+                TimeUnit.SECONDS.toMillis(config.getSoakIntervalSeconds()), parseMix(config.getSoakMix()),
+                Paths.get(config.getSoakOutputDir(),
+                        "soak-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv"),
+                new DriftDetector(config.getSoakDriftWindow(), config.getSoakDriftLatencyPct(),
+                        config.getSoakDriftErrorPct()),
+                ConversationCorpus.fromConfig());
+    }
+
+    public SoakRunner(APIClient apiClient, double ratePerSecond, long durationMs, long intervalMs,
+            Map<String, Integer> mix, Path timeSeriesFile, DriftDetector driftDetector, ConversationCorpus corpus) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Soak rate must be positive: " + ratePerSecond);
+        }
+        this.apiClient = apiClient;
+        this.ratePerSecond = ratePerSecond;
+        this.durationMs = durationMs;
+        this.intervalMs = Math.max(1, intervalMs);
+        this.slots = toSlots(mix);
+        this.timeSeriesFile = timeSeriesFile;
+        this.driftDetector = driftDetector;
+        this.corpus = corpus;
+        for (String endpoint : mix.keySet()) {
+            totalLatency.put(endpoint, new LatencyRecorder(endpoint));
+            totalRequests.put(endpoint, new LongAdder());
+            totalErrors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Parse "chat:8,session:1,history:1" into endpoint weights
+     */
+    public static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String endpoint = parts[0].trim().toLowerCase();
+            if (!endpoint.equals(CHAT) && !endpoint.equals(SESSION) && !endpoint.equals(HISTORY)) {
+                throw new IllegalArgumentException("Unknown soak endpoint: " + endpoint);
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Soak mix selects no endpoint: " + mix);
+        }
+        return weights;
+    }
+
+    /**
+     * Run for the configured duration and return totals and drift findings
+     */
+    public SoakResult run() {
+        logger.info("Starting soak run: {}/s for {}s, {}ms intervals, writing {}",
+                ratePerSecond, durationMs / 1000, intervalMs, timeSeriesFile);
+        rotateSession();
+        openWriter();
+
+        ExecutorService executor = LoadGenerator.newExecutor(256);
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-interval");
+            thread.setDaemon(true);
+            return thread;
+        });
+        runStartNanos = System.nanoTime();
+        interval.set(new Interval(runStartNanos));
+        ticker.scheduleAtFixedRate(() -> closeInterval(false), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+
+        ConversationCorpus.Cursor cursor = corpus == null ? null : corpus.cursor();
+        try {
+            long endNanos = runStartNanos + TimeUnit.MILLISECONDS.toNanos(durationMs);
+            double nanosPerRequest = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+            for (long sequence = 0; !Thread.currentThread().isInterrupted(); sequence++) {
+                long intendedNanos = runStartNanos + (long) (sequence * nanosPerRequest);
+                if (intendedNanos >= endNanos) {
+                    break;
+                }
+                LoadGenerator.parkUntil(intendedNanos);
+                String endpoint = slots[(int) (sequence % slots.length)];
+                String utterance = cursor == null || !CHAT.equals(endpoint) ? "Hello" : cursor.next().getUtterance();
+                executor.execute(() -> execute(endpoint, utterance, intendedNanos));
+            }
+        } finally {
+            drain(executor);
+            ticker.shutdownNow();
+            awaitQuietly(ticker);
+            closeInterval(true);
+            closeWriter();
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+
+        if (dropped.sum() > 0) {
+            logger.warn("{} soak requests were still running after the drain timeout and are left out of the results",
+                    dropped.sum());
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStartNanos);
+        Map<String, Long> requests = new LinkedHashMap<>();
+        Map<String, Long> errors = new LinkedHashMap<>();
+        Map<String, LatencyReport> latency = new LinkedHashMap<>();
+        totalRequests.forEach((endpoint, count) -> requests.put(endpoint, count.sum()));
+        totalErrors.forEach((endpoint, count) -> errors.put(endpoint, count.sum()));
+        totalLatency.forEach((endpoint, recorder) -> latency.put(endpoint, recorder.report()));
+        SoakResult result = new SoakResult(elapsedMs, intervalsWritten.get(), requests, errors, latency,
+                driftDetector.getFindings(), timeSeriesFile);
+        logger.info("Soak run finished: {}", result);
+        return result;
+    }
+
+    // ==================== REQUESTS ====================
+
+    private void execute(String endpoint, String utterance, long intendedNanos) {
+        boolean error;
+        try {
+            TransportResponse response;
+            switch (endpoint) {
+                case SESSION:
+                    response = apiClient.postSession();
+                    if (response.isSuccess()) {
+                        String sessionId = ResponseDecoder.sessionId(response.getBody());
+                        if (sessionId != null) {
+                            currentSession.set(sessionId);
+                        }
+                    }
+                    break;
+                case HISTORY:
+                    response = apiClient.getHistory(currentSession.get());
+                    break;
+                default:
+                    response = apiClient.postChat(utterance, currentSession.get());
+                    break;
+            }
+            error = !response.isSuccess();
+        } catch (RuntimeException e) {
+            error = true;
+            logger.debug("Soak {} request failed: {}", endpoint, e.getMessage());
+        }
+        long elapsed = System.nanoTime() - intendedNanos;
+        // Shared side of the lock: closeInterval cannot write an interval while a record into it is under way
+        intervalLock.readLock().lock();
+        try {
+            Interval current = interval.get();
+            if (current == null) {
+                // Finished after the final interval was written; counting it would skew totals against the CSV
+                dropped.increment();
+                return;
+            }
+            current.record(endpoint, elapsed, error);
+        } finally {
+            intervalLock.readLock().unlock();
+        }
+        totalRequests.get(endpoint).increment();
+        if (error) {
+            totalErrors.get(endpoint).increment();
+        } else {
+            totalLatency.get(endpoint).recordNanos(elapsed);
+        }
+    }
+
+    private void rotateSession() {
+        TransportResponse response = apiClient.postSession();
+        String sessionId = response.isSuccess() ? ResponseDecoder.sessionId(response.getBody()) : null;
+        if (sessionId == null) {
+            throw new IllegalStateException("Soak run could not create a session: HTTP " + response.getStatusCode());
+        }
+        currentSession.set(sessionId);
+    }
+
+    // ==================== TIME SERIES ====================
+
+    /**
+     * Swap in a fresh interval, then write and analyse the one that ended.
+     * Requests still in flight record into whichever interval is current when they complete.
+     * After the last interval nothing is swapped in, and late requests are dropped.
+     */
+    private synchronized void closeInterval(boolean last) {
+        long now = System.nanoTime();
+        Interval ended;
+        intervalLock.writeLock().lock();
+        try {
+            ended = interval.get();
+            if (ended != null) {
+                interval.set(last ? null : new Interval(now));
+            }
+        } finally {
+            intervalLock.writeLock().unlock();
+        }
+        if (ended == null) {
+            return;
+        }
+        double seconds = Math.max(1, now - ended.startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        long epochMs = System.currentTimeMillis();
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(now - runStartNanos);
+        try {
+            for (Map.Entry<String, Counters> entry : ended.counters.entrySet()) {
+                Counters counters = entry.getValue();
+                LatencyRecorder latency = counters.latency;
+                long count = counters.count.sum();
+                SoakSnapshot snapshot = new SoakSnapshot(epochMs, elapsedSeconds, entry.getKey(), count,
+                        counters.errors.sum(), count / seconds, latency.getPercentileMs(0.50),
+                        latency.getPercentileMs(0.90), latency.getPercentileMs(0.99), latency.report().getMaxMs());
+                writer.write(snapshot.toCsvLine());
+                writer.newLine();
+                for (String finding : driftDetector.observe(snapshot)) {
+                    logger.warn("Soak drift: {}", finding);
+                }
+            }
+            writer.flush();
+            intervalsWritten.incrementAndGet();
+        } catch (IOException e) {
+            logger.error("Cannot append to {}: {}", timeSeriesFile, e.getMessage());
+        }
+    }
+
+    private void openWriter() {
+        try {
+            Path parent = timeSeriesFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            boolean fresh = !Files.exists(timeSeriesFile) || Files.size(timeSeriesFile) == 0;
+            writer = Files.newBufferedWriter(timeSeriesFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (fresh) {
+                writer.write(SoakSnapshot.CSV_HEADER);
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open soak time series " + timeSeriesFile, e);
+        }
+    }
+
+    private synchronized void closeWriter() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Cannot close {}: {}", timeSeriesFile, e.getMessage());
+        }
+    }
+
+    private static void drain(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService executor) {
+        try {
+            executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Weighted mix flattened into a repeating sequence, e.g. chat x8, session, history
+     */
+    private static String[] toSlots(Map<String, Integer> mix) {
+        List<String> slots = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(endpoint);
+            }
+        });
+        return slots.toArray(new String[0]);
+    }
+
+    /**
+     * Counters of one endpoint in one interval
+     */
+    private static class Counters {
+        private final LatencyRecorder latency = new LatencyRecorder();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * All endpoints' counters for one interval
+     */
+    private class Interval {
+        private final long startNanos;
+        private final Map<String, Counters> counters = new LinkedHashMap<>();
+
+        private Interval(long startNanos) {
+            this.startNanos = startNanos;
+            for (String endpoint : totalRequests.keySet()) {
+                counters.put(endpoint, new Counters());
+            }
+        }
+
+        private void record(String endpoint, long nanos, boolean error) {
+            Counters target = counters.get(endpoint);
+            target.count.increment();
+            if (error) {
+                target.errors.increment();
+            } else {
+                target.latency.recordNanos(nanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.voiceai.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Text Tokenizer - allocation-light word tokenizer producing 64-bit token hashes
+ *
+ * A token is a run of letters, digits and underscores, compared
+ * case-insensitively. Each token is reduced to the 64-bit FNV-1a hash of its
+ * lower-cased chars while it is scanned, so checks compare longs instead of
+ * building lower-cased strings and substrings; token text is only
+ * materialized on request. At 64 bits, a collision between two distinct words
+ * of the vocabulary seen in a run is not a practical concern.
+ *
+ * tokenize() fills a per-thread buffer that is reused by the next call on the
+ * same thread; tokenSet() and phrase() allocate only their result. Keyword
+ * and phrase checks over raw text use PhraseMatcher, which shares the
+ * token-character rules.
+ */
+public final class TextTokenizer {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final ThreadLocal<Tokens> BUFFER = ThreadLocal.withInitial(Tokens::new);
+
+    private TextTokenizer() {
+    }
+
+    // ==================== TOKENIZING ====================
+
+    /**
+     * Tokens of the text in this thread's buffer; valid until the next tokenize() on the thread
+     */
+    public static Tokens tokenize(CharSequence text) {
+        Tokens tokens = BUFFER.get();
+        tokens.fill(text);
+        return tokens;
+    }
+
+    /**
+     * New set of the text's token hashes
+     */
+    public static LongHashSet tokenSet(CharSequence text) {
+        LongHashSet set = new LongHashSet(text == null ? 0 : text.length() / 6);
+        addTokens(text, set);
+        return set;
+    }
+
+    /**
+     * Add the text's token hashes to a set; returns the number of tokens scanned
+     */
+    public static int addTokens(CharSequence text, LongHashSet set) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        long hash = FNV_OFFSET;
+        boolean inToken = false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (isTokenChar(c)) {
+                hash = (hash ^ lower(c)) * FNV_PRIME;
+                inToken = true;
+            } else if (inToken) {
+                set.add(hash);
+                count++;
+                hash = FNV_OFFSET;
+                inToken = false;
+            }
+        }
+        if (inToken) {
+            set.add(hash);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Token hashes of a keyword or phrase, in order, for Tokens.containsPhrase
+     */
+    public static long[] phrase(CharSequence text) {
+        long[] hashes = new long[4];
+        int count = 0;
+        if (text != null) {
+            long hash = FNV_OFFSET;
+            boolean inToken = false;
+            for (int i = 0, n = text.length(); i <= n; i++) {
+                char c = i < n ? text.charAt(i) : ' ';
+                if (isTokenChar(c)) {
+                    hash = (hash ^ lower(c)) * FNV_PRIME;
+                    inToken = true;
+                } else if (inToken) {
+                    if (count == hashes.length) {
+                        hashes = Arrays.copyOf(hashes, count * 2);
+                    }
+                    hashes[count++] = hash;
+                    hash = FNV_OFFSET;
+                    inToken = false;
+                }
+            }
+        }
+        return Arrays.copyOf(hashes, count);
+    }
+
+    /**
+     * Hash of a single token, as tokenize() computes it
+     */
+    public static long hash(CharSequence token) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < token.length(); i++) {
+            hash = (hash ^ lower(token.charAt(i))) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Lower-cased token strings, in order (allocates; for reporting and tests)
+     */
+    public static List<String> tokens(CharSequence text) {
+        Tokens tokens = tokenize(text);
+        List<String> result = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            result.add(tokens.text(i));
+        }
+        return result;
+    }
+
+    static boolean isTokenChar(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+        return Character.isLetterOrDigit(c);
+    }
+
+    static char lower(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Token hashes and bounds of one text; a reusable per-thread buffer
+     */
+    public static final class Tokens {
+        private long[] hashes = new long[64];
+        private int[] starts = new int[64];
+        private int[] ends = new int[64];
+        private int count;
+        private CharSequence text;
+
+        private Tokens() {
+        }
+
+        private void fill(CharSequence source) {
+            text = source;
+            count = 0;
+            if (source == null) {
+                return;
+            }
+            int start = -1;
+            long hash = FNV_OFFSET;
+            for (int i = 0, n = source.length(); i <= n; i++) {
+                char c = i < n ? source.charAt(i) : ' ';
+                if (isTokenChar(c)) {
+                    if (start < 0) {
+                        start = i;
+                    }
+                    hash = (hash ^ lower(c)) * FNV_PRIME;
+                } else if (start >= 0) {
+                    if (count == hashes.length) {
+                        hashes = Arrays.copyOf(hashes, count * 2);
+                        starts = Arrays.copyOf(starts, count * 2);
+                        ends = Arrays.copyOf(ends, count * 2);
+                    }
+                    hashes[count] = hash;
+                    starts[count] = start;
+                    ends[count] = i;
+                    count++;
+                    start = -1;
+                    hash = FNV_OFFSET;
+                }
+            }
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public long hash(int index) {
+            return hashes[index];
+        }
+
+        public int start(int index) {
+            return starts[index];
+        }
+
+        public int end(int index) {
+            return ends[index];
+        }
+
+        /**
+         * Lower-cased text of one token (allocates)
+         */
+        public String text(int index) {
+            StringBuilder token = new StringBuilder(ends[index] - starts[index]);
+            for (int i = starts[index]; i < ends[index]; i++) {
+                token.append(lower(text.charAt(i)));
+            }
+            return token.toString();
+        }
+
+        public boolean contains(long hash) {
+            for (int i = 0; i < count; i++) {
+                if (hashes[i] == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Whether the phrase's tokens occur consecutively; an empty phrase always does
+         */
+        public boolean containsPhrase(long[] phrase) {
+            int last = count - phrase.length;
+            for (int i = 0; i <= last; i++) {
+                int j = 0;
+                while (j < phrase.length && hashes[i + j] == phrase[j]) {
+                    j++;
+                }
+                if (j == phrase.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
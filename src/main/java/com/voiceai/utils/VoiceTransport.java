@@ -0,0 +1,37 @@
+package com.voiceai.utils;
+
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Voice Transport - HTTP layer behind APIClient
+ *
+ * Implementations hold their own base URL and default headers, keep no global
+ * state, and must be safe to call from many threads at once. Non-2xx statuses
+ * are returned as responses; only failures to get a response at all
+ * (connection errors, timeouts) are thrown.
+ */
+public interface VoiceTransport extends AutoCloseable {
+
+    /**
+     * Execute the request and block until the full response body is read
+     */
+    TransportResponse send(TransportRequest request);
+
+    /**
+     * Execute the request without blocking the caller. The default runs the
+     * blocking send on the common pool; transports with a native async API
+     * override it. Callers are responsible for bounding concurrency.
+     */
+    default CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+        return CompletableFuture.supplyAsync(() -> send(request));
+    }
+
+    /**
+     * Release pooled connections and threads
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,162 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.models.VoiceResponse;
+import com.voiceai.utils.AsyncAPIClient;
+import com.voiceai.utils.HttpClientTransport;
+import com.voiceai.utils.VoiceTransport;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Async API Client Tests - Non-blocking flows against FakeVoiceServer
+ */
+public class AsyncAPIClientTests {
+    private FakeVoiceServer server;
+    private HttpClientTransport transport;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("ASYNC API CLIENT TESTS");
+        System.out.println("========================================\n");
+        server = new FakeVoiceServer();
+        transport = server.newTransport(64);
+    }
+
+    @Test(priority = 1, description = "Multi-turn conversation composes without blocking")
+    public void testRunConversation() {
+        System.out.println("\n▶ TEST: Run Conversation");
+
+        AsyncAPIClient client = new AsyncAPIClient(transport, TestConfig.getInstance(), 8, 100);
+        AsyncAPIClient.ConversationResult result = client.runConversation(
+                List.of("Hello", "I need to book an appointment", "Thank you")).join();
+
+        Assert.assertNotNull(result.getSessionId());
+        Assert.assertEquals(result.getResponses().size(), 3);
+        Assert.assertEquals(result.getResponses().get(0).getIntent(), "greeting");
+        Assert.assertEquals(result.getHistory().size(), 3, "History should list every turn");
+
+        System.out.println("✓ PASSED: session " + result.getSessionId());
+    }
+
+    @Test(priority = 2, description = "In-flight requests never exceed the bound")
+    public void testInFlightBound() {
+        System.out.println("\n▶ TEST: In-Flight Bound");
+
+        server.setDelayMs(20);
+        AsyncAPIClient client = new AsyncAPIClient(transport, TestConfig.getInstance(), 4, 1000);
+        List<CompletableFuture<VoiceResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            futures.add(client.sendVoiceQuery("Query " + i, "sess-bound"));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        server.setDelayMs(0);
+
+        Assert.assertTrue(server.getPeakConcurrency() <= 4,
+                "Server saw " + server.getPeakConcurrency() + " concurrent requests");
+        Assert.assertEquals(client.getInFlight(), 0);
+        Assert.assertEquals(client.getPending(), 0);
+        System.out.println("✓ PASSED: peak concurrency " + server.getPeakConcurrency());
+    }
+
+    @Test(priority = 3, description = "Calls beyond the pending queue are rejected")
+    public void testBackpressureRejects() {
+        System.out.println("\n▶ TEST: Backpressure Rejection");
+
+        server.setDelayMs(50);
+        AsyncAPIClient client = new AsyncAPIClient(transport, TestConfig.getInstance(), 1, 2);
+        List<CompletableFuture<VoiceResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.sendVoiceQuery("Query " + i, "sess-reject"));
+        }
+
+        int rejected = 0;
+        for (CompletableFuture<VoiceResponse> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof RejectedExecutionException, e.toString());
+                rejected++;
+            }
+        }
+        server.setDelayMs(0);
+
+        Assert.assertEquals(rejected, 2, "1 in flight + 2 pending should leave 2 rejected");
+        System.out.println("✓ PASSED: " + rejected + " rejected");
+    }
+
+    @Test(priority = 4, description = "Queued calls that fail synchronously drain without deep recursion")
+    public void testSynchronousFailuresDrainFlat() {
+        System.out.println("\n▶ TEST: Synchronous Failures Drain Flat");
+
+        CompletableFuture<TransportResponse> gate = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        VoiceTransport refusing = new VoiceTransport() {
+            @Override
+            public TransportResponse send(TransportRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+                return calls.getAndIncrement() == 0
+                        ? gate
+                        : CompletableFuture.failedFuture(new ConnectException("Connection refused"));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        int queued = 20_000;
+        AsyncAPIClient client = new AsyncAPIClient(refusing, TestConfig.getInstance(), 1, queued);
+        List<CompletableFuture<VoiceResponse>> futures = new ArrayList<>();
+        for (int i = 0; i <= queued; i++) {
+            futures.add(client.sendVoiceQuery("Query " + i, "sess-refused"));
+        }
+        Assert.assertEquals(client.getPending(), queued);
+
+        gate.completeExceptionally(new ConnectException("Connection refused"));
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException expected) {
+            // Every call is refused
+        } catch (TimeoutException e) {
+            Assert.fail("Queued calls were stranded: " + client.getPending() + " still pending");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Assert.fail("Interrupted");
+        }
+        for (CompletableFuture<VoiceResponse> future : futures) {
+            CompletionException e = Assert.expectThrows(CompletionException.class, future::join);
+            Assert.assertTrue(e.getCause() instanceof ConnectException, e.getCause().toString());
+        }
+        Assert.assertEquals(client.getPending(), 0);
+        Assert.assertEquals(client.getInFlight(), 0);
+        System.out.println("✓ PASSED: " + calls.get() + " refused calls drained");
+    }
+
+    @AfterClass
+    public void teardown() {
+        transport.close();
+        server.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.DBValidator;
+import com.voiceai.utils.SessionPool;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+/**
+ * Base class for tests against the voice backend, safe under parallel="methods"
+ *
+ * The clients are created once per class and are thread-safe: APIClient uses
+ * an immutable request specification and a pooled transport, SessionPool and
+ * DBValidator's connection pool are shared. The session is per invocation:
+ * it is taken from the pool before each test method, on the thread that runs
+ * the method, and read back through sessionId().
+ */
+public abstract class BaseVoiceTest {
+    protected APIClient apiClient;
+    protected SessionPool sessionPool;
+    protected DBValidator dbValidator;
+    protected TestConfig config;
+
+    private final ThreadLocal<String> session = new ThreadLocal<>();
+
+    @BeforeClass(alwaysRun = true)
+    public void initClients() {
+        config = TestConfig.getInstance();
+        apiClient = new APIClient();
+        if (usesPooledSession()) {
+            sessionPool = new SessionPool(apiClient);
+        }
+        dbValidator = new DBValidator();
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void acquireSession() {
+        if (!usesPooledSession()) {
+            return;
+        }
+        String sessionId = sessionPool.acquire();
+        Assert.assertNotNull(sessionId, "Session ID should not be null");
+        Assert.assertFalse(sessionId.isEmpty(), "Session ID should not be empty");
+        session.set(sessionId);
+        System.out.println("\n✓ Session acquired: " + sessionId);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseSession() {
+        session.remove();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeClients() {
+        if (sessionPool != null) {
+            sessionPool.close();
+        }
+        if (apiClient != null) {
+            apiClient.close();
+        }
+        if (dbValidator != null) {
+            dbValidator.close();
+        }
+    }
+
+    /**
+     * Override to return false in classes whose tests create their own sessions
+     */
+    protected boolean usesPooledSession() {
+        return true;
+    }
+
+    /**
+     * Session of the test method running on this thread
+     */
+    protected String sessionId() {
+        return session.get();
+    }
+}
@@ -0,0 +1,146 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.CorpusEntry;
+import com.voiceai.utils.ConversationCorpus;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Conversation Corpus Tests - Streaming JSONL/CSV corpora
+ */
+public class ConversationCorpusTests {
+    private Path directory;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("CONVERSATION CORPUS TESTS");
+        System.out.println("========================================\n");
+        directory = Files.createTempDirectory("corpus");
+    }
+
+    @Test(priority = 1, description = "Bundled JSONL corpus parses from the classpath")
+    public void testClasspathJsonl() {
+        System.out.println("\n▶ TEST: Classpath JSONL");
+
+        try (Stream<CorpusEntry> entries = ConversationCorpus.fromConfig().stream()) {
+            List<CorpusEntry> all = entries.collect(Collectors.toList());
+            Assert.assertTrue(all.size() >= 10, "Corpus should have at least 10 utterances");
+            Assert.assertEquals(all.get(0).getUtterance(), "Hello");
+            Assert.assertNull(all.get(0).getExpectedIntent(), "Only rows with a known expectation set an intent");
+            all.forEach(entry -> Assert.assertNotNull(entry.getUtterance(), entry.toString()));
+            System.out.println("✓ PASSED: " + all.size() + " entries");
+        }
+    }
+
+    @Test(priority = 2, description = "CSV with quotes, escapes and keyword lists")
+    public void testCsv() throws IOException {
+        System.out.println("\n▶ TEST: CSV Corpus");
+
+        Path csv = directory.resolve("corpus.csv");
+        Files.write(csv, List.of(
+                "utterance,expected_intent,keywords,category",
+                "\"Hello, is anyone there?\",greeting,,greeting",
+                "# comment line",
+                "\"Book a \"\"quick\"\" appointment\",appointment_booking,appointment|book,appointment",
+                "",
+                "Track my package,,,"), StandardCharsets.UTF_8);
+
+        try (Stream<CorpusEntry> entries = new ConversationCorpus(csv.toString()).stream()) {
+            List<CorpusEntry> all = entries.collect(Collectors.toList());
+            Assert.assertEquals(all.size(), 3);
+            Assert.assertEquals(all.get(0).getUtterance(), "Hello, is anyone there?");
+            Assert.assertEquals(all.get(1).getUtterance(), "Book a \"quick\" appointment");
+            Assert.assertEquals(all.get(1).getKeywords(), List.of("appointment", "book"));
+            Assert.assertNull(all.get(2).getExpectedIntent());
+            Assert.assertTrue(all.get(2).getKeywords().isEmpty());
+        }
+        System.out.println("✓ PASSED: CSV parsed");
+    }
+
+    @Test(priority = 2, description = "Comment and blank lines before the CSV header are skipped")
+    public void testCsvLeadingComments() throws IOException {
+        System.out.println("\n▶ TEST: CSV Leading Comments");
+
+        Path csv = directory.resolve("commented.csv");
+        Files.write(csv, List.of(
+                "# Licensed under the Apache License, Version 2.0",
+                "",
+                "utterance,expected_intent,keywords,category",
+                "Hello,greeting,,greeting"), StandardCharsets.UTF_8);
+
+        try (Stream<CorpusEntry> entries = new ConversationCorpus(csv.toString()).stream()) {
+            List<CorpusEntry> all = entries.collect(Collectors.toList());
+            Assert.assertEquals(all.size(), 1);
+            Assert.assertEquals(all.get(0).getUtterance(), "Hello");
+            Assert.assertEquals(all.get(0).getExpectedIntent(), "greeting");
+        }
+        System.out.println("✓ PASSED: Header found after comments");
+    }
+
+    @Test(priority = 3, description = "Large corpus streams without being loaded")
+    public void testLargeCorpusStreams() throws IOException {
+        System.out.println("\n▶ TEST: Large Corpus Streams");
+
+        Path jsonl = directory.resolve("large.jsonl");
+        int lines = 200_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(jsonl, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write("{\"utterance\":\"utterance " + i + "\",\"expected_intent\":\"general_query\"}\n");
+            }
+        }
+
+        ConversationCorpus corpus = new ConversationCorpus(jsonl.toString());
+        try (Stream<CorpusEntry> entries = corpus.stream()) {
+            Assert.assertEquals(entries.count(), lines);
+        }
+
+        Iterator<Object[]> rows = corpus.dataProvider(5);
+        int count = 0;
+        while (rows.hasNext()) {
+            Assert.assertTrue(rows.next()[0] instanceof CorpusEntry);
+            count++;
+        }
+        Assert.assertEquals(count, 5, "Data provider should honour the limit");
+        System.out.println("✓ PASSED: " + lines + " lines streamed");
+    }
+
+    @Test(priority = 4, description = "Load cursor wraps around at the end of the corpus")
+    public void testCursorWraps() throws IOException {
+        System.out.println("\n▶ TEST: Cursor Wraps");
+
+        Path jsonl = directory.resolve("small.jsonl");
+        Files.write(jsonl, List.of("{\"utterance\":\"a\"}", "{\"utterance\":\"b\"}"), StandardCharsets.UTF_8);
+
+        try (ConversationCorpus.Cursor cursor = new ConversationCorpus(jsonl.toString()).cursor()) {
+            StringBuilder seen = new StringBuilder();
+            for (int i = 0; i < 5; i++) {
+                seen.append(cursor.next().getUtterance());
+            }
+            Assert.assertEquals(seen.toString(), "ababa");
+        }
+        System.out.println("✓ PASSED: Cursor cycles");
+    }
+
+    @AfterClass
+    public void teardown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
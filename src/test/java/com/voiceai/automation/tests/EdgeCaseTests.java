@@ -1,14 +1,10 @@
 package com.voiceai.automation.tests;
 
-import com.voiceai.config.TestConfig;
 import com.voiceai.models.VoiceResponse;
-import com.voiceai.utils.APIClient;
-import com.voiceai.utils.DBValidator;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import static org.hamcrest.Matchers.*;
@@ -16,28 +12,13 @@ import static org.hamcrest.Matchers.*;
 /**
  * Edge Case Tests - Tests for unusual inputs, boundary conditions, and error handling
  */
-public class EdgeCaseTests {
-    private APIClient apiClient;
-    private DBValidator dbValidator;
-    private TestConfig config;
-    private String sessionId;
+public class EdgeCaseTests extends BaseVoiceTest {
 
     @BeforeClass
     public void setup() {
         System.out.println("========================================");
         System.out.println("EDGE CASE TESTS");
         System.out.println("========================================\n");
-        apiClient = new APIClient();
-        dbValidator = new DBValidator();
-        config = TestConfig.getInstance();
-    }
-
-    @BeforeMethod
-    public void createSession() {
-        Response sessionResponse = apiClient.createSession();
-        sessionId = sessionResponse.jsonPath().getString("session_id");
-        Assert.assertNotNull(sessionId, "Session ID should not be null");
-        System.out.println("\n✓ New session created: " + sessionId);
     }
 
     @Test(priority = 1, description = "Test empty input handling")
@@ -46,13 +27,12 @@ public class EdgeCaseTests {
 
         String userInput = "";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
-                .statusCode(anyOf(equalTo(200), equalTo(400)))
-                .body("is_fallback", equalTo(true));
+                .statusCode(anyOf(equalTo(200), equalTo(400)));
 
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
         Assert.assertTrue(voiceResponse.isFallback(), "Empty input should trigger fallback");
 
         System.out.println("✓ PASSED: Empty Input handled correctly");
@@ -65,7 +45,7 @@ public class EdgeCaseTests {
         // Create a 5000 character input
         String userInput = "What is the weather ".repeat(250);
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
                 .statusCode(anyOf(equalTo(200), equalTo(400), equalTo(413)));
@@ -79,13 +59,13 @@ public class EdgeCaseTests {
 
         String userInput = "What's the weather? <script>alert('test')</script> @#$%^&*()";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
-                .statusCode(200)
-                .body("response_text", notNullValue());
+                .statusCode(200);
 
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
+        Assert.assertNotNull(voiceResponse.getResponseText(), "Response text should not be null");
         // Ensure no script injection in response
         Assert.assertFalse(voiceResponse.getResponseText().contains("<script>"),
                 "Response should not contain injected scripts");
@@ -99,7 +79,7 @@ public class EdgeCaseTests {
 
         String userInput = "What's the weather today? 🌤️ ñ é ü 中文";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
                 .statusCode(200)
@@ -114,13 +94,13 @@ public class EdgeCaseTests {
 
         String userInput = "'; DROP TABLE conversations; --";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
                 .statusCode(anyOf(equalTo(200), equalTo(400)));
 
         // Verify database is still accessible
-        int count = dbValidator.getConversationCount(sessionId);
+        int count = dbValidator.getConversationCount(sessionId());
         Assert.assertTrue(count >= 0, "Database should still be accessible");
 
         System.out.println("✓ PASSED: SQL injection attempt handled safely");
@@ -143,7 +123,6 @@ public class EdgeCaseTests {
 
     @AfterClass
     public void teardown() {
-        dbValidator.close();
         System.out.println("\n========================================");
         System.out.println("EDGE CASE TESTS COMPLETED");
         System.out.println("========================================");
@@ -0,0 +1,142 @@
+package com.voiceai.automation.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.voiceai.config.TestConfig;
+import com.voiceai.utils.HttpClientTransport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for the voice backend, serving the session, chat and
+ * history endpoints from config.properties. Used by the offline framework tests.
+ */
+public class FakeVoiceServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TestConfig config = TestConfig.getInstance();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger sessionCounter = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicInteger chatRequests = new AtomicInteger();
+    private final Map<String, List<String>> turns = new ConcurrentHashMap<>();
+    private volatile long delayMs;
+
+    public FakeVoiceServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public HttpClientTransport newTransport(int maxConnections) {
+        return new HttpClientTransport(getBaseUrl(), "test-token", maxConnections,
+                Duration.ofSeconds(2), HttpClient.Version.HTTP_1_1);
+    }
+
+    /**
+     * Delay every response, to build up concurrency
+     */
+    public void setDelayMs(long delayMs) {
+        this.delayMs = delayMs;
+    }
+
+    public int getPeakConcurrency() {
+        return peak.get();
+    }
+
+    public int getChatRequests() {
+        return chatRequests.get();
+    }
+
+    public int getSessionsCreated() {
+        return sessionCounter.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            if (delayMs > 0) {
+                TimeUnit.MILLISECONDS.sleep(delayMs);
+            }
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(config.getSessionEndpoint())) {
+                ObjectNode session = objectMapper.createObjectNode();
+                session.put("session_id", "sess-" + sessionCounter.incrementAndGet());
+                session.put("status", "active");
+                respond(exchange, 200, session.toString());
+            } else if (path.equals(config.getChatEndpoint())) {
+                chatRequests.incrementAndGet();
+                ObjectNode request = (ObjectNode) objectMapper.readTree(exchange.getRequestBody());
+                String sessionId = request.path("session_id").asText();
+                String userInput = request.path("user_input").asText();
+                turns.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(userInput);
+                respond(exchange, 200, chatResponse(sessionId, userInput).toString());
+            } else if (path.equals(config.getHistoryEndpoint())) {
+                String query = exchange.getRequestURI().getQuery();
+                String sessionId = query == null ? "" : query.replace("session_id=", "");
+                ArrayNode history = objectMapper.createArrayNode();
+                turns.getOrDefault(sessionId, List.of()).forEach(history::add);
+                respond(exchange, 200, history.toString());
+            } else {
+                respond(exchange, 404, "{\"error\":\"not found\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "{\"error\":\"interrupted\"}");
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private ObjectNode chatResponse(String sessionId, String userInput) {
+        boolean greeting = userInput.toLowerCase().startsWith("hello") || userInput.toLowerCase().startsWith("hi");
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("session_id", sessionId);
+        response.put("response_text", "You said: " + userInput);
+        response.put("intent", greeting ? "greeting" : "general_query");
+        response.put("confidence", 0.92);
+        response.put("response_time_ms", 12);
+        response.put("is_fallback", false);
+        response.put("status", "success");
+        return response;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
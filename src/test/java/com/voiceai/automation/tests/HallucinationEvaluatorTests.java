@@ -0,0 +1,138 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.EvaluationCase;
+import com.voiceai.models.EvaluationReport;
+import com.voiceai.models.EvaluationScore;
+import com.voiceai.utils.HallucinationEvaluator;
+import com.voiceai.utils.TextTokenizer;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hallucination Evaluator Tests - Token-overlap rule, context accuracy and parallel corpus scoring
+ */
+public class HallucinationEvaluatorTests {
+    private static final String[] VOCABULARY = {
+            "order", "status", "shipped", "refund", "password", "reset", "billing", "agency", "plan",
+            "trial", "cancel", "support", "hours", "monday", "friday", "email", "login", "invoice"
+    };
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("HALLUCINATION EVALUATOR TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "More than three answer tokens missing from every context is a hallucination")
+    public void testTokenOverlapRule() {
+        System.out.println("\n▶ TEST: Token Overlap Rule");
+
+        HallucinationEvaluator evaluator = new HallucinationEvaluator(3, 0, 1000);
+        List<String> contexts = Arrays.asList(
+                "HighLevel is an all-in-one sales and marketing platform built for agencies.",
+                "Support is open Monday to Friday.");
+
+        Assert.assertEquals(TextTokenizer.tokens("All-in-one, CRM_v2!"),
+                Arrays.asList("all", "in", "one", "crm_v2"));
+        Assert.assertEquals(evaluator.missingTokens("HighLevel is a PLATFORM for agencies, a CRM", contexts),
+                List.of("a", "a", "crm"), "Matching is case-insensitive across contexts; repeats count");
+        Assert.assertFalse(evaluator.isHallucinated("HighLevel is open on monday for new clients", contexts),
+                "Three missing tokens are tolerated");
+        Assert.assertTrue(evaluator.isHallucinated("HighLevel is open on monday with new clients", contexts),
+                "Four missing tokens are a hallucination");
+        Assert.assertTrue(evaluator.isHallucinated("I do not know that", List.of()),
+                "With no contexts every token is missing");
+
+        System.out.println("✓ PASSED: Token overlap rule matches the original evaluator");
+    }
+
+    @Test(priority = 2, description = "Context accuracy requires the gold document, or no retrieval when none is expected")
+    public void testContextAccuracy() {
+        System.out.println("\n▶ TEST: Context Accuracy");
+
+        HallucinationEvaluator evaluator = new HallucinationEvaluator(3, 0, 1000);
+        String text = "HighLevel can be used by agencies";
+
+        Assert.assertTrue(evaluator.score(new EvaluationCase("a", "q", "agencies")
+                .withContext("D1", text).withContext("D3", text).withGoldDocId("D3")).isContextAccurate());
+        Assert.assertFalse(evaluator.score(new EvaluationCase("b", "q", "agencies")
+                .withContext("D1", text).withGoldDocId("D3")).isContextAccurate());
+        Assert.assertTrue(evaluator.score(new EvaluationCase("c", "q", "Not sure.")).isContextAccurate(),
+                "No gold document and nothing retrieved is accurate");
+        Assert.assertFalse(evaluator.score(new EvaluationCase("d", "q", "agencies")
+                .withContext("D1", text)).isContextAccurate(), "Retrieving for an unanswerable question is not");
+        Assert.assertEquals(evaluator.getCachedContexts(), 1, "Identical context texts are tokenized once");
+
+        System.out.println("✓ PASSED: Context accuracy validated");
+    }
+
+    @Test(priority = 3, description = "Parallel scoring of a large corpus matches serial scoring")
+    public void testParallelMatchesSerial() {
+        System.out.println("\n▶ TEST: Parallel vs Serial Scoring");
+
+        List<EvaluationCase> cases = syntheticCases(100_000, 200);
+        HallucinationEvaluator serialEvaluator = new HallucinationEvaluator(3, 0, 1000);
+        long hallucinated = 0;
+        long accurate = 0;
+        for (EvaluationCase evaluationCase : cases) {
+            EvaluationScore score = serialEvaluator.score(evaluationCase);
+            hallucinated += score.isHallucinated() ? 1 : 0;
+            accurate += score.isContextAccurate() ? 1 : 0;
+        }
+
+        EvaluationReport report = new HallucinationEvaluator(3, 4, 1000).evaluate(cases);
+
+        Assert.assertEquals(report.getTotal(), cases.size());
+        Assert.assertEquals(report.getHallucinated(), hallucinated);
+        Assert.assertEquals(report.getContextAccurate(), accurate);
+        Assert.assertTrue(hallucinated > 0 && hallucinated < cases.size(), "Corpus should mix both verdicts");
+        Assert.assertTrue(report.getHallucinationSamples().size() <= 20, "Samples are capped");
+
+        System.out.println("✓ PASSED: " + report);
+    }
+
+    @Test(priority = 4, description = "The bundled evaluation corpus loads and passes the configured thresholds")
+    public void testBundledCorpus() {
+        System.out.println("\n▶ TEST: Bundled Corpus");
+
+        EvaluationReport report = new HallucinationEvaluator(3, 0, 1000).evaluate("corpus/hallucination_eval.jsonl");
+
+        Assert.assertEquals(report.getTotal(), 8, "Comment lines are skipped");
+        Assert.assertEquals(report.getHallucinated(), 0);
+        Assert.assertEquals(report.getContextAccurate(), 8);
+
+        System.out.println("✓ PASSED: " + report);
+    }
+
+    private static List<EvaluationCase> syntheticCases(int count, int distinctContexts) {
+        Random random = new Random(42);
+        List<String> contexts = new ArrayList<>(distinctContexts);
+        for (int i = 0; i < distinctContexts; i++) {
+            contexts.add(words(random, 30));
+        }
+        List<EvaluationCase> cases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int doc = random.nextInt(distinctContexts);
+            String answer = words(random, 6) + (random.nextBoolean() ? "" : " unicorn galaxy warp quasar");
+            cases.add(new EvaluationCase("conv-" + i, "q", answer)
+                    .withContext("D" + doc, contexts.get(doc))
+                    .withGoldDocId("D" + (random.nextInt(10) == 0 ? random.nextInt(distinctContexts) : doc)));
+        }
+        return cases;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
@@ -1,43 +1,27 @@
 package com.voiceai.automation.tests;
 
-import com.voiceai.config.TestConfig;
+import com.voiceai.models.EvaluationReport;
 import com.voiceai.models.VoiceResponse;
-import com.voiceai.utils.APIClient;
-import com.voiceai.utils.DBValidator;
+import com.voiceai.utils.HallucinationEvaluator;
+import com.voiceai.utils.PhraseMatcher;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import static org.hamcrest.Matchers.*;
-
 /**
  * Hallucination Tests - Tests to detect AI hallucinations and factual accuracy
  */
-public class HallucinationTests {
-    private APIClient apiClient;
-    private DBValidator dbValidator;
-    private TestConfig config;
-    private String sessionId;
+public class HallucinationTests extends BaseVoiceTest {
+    private PhraseMatcher uncertainty;
 
     @BeforeClass
     public void setup() {
+        uncertainty = PhraseMatcher.of(config.getEvalUncertaintyPhrases());
         System.out.println("========================================");
         System.out.println("HALLUCINATION DETECTION TESTS");
         System.out.println("========================================\n");
-        apiClient = new APIClient();
-        dbValidator = new DBValidator();
-        config = TestConfig.getInstance();
-    }
-
-    @BeforeMethod
-    public void createSession() {
-        Response sessionResponse = apiClient.createSession();
-        sessionId = sessionResponse.jsonPath().getString("session_id");
-        Assert.assertNotNull(sessionId, "Session ID should not be null");
-        System.out.println("\n✓ New session created: " + sessionId);
     }
 
     @Test(priority = 1, description = "Test factual question accuracy")
@@ -46,19 +30,17 @@ public class HallucinationTests {
 
         String userInput = "What year was the company founded?";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
-                .statusCode(200)
-                .body("confidence", greaterThanOrEqualTo(0.7f));
+                .statusCode(200);
 
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
+        apiClient.validateConfidence(voiceResponse, 0.7);
 
         // If confidence is low, it should indicate uncertainty
         if (voiceResponse.getConfidence() < 0.7) {
-            Assert.assertTrue(voiceResponse.isFallback() ||
-                            voiceResponse.getResponseText().toLowerCase().contains("not sure") ||
-                            voiceResponse.getResponseText().toLowerCase().contains("don't know"),
+            Assert.assertTrue(voiceResponse.isFallback() || uncertainty.matchesAny(voiceResponse.getResponseText()),
                     "Low confidence responses should indicate uncertainty");
         }
 
@@ -72,19 +54,17 @@ public class HallucinationTests {
 
         String userInput = "Tell me about the fictional product XYZ-9999 that doesn't exist";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
                 .statusCode(200);
 
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
 
         // Should either have low confidence or indicate it doesn't have information
         boolean handledCorrectly = voiceResponse.isFallback() ||
                 voiceResponse.getConfidence() < 0.5 ||
-                voiceResponse.getResponseText().toLowerCase().contains("don't have") ||
-                voiceResponse.getResponseText().toLowerCase().contains("not familiar") ||
-                voiceResponse.getResponseText().toLowerCase().contains("can't find");
+                uncertainty.matchesAny(voiceResponse.getResponseText());
 
         Assert.assertTrue(handledCorrectly,
                 "Unknown topics should be handled with uncertainty or fallback");
@@ -98,14 +78,14 @@ public class HallucinationTests {
 
         // First query
         String userInput1 = "What are your business hours?";
-        Response response1 = apiClient.sendVoiceQuery(userInput1, sessionId);
-        VoiceResponse voiceResponse1 = response1.as(VoiceResponse.class);
+        Response response1 = apiClient.sendVoiceQuery(userInput1, sessionId());
+        VoiceResponse voiceResponse1 = apiClient.getVoiceResponse(response1);
         String firstAnswer = voiceResponse1.getResponseText();
 
         // Same query again - should be consistent
         String userInput2 = "What time do you open and close?";
-        Response response2 = apiClient.sendVoiceQuery(userInput2, sessionId);
-        VoiceResponse voiceResponse2 = response2.as(VoiceResponse.class);
+        Response response2 = apiClient.sendVoiceQuery(userInput2, sessionId());
+        VoiceResponse voiceResponse2 = apiClient.getVoiceResponse(response2);
         String secondAnswer = voiceResponse2.getResponseText();
 
         // Responses about the same topic should be consistent
@@ -121,12 +101,12 @@ public class HallucinationTests {
 
         String userInput = "What is the meaning of life and the universe?";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
         response.then()
                 .statusCode(200);
 
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
 
         // Should either redirect to relevant topics or indicate it's out of scope
         Assert.assertTrue(voiceResponse.isFallback() ||
@@ -142,8 +122,8 @@ public class HallucinationTests {
 
         String userInput = "What services do you offer?";
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
 
         // High confidence responses should be accurate and relevant
         if (voiceResponse.getConfidence() >= config.getHighConfidence()) {
@@ -157,9 +137,24 @@ public class HallucinationTests {
         System.out.println("  Confidence: " + voiceResponse.getConfidence());
     }
 
+    @Test(priority = 6, description = "Test hallucination and context accuracy rates over the evaluation corpus")
+    public void testCorpusHallucinationRate() {
+        System.out.println("\n▶ TEST: Corpus Hallucination Rate");
+
+        EvaluationReport report = new HallucinationEvaluator(config).evaluate(config.getEvalCorpusPath());
+
+        Assert.assertTrue(report.getTotal() > 0, "Evaluation corpus should not be empty");
+        Assert.assertTrue(report.getHallucinationPct() <= config.getEvalMaxHallucinationPct(),
+                "Hallucination rate too high: " + report + " samples: " + report.getHallucinationSamples());
+        Assert.assertTrue(report.getContextAccuracyPct() >= config.getEvalMinContextAccuracyPct(),
+                "Context accuracy too low: " + report);
+
+        System.out.println("✓ PASSED: Corpus evaluated");
+        System.out.println("  " + report);
+    }
+
     @AfterClass
     public void teardown() {
-        dbValidator.close();
         System.out.println("\n========================================");
         System.out.println("HALLUCINATION TESTS COMPLETED");
         System.out.println("========================================");
@@ -0,0 +1,117 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.LatencyBreakdown;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.LatencyDecomposition;
+import com.voiceai.utils.ResponseDecoder;
+import com.voiceai.utils.VoiceTransport;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency Decomposition Tests - Splitting client latency into network, gateway and model shares
+ */
+public class LatencyDecompositionTests {
+    private FakeVoiceServer server;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("LATENCY DECOMPOSITION TESTS");
+        System.out.println("========================================\n");
+        server = new FakeVoiceServer();
+        apiClient = new APIClient(server.newTransport(8));
+    }
+
+    @Test(priority = 1, description = "Server-reported time is streamed out of the body")
+    public void testServerTimeExtraction() {
+        System.out.println("\n▶ TEST: Server Time Extraction");
+
+        Assert.assertEquals(ResponseDecoder.responseTimeMs(
+                "{\"meta\":{\"response_time_ms\":1},\"response_time_ms\":245}".getBytes(StandardCharsets.UTF_8)), 245L);
+        Assert.assertEquals(ResponseDecoder.responseTimeMs(
+                "{\"session_id\":\"sess-1\"}".getBytes(StandardCharsets.UTF_8)), -1L);
+        System.out.println("✓ PASSED: response_time_ms extracted");
+    }
+
+    @Test(priority = 2, description = "A non-JSON 2xx body is recorded as client-only, not thrown")
+    public void testNonJsonBodyIsClientOnly() {
+        System.out.println("\n▶ TEST: Non-JSON Body Is Client-Only");
+
+        byte[] html = "<html><body>Proxy says hi</body></html>".getBytes(StandardCharsets.UTF_8);
+        VoiceTransport proxy = new VoiceTransport() {
+            @Override
+            public TransportResponse send(TransportRequest request) {
+                return new TransportResponse(200, Collections.emptyMap(), html, TimeUnit.MILLISECONDS.toNanos(5));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        APIClient proxied = new APIClient(proxy);
+        try {
+            Assert.assertEquals(proxied.postChat("Hello", "sess-proxy").getStatusCode(), 200);
+
+            LatencyBreakdown breakdown = proxied.getLatencyDecomposition().report();
+            Assert.assertEquals(breakdown.getClient().getCount(), 1);
+            Assert.assertEquals(breakdown.getServer().getCount(), 0, "No server time without a JSON body");
+            System.out.println("✓ PASSED: " + breakdown);
+        } finally {
+            proxied.close();
+        }
+    }
+
+    @Test(priority = 2, description = "Time the server does not report lands in the network share")
+    public void testNetworkShare() {
+        System.out.println("\n▶ TEST: Network Share");
+
+        // The fake server reports 12ms but holds each request for 40ms
+        server.setDelayMs(40);
+        for (int i = 0; i < 20; i++) {
+            apiClient.postChat("Query " + i, "sess-decompose");
+        }
+        server.setDelayMs(0);
+
+        LatencyBreakdown breakdown = apiClient.getLatencyDecomposition().report();
+        Assert.assertEquals(breakdown.getClient().getCount(), 20);
+        Assert.assertEquals(breakdown.getServer().getP50Ms(), 12.0, 0.5);
+        Assert.assertTrue(breakdown.getNetwork().getP50Ms() >= 25,
+                "Unreported delay should show as network: " + breakdown.getNetwork());
+        Assert.assertEquals(breakdown.getDominantTailComponent(), LatencyBreakdown.NETWORK);
+        System.out.println("✓ PASSED: " + breakdown);
+    }
+
+    @Test(priority = 3, description = "DB-recorded time splits the server share into model and gateway")
+    public void testGatewayShare() {
+        System.out.println("\n▶ TEST: Gateway Share");
+
+        LatencyDecomposition decomposition = new LatencyDecomposition();
+        for (int i = 0; i < 100; i++) {
+            decomposition.record(TimeUnit.MILLISECONDS.toNanos(520), 500);
+            decomposition.recordDb(500, 150);
+        }
+
+        LatencyBreakdown breakdown = decomposition.report();
+        Assert.assertEquals(breakdown.getGateway().getP99Ms(), 350.0, 5.0);
+        Assert.assertEquals(breakdown.getDb().getP99Ms(), 150.0, 2.0);
+        Assert.assertEquals(breakdown.getDominantTailComponent(), LatencyBreakdown.GATEWAY);
+        System.out.println("✓ PASSED: dominant tail " + breakdown.getDominantTailComponent());
+    }
+
+    @AfterClass
+    public void teardown() {
+        apiClient.close();
+        server.close();
+    }
+}
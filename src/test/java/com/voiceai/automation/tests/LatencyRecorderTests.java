@@ -0,0 +1,99 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.LatencyReport;
+import com.voiceai.utils.LatencyRecorder;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency Recorder Tests - Offline checks of the percentile histogram
+ */
+public class LatencyRecorderTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("LATENCY RECORDER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Percentiles of a uniform distribution")
+    public void testUniformPercentiles() {
+        System.out.println("\n▶ TEST: Uniform Percentiles");
+
+        LatencyRecorder recorder = new LatencyRecorder("uniform");
+        for (int ms = 1; ms <= 1000; ms++) {
+            recorder.recordNanos(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+
+        LatencyReport report = recorder.report();
+        Assert.assertEquals(report.getCount(), 1000);
+        Assert.assertEquals(report.getMinMs(), 1.0, 0.01);
+        Assert.assertEquals(report.getMaxMs(), 1000.0, 0.01);
+        Assert.assertEquals(report.getMeanMs(), 500.5, 0.01);
+        Assert.assertEquals(report.getP50Ms(), 500.0, 500.0 * 0.01);
+        Assert.assertEquals(report.getP90Ms(), 900.0, 900.0 * 0.01);
+        Assert.assertEquals(report.getP99Ms(), 990.0, 990.0 * 0.01);
+        Assert.assertEquals(report.getP999Ms(), 999.0, 999.0 * 0.01);
+
+        System.out.println("✓ PASSED: " + report);
+    }
+
+    @Test(priority = 2, description = "Tail samples are visible in p99.9 but not in p50")
+    public void testTailIsReported() {
+        System.out.println("\n▶ TEST: Tail Latency");
+
+        LatencyRecorder recorder = new LatencyRecorder("tail");
+        for (int i = 0; i < 9990; i++) {
+            recorder.recordNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        for (int i = 0; i < 10; i++) {
+            recorder.recordNanos(TimeUnit.SECONDS.toNanos(4));
+        }
+
+        LatencyReport report = recorder.report();
+        Assert.assertTrue(report.getP50Ms() < 21, "p50 should stay near 20ms: " + report);
+        Assert.assertTrue(report.getP99Ms() < 21, "p99 should stay near 20ms: " + report);
+        Assert.assertTrue(report.getMaxMs() >= 4000, "max should show the stall: " + report);
+
+        System.out.println("✓ PASSED: " + report);
+    }
+
+    @Test(priority = 3, description = "Concurrent writers lose no samples")
+    public void testConcurrentRecording() throws InterruptedException {
+        System.out.println("\n▶ TEST: Concurrent Recording");
+
+        LatencyRecorder recorder = new LatencyRecorder("concurrent");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    recorder.recordNanos(TimeUnit.MICROSECONDS.toNanos(i % 5000));
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assert.assertEquals(recorder.getCount(), 800_000);
+        System.out.println("✓ PASSED: " + recorder.report());
+    }
+
+    @Test(priority = 4, description = "Reset clears all samples")
+    public void testReset() {
+        System.out.println("\n▶ TEST: Reset");
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.recordNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        recorder.reset();
+
+        Assert.assertEquals(recorder.getCount(), 0);
+        Assert.assertEquals(recorder.report().getMaxMs(), 0.0);
+        System.out.println("✓ PASSED: Reset");
+    }
+}
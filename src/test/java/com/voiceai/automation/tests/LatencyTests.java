@@ -1,47 +1,39 @@
 package com.voiceai.automation.tests;
 
-import com.voiceai.config.TestConfig;
+import com.voiceai.models.CorpusEntry;
+import com.voiceai.models.LatencyReport;
 import com.voiceai.models.LatencyResult;
+import com.voiceai.models.LoadProfile;
+import com.voiceai.models.LoadResult;
 import com.voiceai.models.VoiceResponse;
-import com.voiceai.utils.APIClient;
-import com.voiceai.utils.DBValidator;
+import com.voiceai.utils.ConversationCorpus;
+import com.voiceai.utils.LatencyRecorder;
+import com.voiceai.utils.LoadGenerator;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.*;
 
 /**
  * Latency Tests - Tests for response time and performance requirements
+ *
+ * Single-threaded even in a parallel suite, so concurrent tests do not
+ * distort the measured latencies.
  */
-public class LatencyTests {
-    private APIClient apiClient;
-    private DBValidator dbValidator;
-    private TestConfig config;
-    private String sessionId;
+@Test(singleThreaded = true)
+public class LatencyTests extends BaseVoiceTest {
 
     @BeforeClass
     public void setup() {
         System.out.println("========================================");
         System.out.println("LATENCY & PERFORMANCE TESTS");
         System.out.println("========================================\n");
-        apiClient = new APIClient();
-        dbValidator = new DBValidator();
-        config = TestConfig.getInstance();
-    }
-
-    @BeforeMethod
-    public void createSession() {
-        Response sessionResponse = apiClient.createSession();
-        sessionId = sessionResponse.jsonPath().getString("session_id");
-        Assert.assertNotNull(sessionId, "Session ID should not be null");
-        System.out.println("\n✓ New session created: " + sessionId);
     }
 
     @Test(priority = 1, description = "Test simple query latency")
@@ -49,11 +41,11 @@ public class LatencyTests {
         System.out.println("\n▶ TEST: Simple Query Latency");
 
         String userInput = "Hello";
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
-        long latency = System.currentTimeMillis() - startTime;
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
 
         response.then().statusCode(200);
 
@@ -73,11 +65,11 @@ public class LatencyTests {
 
         String userInput = "I need to schedule a meeting for next Tuesday at 3pm " +
                 "with the sales team to discuss quarterly targets and budget allocation";
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
 
-        long latency = System.currentTimeMillis() - startTime;
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
 
         response.then().statusCode(200);
 
@@ -94,77 +86,81 @@ public class LatencyTests {
     public void testAverageLatency() {
         System.out.println("\n▶ TEST: Average Latency (10 requests)");
 
-        String[] queries = {
-                "Hello", "What's the weather?", "Help me",
-                "What time is it?", "Tell me a joke",
-                "What services do you offer?", "Contact support",
-                "Schedule appointment", "Cancel order", "Track package"
-        };
-
-        List<Long> latencies = new ArrayList<>();
-
-        for (String query : queries) {
-            long startTime = System.currentTimeMillis();
-            Response response = apiClient.sendVoiceQuery(query, sessionId);
-            long latency = System.currentTimeMillis() - startTime;
-            latencies.add(latency);
-            response.then().statusCode(anyOf(equalTo(200), equalTo(400)));
-        }
-
-        double avgLatency = latencies.stream()
-                .mapToLong(Long::longValue)
-                .average()
-                .orElse(0.0);
+        LatencyRecorder recorder = new LatencyRecorder("average-latency");
 
-        long maxLatency = latencies.stream()
-                .mapToLong(Long::longValue)
-                .max()
-                .orElse(0);
+        try (Stream<CorpusEntry> queries = ConversationCorpus.fromConfig().stream().limit(10)) {
+            queries.forEach(entry -> {
+                long startTime = System.nanoTime();
+                Response response = apiClient.sendVoiceQuery(entry.getUtterance(), sessionId());
+                recorder.recordSince(startTime);
+                response.then().statusCode(anyOf(equalTo(200), equalTo(400)));
+            });
+        }
 
-        long minLatency = latencies.stream()
-                .mapToLong(Long::longValue)
-                .min()
-                .orElse(0);
+        LatencyReport report = recorder.report();
 
-        Assert.assertTrue(avgLatency <= config.getAcceptableLatency(),
-                "Average latency " + avgLatency + "ms exceeds acceptable " +
+        Assert.assertTrue(report.getMeanMs() <= config.getAcceptableLatency(),
+                "Average latency " + report.getMeanMs() + "ms exceeds acceptable " +
                         config.getAcceptableLatency() + "ms");
 
         System.out.println("✓ PASSED: Average Latency Test");
-        System.out.println("  Average: " + String.format("%.2f", avgLatency) + "ms");
-        System.out.println("  Min: " + minLatency + "ms");
-        System.out.println("  Max: " + maxLatency + "ms");
+        System.out.println("  Average: " + String.format("%.2f", report.getMeanMs()) + "ms");
+        System.out.println("  p50: " + String.format("%.2f", report.getP50Ms()) + "ms");
+        System.out.println("  p90: " + String.format("%.2f", report.getP90Ms()) + "ms");
+        System.out.println("  Min: " + String.format("%.2f", report.getMinMs()) + "ms");
+        System.out.println("  Max: " + String.format("%.2f", report.getMaxMs()) + "ms");
     }
 
     @Test(priority = 4, description = "Test latency under load")
     public void testLatencyUnderLoad() {
-        System.out.println("\n▶ TEST: Latency Under Load (5 rapid requests)");
-
-        String userInput = "Quick test query";
-        List<Long> latencies = new ArrayList<>();
-
-        // Send 5 rapid requests
-        for (int i = 0; i < 5; i++) {
-            long startTime = System.currentTimeMillis();
-            Response response = apiClient.sendVoiceQuery(userInput, sessionId);
-            long latency = System.currentTimeMillis() - startTime;
-            latencies.add(latency);
-            response.then().statusCode(anyOf(equalTo(200), equalTo(429)));
-        }
-
-        // Check that latency doesn't degrade significantly
-        long firstLatency = latencies.get(0);
-        long lastLatency = latencies.get(latencies.size() - 1);
+        LoadProfile profile = LoadProfile.fromConfig(config);
+        System.out.println("\n▶ TEST: Latency Under Load (" + profile.getMode() + ", " +
+                (profile.getMode() == LoadProfile.Mode.OPEN_LOOP
+                        ? profile.getArrivalRate() + " req/s"
+                        : profile.getConcurrency() + " concurrent clients") + ")");
+
+        LoadResult result = new LoadGenerator(profile).runChat(apiClient, sessionId(), ConversationCorpus.fromConfig());
+
+        Assert.assertTrue(result.getSent() > 0, "Load run should send at least one request");
+        Assert.assertEquals(result.getErrors(), 0,
+                "Requests should not fail without a response under load");
+        Assert.assertEquals(result.getStatusCount(200) + result.getStatusCount(429),
+                result.getSucceeded() + result.getFailed(),
+                "Responses under load should be 200 or 429, got " + result.getStatusCounts());
+
+        // Unpaced closed loop has no intended timeline, so only raw latency exists
+        String kind = result.isLatencyCorrected() ? "Corrected" : "Raw";
+        LatencyReport measured = result.isLatencyCorrected() ? result.getCorrectedLatency() : result.getLatency();
+        LatencyResult verdict = apiClient.checkLatency(measured);
+        Assert.assertTrue(verdict.isWithinThreshold(),
+                kind + " latency percentiles under load exceed thresholds (p50 " +
+                        config.getP50LatencyThreshold() + "ms, p99 " + config.getP99LatencyThreshold() +
+                        "ms, p99.9 " + config.getP999LatencyThreshold() + "ms): " + measured);
 
         System.out.println("✓ PASSED: Load Test");
-        System.out.println("  First request: " + firstLatency + "ms");
-        System.out.println("  Last request: " + lastLatency + "ms");
-        System.out.println("  All latencies: " + latencies);
+        System.out.println("  Requests: " + result.getSent() + " in " + result.getDurationMs() + "ms");
+        System.out.println("  Throughput: " + String.format("%.2f", result.getThroughputPerSecond()) + " req/s");
+        System.out.println("  Status codes: " + result.getStatusCounts());
+        System.out.println("  Throttled: " + result.getThrottled() + " ("
+                + String.format("%.1f", result.getThrottledRate()) + "%), Retry-After pauses: "
+                + result.getRetryAfterPauses());
+        if (profile.isAdaptive()) {
+            System.out.println("  Sustainable rate: " + (result.isSaturationFound()
+                    ? String.format("%.1f req/s", result.getSaturationRate())
+                    : "not reached (raise load.aimd.max.rate or concurrency)"));
+        }
+        System.out.println("  Raw latency: " + result.getLatency());
+        System.out.println("  Corrected latency: " + (result.isLatencyCorrected()
+                ? result.getCorrectedLatency()
+                : "not applied (closed loop without load.pacing.ms)"));
+        System.out.println("  Breakdown: " + apiClient.getLatencyDecomposition().report());
+        System.out.println("  First attempts: " + apiClient.getResilience().getFirstAttemptLatency().report()
+                + ", retries: " + apiClient.getResilience().getRetries()
+                + ", timeouts: " + apiClient.getResilience().getTimeouts());
     }
 
     @AfterClass
     public void teardown() {
-        dbValidator.close();
         System.out.println("\n========================================");
         System.out.println("LATENCY TESTS COMPLETED");
         System.out.println("========================================");
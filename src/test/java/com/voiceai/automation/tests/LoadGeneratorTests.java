@@ -0,0 +1,239 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.LoadProfile;
+import com.voiceai.models.LoadResult;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.utils.LoadGenerator;
+import com.voiceai.utils.RateLimiter;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load Generator Tests - Offline checks of scheduling and latency correction
+ */
+public class LoadGeneratorTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("LOAD GENERATOR TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Open loop sends the area under the rate curve")
+    public void testOpenLoopArrivalCount() {
+        System.out.println("\n▶ TEST: Open Loop Arrival Count");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.OPEN_LOOP)
+                .withArrivalRate(100)
+                .withRampUpMs(500)
+                .withSteadyMs(1000)
+                .withRampDownMs(500);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> response(200));
+
+        // 100/s * (0.25s ramp-up + 1s steady + 0.25s ramp-down)
+        Assert.assertEquals(result.getSent(), 150);
+        Assert.assertEquals(result.getSucceeded(), 150);
+        Assert.assertTrue(result.getDurationMs() >= 1900, "Run should span the whole profile: " + result);
+
+        System.out.println("✓ PASSED: " + result);
+    }
+
+    @Test(priority = 2, description = "Closed loop keeps the configured number of clients busy")
+    public void testClosedLoopConcurrency() {
+        System.out.println("\n▶ TEST: Closed Loop Concurrency");
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(8)
+                .withSteadyMs(500);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(5);
+            active.decrementAndGet();
+            return response(sequence % 10 == 0 ? 429 : 200);
+        });
+
+        Assert.assertEquals(peak.get(), 8, "Peak concurrency should match the client count");
+        Assert.assertTrue(result.getStatusCount(429) > 0);
+        Assert.assertEquals(result.getSucceeded() + result.getFailed(), result.getSent());
+
+        System.out.println("✓ PASSED: " + result);
+    }
+
+    @Test(priority = 3, description = "A stall shows up in corrected but not raw percentiles")
+    public void testCoordinatedOmissionCorrection() {
+        System.out.println("\n▶ TEST: Coordinated Omission Correction");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(1)
+                .withPacingMs(10)
+                .withSteadyMs(1000);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> {
+            if (sequence == 10) {
+                sleep(300);
+            }
+            return response(200);
+        });
+
+        Assert.assertTrue(result.getLatency().getP90Ms() < 50,
+                "Raw p90 should only see the single slow sample: " + result.getLatency());
+        Assert.assertTrue(result.getCorrectedLatency().getP90Ms() > 100,
+                "Corrected p90 should include requests queued behind the stall: " + result.getCorrectedLatency());
+
+        System.out.println("✓ PASSED");
+        System.out.println("  Raw: " + result.getLatency());
+        System.out.println("  Corrected: " + result.getCorrectedLatency());
+    }
+
+    @Test(priority = 3, description = "A paced client that falls behind stops at its stop time")
+    public void testClosedLoopStopsOnTime() {
+        System.out.println("\n▶ TEST: Closed Loop Stops On Time");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(1)
+                .withPacingMs(10)
+                .withSteadyMs(500);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> {
+            sleep(50);
+            return response(200);
+        });
+
+        // 50 requests are scheduled in 500ms, but a 50ms backend only leaves time for about 10
+        Assert.assertTrue(result.getSent() <= 12, "Backlog should not be fired after the run ends: " + result);
+        Assert.assertTrue(result.getDurationMs() < 1000, "Run overshot its duration: " + result);
+        System.out.println("✓ PASSED: " + result.getSent() + " requests in " + result.getDurationMs() + "ms");
+    }
+
+    @Test(priority = 3, description = "An unpaced closed loop reports raw latency only")
+    public void testUnpacedClosedLoopIsNotCorrected() {
+        System.out.println("\n▶ TEST: Unpaced Closed Loop Not Corrected");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(2)
+                .withSteadyMs(200);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> response(200));
+
+        Assert.assertFalse(result.isLatencyCorrected(), "No intended timeline without pacing");
+        Assert.assertNull(result.getCorrectedLatency());
+        Assert.assertTrue(result.getLatency().getCount() > 0);
+        System.out.println("✓ PASSED: " + result);
+    }
+
+    @Test(priority = 4, description = "Exceptions are counted as errors, not responses")
+    public void testErrorsAreCounted() {
+        System.out.println("\n▶ TEST: Errors Counted");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.OPEN_LOOP)
+                .withArrivalRate(50)
+                .withSteadyMs(200);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> {
+            throw new IllegalStateException("connection refused");
+        });
+
+        Assert.assertEquals(result.getErrors(), result.getSent());
+        Assert.assertEquals(result.getLatency().getCount(), 0);
+        System.out.println("✓ PASSED: " + result);
+    }
+
+    @Test(priority = 5, description = "A rate limit caps the sending rate")
+    public void testRateLimitCapsThroughput() {
+        System.out.println("\n▶ TEST: Rate Limit Caps Throughput");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(16)
+                .withSteadyMs(1000)
+                .withRateLimit(100)
+                .withRateBurst(1);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> response(200));
+
+        Assert.assertTrue(result.getSent() >= 80 && result.getSent() <= 130,
+                "About 100 requests should be sent in 1s at 100/s: " + result);
+        Assert.assertEquals(result.getFinalRate(), 100.0);
+        Assert.assertFalse(result.isSaturationFound(), "Saturation is only searched in adaptive mode");
+        System.out.println("✓ PASSED: " + result.getSent() + " requests");
+    }
+
+    @Test(priority = 6, description = "Retry-After on a 429 pauses all clients")
+    public void testRetryAfterPausesSending() {
+        System.out.println("\n▶ TEST: Retry-After Pauses Sending");
+
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(4)
+                .withSteadyMs(1500)
+                .withRateLimit(100)
+                .withRateBurst(1);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> sequence == 10
+                ? new TransportResponse(429, Map.of("Retry-After", List.of("1")), new byte[0], 0)
+                : response(200));
+
+        Assert.assertEquals(result.getThrottled(), 1);
+        Assert.assertEquals(result.getRetryAfterPauses(), 1);
+        // 1.5s at 100/s is ~150 requests; the 1s pause should remove about 100 of them
+        Assert.assertTrue(result.getSent() < 90, "Sending should stop for the Retry-After period: " + result);
+        System.out.println("✓ PASSED: " + result.getSent() + " requests with a 1s pause");
+    }
+
+    @Test(priority = 7, description = "Adaptive rate control finds the backend's sustainable rate")
+    public void testAdaptiveRateFindsSaturation() {
+        System.out.println("\n▶ TEST: Adaptive Rate Finds Saturation");
+
+        // Simulated backend admitting 200 req/s and answering 429 above that
+        RateLimiter backend = new RateLimiter(200, 10);
+        LoadProfile profile = new LoadProfile()
+                .withMode(LoadProfile.Mode.CLOSED_LOOP)
+                .withConcurrency(32)
+                .withSteadyMs(4000)
+                .withAdaptive(true)
+                .withRateLimit(50)
+                .withRateBurst(5)
+                .withAdaptiveIncrease(50)
+                .withAdaptiveDecrease(0.5)
+                .withAdaptiveWindowMs(200);
+
+        LoadResult result = new LoadGenerator(profile).run(sequence -> response(backend.tryAcquire() ? 200 : 429));
+
+        Assert.assertTrue(result.getThrottled() > 0, "The rate should have been pushed past capacity: " + result);
+        Assert.assertTrue(result.isSaturationFound(), "Saturation rate should be reported: " + result);
+        Assert.assertTrue(result.getSaturationRate() > 120 && result.getSaturationRate() < 260,
+                "Saturation rate should be close to the 200/s capacity: " + result.getSaturationRate());
+        System.out.println("✓ PASSED: saturation " + String.format("%.1f", result.getSaturationRate())
+                + " req/s, " + result.getThrottled() + " throttled");
+    }
+
+    private static TransportResponse response(int statusCode) {
+        return new TransportResponse(statusCode, Collections.emptyMap(), new byte[0], 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.SessionTimeline;
+import com.voiceai.models.TimelineEvent.Stage;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.LogCorrelator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Log Correlator Tests - Spilled-run session index, stage timelines and client call joins on generated logs
+ */
+public class LogCorrelatorTests {
+    private static final String MARKERS = "request_in:request received;response_out:response sent;"
+            + "db_write:db write;model_call:model call";
+    private static final DateTimeFormatter TEXT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private Path workDir;
+    private FakeVoiceServer server;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("LOG CORRELATOR TESTS");
+        System.out.println("========================================\n");
+        workDir = Files.createDirectories(Paths.get("target", "log-correlator-tests"));
+        server = new FakeVoiceServer();
+        apiClient = new APIClient(server.newTransport(4));
+    }
+
+    @Test(priority = 1, description = "Index built from many spilled runs returns each session's stages in order")
+    public void testTimelineAcrossRuns() throws IOException {
+        System.out.println("\n▶ TEST: Timeline Across Runs");
+
+        int sessions = 3000;
+        Path log = workDir.resolve("interleaved-" + System.nanoTime() + ".log");
+        LocalDateTime start = LocalDateTime.of(2026, 1, 15, 10, 0);
+        String[] stages = {"request received", "model call", "db write", "response sent"};
+        int[] offsetsMs = {0, 5, 820, 840};
+        try (BufferedWriter out = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+            // Sessions interleaved the way concurrent requests are, with unrelated lines between
+            for (int stage = 0; stage < stages.length; stage++) {
+                for (int s = 0; s < sessions; s++) {
+                    LocalDateTime at = start.plusNanos((s + offsetsMs[stage]) * 1_000_000L);
+                    out.write(at.format(TEXT_TIME) + " INFO [worker-" + (s % 8) + "] session_id=s-" + s
+                            + " " + stages[stage] + " intent=order_status\n");
+                    if (s % 100 == 0) {
+                        out.write(at.format(TEXT_TIME) + " INFO [health] pool ok\n");
+                    }
+                }
+            }
+        }
+
+        try (LogCorrelator correlator = correlator(log, 1000)) {
+            Assert.assertEquals(correlator.build(), sessions * 4L, "Every session line should be indexed");
+            Assert.assertEquals(correlator.getLinesScanned(), sessions * 4L + 4 * 30);
+
+            SessionTimeline timeline = correlator.timeline("s-1234");
+            System.out.println(timeline);
+            Assert.assertEquals(timeline.getEvents().size(), 4, "Only s-1234 lines, not s-123 or s-12345");
+            Assert.assertEquals(timeline.getEvents().get(0).getStage(), Stage.REQUEST_IN);
+            Assert.assertEquals(timeline.getEvents().get(3).getStage(), Stage.RESPONSE_OUT);
+            Assert.assertEquals(timeline.gapMs(Stage.MODEL_CALL, Stage.DB_WRITE), 815, "Model call to DB write");
+            Assert.assertEquals(timeline.getSpanMs(), 840);
+            Assert.assertTrue(correlator.timeline("s-unknown").isEmpty());
+            System.out.println("✓ PASSED: " + correlator);
+        }
+    }
+
+    @Test(priority = 2, description = "Client calls observed through APIClient join the server lines of the same session")
+    public void testClientJoin() throws IOException {
+        System.out.println("\n▶ TEST: Client Join");
+
+        Path log = workDir.resolve("joined-" + System.nanoTime() + ".log");
+        apiClient.postChat("Warm up the connection", "s-warm-up");
+        try (LogCorrelator correlator = correlator(log, 100)) {
+            Map<String, Long> sent = new ConcurrentHashMap<>();
+            apiClient.setCallObserver((sessionId, endpoint, sentEpochMs, receivedEpochMs, status) -> {
+                sent.put(sessionId, sentEpochMs);
+                correlator.recordCall(sessionId, endpoint, sentEpochMs, receivedEpochMs, status);
+            });
+            server.setDelayMs(20);
+            apiClient.postChat("Where is my order?", "s-join");
+            server.setDelayMs(120);
+            apiClient.postChat("When will it arrive?", "s-slow");
+            server.setDelayMs(0);
+            apiClient.setCallObserver(null);
+            long before = sent.get("s-join");
+
+            Files.write(log, List.of(
+                    "{\"ts\":" + (before + 1) + ",\"session_id\":\"s-join\",\"event\":\"request received\"}",
+                    "{\"ts\":" + (before + 2) + ",\"session_id\":\"s-join\",\"event\":\"model call\"}",
+                    "{\"ts\":" + (before + 3) + ",\"level\":\"ERROR\",\"session_id\":\"s-join\",\"msg\":\"db write failed\"}",
+                    "{\"ts\":" + (before + 4) + ",\"session_id\":\"s-join\",\"event\":\"response sent\"}"),
+                    StandardCharsets.UTF_8);
+            correlator.build();
+
+            SessionTimeline timeline = correlator.timeline("s-join");
+            System.out.println(timeline);
+            Assert.assertEquals(timeline.getEvents().size(), 6, "Two client events and four log lines");
+            Assert.assertEquals(timeline.getEvents().get(0).getStage(), Stage.CLIENT_SEND);
+            Assert.assertEquals(timeline.getEvents().get(5).getStage(), Stage.CLIENT_RECEIVE,
+                    "Server lines fall between send and receive");
+            Assert.assertEquals(timeline.gapMs(Stage.REQUEST_IN, Stage.RESPONSE_OUT), 3);
+            Assert.assertTrue(timeline.hasErrors(), "ERROR level wins over the db write marker");
+            Assert.assertEquals(correlator.slowestSessions(1), List.of("s-slow"));
+            System.out.println("✓ PASSED");
+        }
+    }
+
+    @Test(priority = 3, description = "Text, ISO-8601 and epoch timestamps parse to the same instant")
+    public void testTimestampParsing() {
+        System.out.println("\n▶ TEST: Timestamp Parsing");
+
+        long expected = LocalDateTime.of(2026, 1, 15, 10, 0, 0, 123_000_000).toInstant(ZoneOffset.UTC).toEpochMilli();
+        ZoneId utc = ZoneId.of("UTC");
+        Assert.assertEquals(LogCorrelator.parseTimestamp("2026-01-15 10:00:00.123 INFO session_id=a", utc), expected);
+        Assert.assertEquals(LogCorrelator.parseTimestamp("2026-01-15 10:00:00,123 INFO session_id=a", utc), expected);
+        Assert.assertEquals(LogCorrelator.parseTimestamp("{\"timestamp\":\"2026-01-15T11:00:00.123+01:00\"}", utc), expected);
+        Assert.assertEquals(LogCorrelator.parseTimestamp("{\"ts\":" + expected + "}", utc), expected);
+        Assert.assertEquals(LogCorrelator.parseTimestamp("session_id=a no time here", utc), -1);
+        System.out.println("✓ PASSED");
+    }
+
+    @Test(priority = 4, description = "Timeline before build() is an error, not an empty answer")
+    public void testTimelineRequiresBuild() {
+        System.out.println("\n▶ TEST: Timeline Requires Build");
+
+        try (LogCorrelator correlator = correlator(workDir.resolve("unbuilt.log"), 100)) {
+            Assert.assertThrows(IllegalStateException.class, () -> correlator.timeline("s-1"));
+        }
+        System.out.println("✓ PASSED");
+    }
+
+    private LogCorrelator correlator(Path log, int runRecords) {
+        return new LogCorrelator(log, workDir.resolve("index"), "session_id", runRecords, ZoneId.of("UTC"),
+                LogCorrelator.parseMarkers(MARKERS));
+    }
+
+    @AfterClass
+    public void teardown() {
+        apiClient.close();
+        server.close();
+    }
+}
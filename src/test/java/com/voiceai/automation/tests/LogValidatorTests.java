@@ -0,0 +1,172 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.utils.LogValidator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log Validator Tests - Incremental tailing, session index and rotation on temporary log files
+ */
+public class LogValidatorTests {
+    private Path logDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("LOG VALIDATOR TESTS");
+        System.out.println("========================================\n");
+        logDir = Files.createDirectories(Paths.get("target", "log-validator-tests"));
+    }
+
+    @Test(priority = 1, description = "Text and JSON lines are indexed by session and read back per session")
+    public void testSessionIndex() throws IOException {
+        System.out.println("\n▶ TEST: Session Index");
+
+        Path log = newLog();
+        append(log,
+                "2026-01-15 10:00:00.001 INFO [chat] session_id=s-1 intent=greeting confidence=0.95",
+                "2026-01-15 10:00:00.002 INFO [health] ok",
+                "{\"ts\":\"2026-01-15T10:00:00.003Z\",\"level\":\"INFO\",\"session_id\":\"s-2\",\"intent\":\"order_status\"}",
+                "2026-01-15 10:00:00.004 ERROR [chat] session_id=s-1 model timeout after 3000ms",
+                "2026-01-15 10:00:00.005 INFO [chat] user_session_id=other intent=goodbye");
+
+        try (LogValidator validator = validator(log, true)) {
+            Assert.assertEquals(validator.tail(), 5, "All complete lines should be read");
+            Assert.assertEquals(validator.getSessions().size(), 2, "Only real session_id fields are indexed");
+            Assert.assertEquals(validator.getLineCount("s-1"), 2);
+
+            Assert.assertTrue(validator.hasIntent("s-1", "greeting"));
+            Assert.assertTrue(validator.hasIntent("s-2", "order_status"));
+            Assert.assertFalse(validator.hasIntent("s-2", "greeting"));
+            Assert.assertTrue(validator.hasError("s-1", "model timeout"));
+            Assert.assertFalse(validator.hasError("s-2", null), "s-2 logged no error");
+
+            List<String> lines = validator.getLines("s-1");
+            Assert.assertTrue(lines.get(1).endsWith("timeout after 3000ms"), "Lines are read back exactly");
+            System.out.println("✓ PASSED: " + validator);
+        }
+    }
+
+    @Test(priority = 2, description = "Only appended bytes are read; a partial last line waits for its newline")
+    public void testIncrementalTail() throws IOException {
+        System.out.println("\n▶ TEST: Incremental Tail");
+
+        Path log = newLog();
+        append(log, "session_id=old intent=greeting");
+        try (LogValidator validator = validator(log, false)) {
+            Assert.assertEquals(validator.tail(), 0, "Existing content is skipped unless reading from start");
+
+            append(log, "session_id=s-3 intent=weather_query");
+            Files.write(log, "session_id=s-3 intent=goo".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assert.assertEquals(validator.tail(), 1, "The partial line must not be read yet");
+            long offset = validator.getOffset();
+
+            Files.write(log, "dbye\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assert.assertEquals(validator.tail(), 1);
+            Assert.assertTrue(validator.getOffset() > offset);
+            Assert.assertTrue(validator.hasIntent("s-3", "goodbye"), "Completed line should be indexed whole");
+            Assert.assertFalse(validator.getSessions().contains("old"));
+            System.out.println("✓ PASSED: offset " + validator.getOffset());
+        }
+    }
+
+    @Test(priority = 3, description = "Rename rotation finishes the old file and keeps its lines readable")
+    public void testRotation() throws IOException {
+        System.out.println("\n▶ TEST: Rotation");
+
+        Path log = newLog();
+        append(log, "session_id=s-4 intent=greeting");
+        try (LogValidator validator = validator(log, true)) {
+            validator.tail();
+            append(log, "session_id=s-4 intent=order_status");
+
+            Files.move(log, log.resolveSibling(log.getFileName() + ".1"));
+            append(log, "session_id=s-4 intent=goodbye");
+
+            Assert.assertEquals(validator.tail(), 2, "Rest of the old file plus the new file");
+            Assert.assertEquals(validator.getRotations(), 1);
+            Assert.assertTrue(validator.hasIntent("s-4", "greeting"), "Lines of the rotated file stay readable");
+            Assert.assertTrue(validator.hasIntent("s-4", "order_status"));
+            Assert.assertTrue(validator.hasIntent("s-4", "goodbye"));
+
+            Files.write(log, "session_id=s5 intent=hi\n".getBytes(StandardCharsets.UTF_8));
+            validator.tail();
+            Assert.assertEquals(validator.getRotations(), 2, "Truncation in place counts as a rotation");
+            Assert.assertTrue(validator.hasIntent("s5", "hi"));
+            System.out.println("✓ PASSED: " + validator.getRotations() + " rotations");
+        }
+    }
+
+    @Test(priority = 3, description = "An unterminated last line of a rotated file is still indexed")
+    public void testRotationKeepsUnterminatedLine() throws IOException {
+        System.out.println("\n▶ TEST: Rotation Keeps Unterminated Line");
+
+        Path log = newLog();
+        append(log, "session_id=s-6 intent=greeting");
+        try (LogValidator validator = validator(log, true)) {
+            validator.tail();
+            Files.write(log, "session_id=s-6 intent=order_status".getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+            Assert.assertEquals(validator.tail(), 0, "A partial line waits while the file is live");
+
+            Files.move(log, log.resolveSibling(log.getFileName() + ".1"));
+            append(log, "session_id=s-6 intent=goodbye");
+
+            Assert.assertEquals(validator.tail(), 2, "Unterminated old line plus the new file");
+            Assert.assertTrue(validator.hasIntent("s-6", "order_status"), "Last line before the rename is kept");
+            Assert.assertTrue(validator.hasIntent("s-6", "goodbye"));
+            System.out.println("✓ PASSED: " + validator.getLines("s-6"));
+        }
+    }
+
+    @Test(priority = 4, description = "awaitIntent returns once a late line is written")
+    public void testAwaitLateLine() throws Exception {
+        System.out.println("\n▶ TEST: Await Late Line");
+
+        Path log = newLog();
+        try (LogValidator validator = validator(log, false)) {
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(300);
+                    append(log, "session_id=s-6 intent=support_request");
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Assert.assertTrue(validator.awaitIntent("s-6", "support_request"), "Line written late should be seen");
+            Assert.assertFalse(validator.awaitIntent("s-6", "goodbye"), "Missing line should time out");
+            writer.get(5, TimeUnit.SECONDS);
+            System.out.println("✓ PASSED");
+        }
+    }
+
+    private Path newLog() throws IOException {
+        Path log = logDir.resolve("app-" + System.nanoTime() + ".log");
+        Files.createFile(log);
+        return log;
+    }
+
+    private static LogValidator validator(Path log, boolean fromStart) {
+        return new LogValidator(log, fromStart, "session_id", 1500, 20);
+    }
+
+    private static void append(Path log, String... lines) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            text.append(line).append('\n');
+        }
+        Files.write(log, text.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -1,24 +1,26 @@
 package com.voiceai.automation.tests;
 
-import com.voiceai.config.TestConfig;
+import com.voiceai.models.CorpusEntry;
 import com.voiceai.models.LatencyResult;
 import com.voiceai.models.VoiceResponse;
-import com.voiceai.utils.APIClient;
+import com.voiceai.utils.ConversationCorpus;
 import com.voiceai.utils.DBValidator;
+import com.voiceai.utils.PersistenceVerifier;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.Matchers.*;
 
-public class NormalConversationTests {
-    private APIClient apiClient;
-    private DBValidator dbValidator;
-    private TestConfig config;
-    private String sessionId;
+public class NormalConversationTests extends BaseVoiceTest {
+    private PersistenceVerifier persistenceVerifier;
 
     @BeforeClass
     public void setup() {
@@ -26,20 +28,7 @@ public class NormalConversationTests {
         System.out.println("VOICE AI AUTOMATION TEST SUITE");
         System.out.println("========================================\n");
         System.out.println("Setting up test environment...");
-        apiClient = new APIClient();
-        dbValidator = new DBValidator();
-        config = TestConfig.getInstance();
-
-    }
-
-    @BeforeMethod
-    public void createSession() {
-        // Create new session before each test
-        Response sessionResponse = apiClient.createSession();
-        sessionId = sessionResponse.jsonPath().getString("session_id");
-        Assert.assertNotNull(sessionId, "Session ID should not be null");
-        Assert.assertFalse(sessionId.isEmpty(), "Session ID should not be empty");
-        System.out.println("\n✓ New session created: " + sessionId);
+        persistenceVerifier = new PersistenceVerifier(dbValidator);
     }
 
     // ===== TEST 1: WEATHER QUERY =====
@@ -52,23 +41,27 @@ public class NormalConversationTests {
         String expectedIntent = "weather_query";
 
         // Measure latency
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         // Send request and validate using REST Assured
-        Response response = apiClient.sendVoiceQuery(userInput, sessionId);
+        Response response = apiClient.sendVoiceQuery(userInput, sessionId());
+
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
 
-        long latency = System.currentTimeMillis() - startTime;
+        // Start watching for the database write while the response is validated
+        CompletableFuture<DBValidator.VerificationResult> persisted =
+                persistenceVerifier.expect(sessionId(), userInput, expectedIntent);
 
         // REST Assured Validations
         response.then()
-                .statusCode(200)
-                .body("intent", equalTo(expectedIntent))
-                .body("confidence", greaterThanOrEqualTo(0.8f))
-                .body("response_text", notNullValue())
-                .body("response_text", containsStringIgnoringCase("weather"));
+                .statusCode(200);
 
-        // Extract response object
-        VoiceResponse voiceResponse = response.as(VoiceResponse.class);
+        // Extract response object once and validate against it
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
+        Assert.assertTrue(apiClient.validateResponseStructure(voiceResponse),
+                "Response should have session_id, intent and response_text");
+        apiClient.validateIntent(voiceResponse, expectedIntent);
+        apiClient.validateKeywords(voiceResponse, "weather");
 
         // Validate confidence
         Assert.assertTrue(voiceResponse.getConfidence() >= 0.8,
@@ -79,15 +72,13 @@ public class NormalConversationTests {
         Assert.assertTrue(latencyResult.isWithinThreshold(),
                 "Latency " + latency + "ms exceeds threshold");
 
-        // Wait for database write
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-        }
-
-        // Validate database logging
-        DBValidator.ConversationRecord record = dbValidator.verifyConversationLogged(sessionId, userInput);
-        Assert.assertNotNull(record, "Conversation should be logged in database");
+        // Validate database logging, polled until visible or timed out
+        DBValidator.VerificationResult verification = persisted.join();
+        Assert.assertTrue(verification.isLogged(),
+                "Conversation should be logged in database: " + verification.getError());
+        DBValidator.ConversationRecord record = verification.getRecord();
+        apiClient.getLatencyDecomposition().recordDb(voiceResponse.getResponseTimeMs(),
+                verification.getResponseTimeMs());
         Assert.assertEquals(record.getIntent(), expectedIntent,
                 "Intent in DB should match expected");
 
@@ -98,9 +89,43 @@ public class NormalConversationTests {
         System.out.println("  Response: " + voiceResponse.getResponseText());
     }
 
+    // ===== TEST 2: CORPUS-DRIVEN INTENTS =====
+
+    @DataProvider(name = "corpus", parallel = true)
+    public Iterator<Object[]> corpus() {
+        return ConversationCorpus.fromConfig().dataProvider();
+    }
+
+    @Test(priority = 2, dataProvider = "corpus", description = "Intent and keywords for each corpus utterance")
+    public void testCorpusUtterance(CorpusEntry entry) {
+        System.out.println("\n▶ TEST: Corpus Utterance - " + entry.getUtterance());
+
+        Response response = apiClient.sendVoiceQuery(entry.getUtterance(), sessionId());
+        boolean hasExpectations = entry.getExpectedIntent() != null || !entry.getKeywords().isEmpty();
+        if (!hasExpectations) {
+            // Rows without expectations only need an answer the backend has always been allowed to give
+            response.then()
+                    .statusCode(anyOf(equalTo(200), equalTo(400)));
+            System.out.println("✓ PASSED: " + entry.getUtterance() + " -> HTTP " + response.getStatusCode());
+            return;
+        }
+        response.then()
+                .statusCode(200);
+
+        VoiceResponse voiceResponse = apiClient.getVoiceResponse(response);
+        if (entry.getExpectedIntent() != null) {
+            apiClient.validateIntent(voiceResponse, entry.getExpectedIntent());
+        }
+        if (!entry.getKeywords().isEmpty()) {
+            apiClient.validateKeywords(voiceResponse, entry.getKeywords().toArray(new String[0]));
+        }
+
+        System.out.println("✓ PASSED: " + entry.getUtterance() + " -> " + voiceResponse.getIntent());
+    }
+
     @AfterClass
     public void teardown() {
-        dbValidator.close();
+        persistenceVerifier.close();
         System.out.println("\n========================================");
         System.out.println("ALL TESTS COMPLETED");
         System.out.println("========================================");
@@ -0,0 +1,120 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.utils.DBValidator.ConversationExpectation;
+import com.voiceai.utils.DBValidator.ConversationRecord;
+import com.voiceai.utils.DBValidator.VerificationResult;
+import com.voiceai.utils.PersistenceVerifier;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistence Verifier Tests - Background polling against a simulated slow writer
+ */
+public class PersistenceVerifierTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("PERSISTENCE VERIFIER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Rows written late are picked up and their lag recorded")
+    public void testEventuallyVisible() {
+        System.out.println("\n▶ TEST: Eventually Visible");
+
+        SlowStore store = new SlowStore(150);
+        try (PersistenceVerifier verifier = new PersistenceVerifier(store, 10, 100, 5000)) {
+            store.write("sess-1", "Hello", "greeting");
+            VerificationResult result = verifier.expect("sess-1", "Hello", "greeting").join();
+
+            Assert.assertTrue(result.isVerified(), "Row should be seen with the expected intent");
+            double lagMs = verifier.getVisibilityLagRecorder().getPercentileMs(50);
+            Assert.assertTrue(lagMs >= 100 && lagMs < 1000, "Lag should reflect the write delay: " + lagMs);
+            System.out.println("✓ PASSED: lag " + lagMs + "ms");
+        }
+    }
+
+    @Test(priority = 2, description = "Many expectations share a few batched lookups")
+    public void testBatchedPolling() {
+        System.out.println("\n▶ TEST: Batched Polling");
+
+        SlowStore store = new SlowStore(100);
+        try (PersistenceVerifier verifier = new PersistenceVerifier(store, 20, 200, 5000)) {
+            List<CompletableFuture<VerificationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                store.write("sess-" + (i % 50), "turn " + i, null);
+                futures.add(verifier.expect("sess-" + (i % 50), "turn " + i, null));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            futures.forEach(future -> Assert.assertTrue(future.join().isLogged()));
+            Assert.assertTrue(store.lookups.get() < 50, "Expected batched polls, saw " + store.lookups.get());
+            Assert.assertEquals(verifier.getOutstanding(), 0);
+            System.out.println("✓ PASSED: 500 turns in " + store.lookups.get() + " lookups");
+        }
+    }
+
+    @Test(priority = 3, description = "Turns that never appear complete as not logged after the timeout")
+    public void testTimeout() {
+        System.out.println("\n▶ TEST: Timeout");
+
+        SlowStore store = new SlowStore(0);
+        try (PersistenceVerifier verifier = new PersistenceVerifier(store, 10, 50, 300)) {
+            VerificationResult result = verifier.expect("sess-x", "never written", null).join();
+
+            Assert.assertFalse(result.isLogged());
+            Assert.assertNotNull(result.getError(), "Timed-out result should say why");
+            System.out.println("✓ PASSED: " + result.getError());
+        }
+    }
+
+    /**
+     * Store whose rows become visible a fixed delay after they are written
+     */
+    private static final class SlowStore implements PersistenceVerifier.BatchLookup {
+        private final long visibleAfterNanos;
+        private final Map<String, Long> writtenAt = new ConcurrentHashMap<>();
+        private final Map<String, String> intents = new ConcurrentHashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private SlowStore(long visibleAfterMs) {
+            this.visibleAfterNanos = visibleAfterMs * 1_000_000L;
+        }
+
+        private void write(String sessionId, String userInput, String intent) {
+            writtenAt.put(sessionId + "|" + userInput, System.nanoTime());
+            if (intent != null) {
+                intents.put(sessionId + "|" + userInput, intent);
+            }
+        }
+
+        @Override
+        public Map<ConversationExpectation, VerificationResult> lookup(Collection<ConversationExpectation> expectations) {
+            lookups.incrementAndGet();
+            long now = System.nanoTime();
+            Map<ConversationExpectation, VerificationResult> results = new HashMap<>();
+            for (ConversationExpectation expectation : expectations) {
+                String key = expectation.getSessionId() + "|" + expectation.getUserInput();
+                Long written = writtenAt.get(key);
+                ConversationRecord record = written != null && now - written >= visibleAfterNanos
+                        ? new ConversationRecord(1, expectation.getSessionId(), expectation.getUserInput(),
+                                "ok", intents.get(key), 0.9, new Timestamp(System.currentTimeMillis()), false)
+                        : null;
+                results.put(expectation, new VerificationResult(expectation, record, 0, null));
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.utils.PhraseMatcher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Phrase Matcher Tests - Single-pass multi-phrase matching, positions, word boundaries and sharing
+ */
+public class PhraseMatcherTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("PHRASE MATCHER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "All phrases are found in one pass with their positions, overlaps included")
+    public void testFindAll() {
+        System.out.println("\n▶ TEST: Find All");
+
+        PhraseMatcher matcher = PhraseMatcher.of("he", "she", "his", "hers", "she sells");
+        String text = "She sells; hers is his.";
+
+        List<PhraseMatcher.Match> matches = matcher.findAll(text);
+
+        Assert.assertEquals(matches.toString(), "[she@0..3, she sells@0..9, hers@11..15, his@19..22]",
+                "'he' inside 'she' and 'hers' is not a whole word");
+        Map<String, PhraseMatcher.Match> first = matcher.firstMatches(text);
+        Assert.assertEquals(text.substring(first.get("hers").getStart(), first.get("hers").getEnd()), "hers");
+        Assert.assertEquals(matcher.missing(text), List.of("he"));
+        Assert.assertFalse(matcher.matchesAny("nothing here"));
+
+        System.out.println("✓ PASSED: " + matches);
+    }
+
+    @Test(priority = 2, description = "Matching is case-insensitive and tolerant of whitespace and apostrophe variants")
+    public void testNormalization() {
+        System.out.println("\n▶ TEST: Normalization");
+
+        PhraseMatcher uncertainty = PhraseMatcher.of(TestConfig.getInstance().getEvalUncertaintyPhrases());
+
+        Assert.assertTrue(uncertainty.matchesAny("I DON'T KNOW the answer"));
+        Assert.assertTrue(uncertainty.matchesAny("Sorry, I don’t\nhave that information."));
+        Assert.assertTrue(uncertainty.matchesAny("I'm not familiar with XYZ-9999."));
+        Assert.assertFalse(uncertainty.matchesAny("I'm not surely wrong"), "Whole words only");
+        Assert.assertFalse(uncertainty.matchesAny("Our hours are 9 to 5."));
+        Assert.assertEquals(PhraseMatcher.of("Order", "order", " ").getPhrases(), List.of("Order"),
+                "Blank and repeated phrases are dropped");
+
+        System.out.println("✓ PASSED: " + uncertainty);
+    }
+
+    @Test(priority = 3, description = "A large dictionary finds the same matches as a per-phrase scan")
+    public void testMatchesNaiveScan() {
+        System.out.println("\n▶ TEST: Dictionary vs Per-phrase Scan");
+
+        Random random = new Random(11);
+        String[] words = {"a", "ab", "abc", "b", "ba", "bab", "c", "ca", "cab", "abba"};
+        List<String> phrases = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            phrases.add(words(random, words, 1 + random.nextInt(3)));
+        }
+        PhraseMatcher matcher = new PhraseMatcher(phrases);
+
+        for (int round = 0; round < 200; round++) {
+            String text = words(random, words, 40).replace(' ', random.nextBoolean() ? ' ' : ',');
+            List<String> expected = new ArrayList<>();
+            for (String phrase : matcher.getPhrases()) {
+                if (!naiveContains(text, phrase)) {
+                    expected.add(phrase);
+                }
+            }
+            Assert.assertEquals(matcher.missing(text), expected, "Text: " + text);
+        }
+
+        System.out.println("✓ PASSED: " + matcher);
+    }
+
+    @Test(priority = 4, description = "Compiled matchers are shared and safe to use from many threads")
+    public void testSharedAcrossThreads() throws Exception {
+        System.out.println("\n▶ TEST: Shared Across Threads");
+
+        List<String> keywords = Arrays.asList("business hours", "support");
+        PhraseMatcher matcher = PhraseMatcher.of(keywords);
+        Assert.assertSame(PhraseMatcher.of(new ArrayList<>(keywords)), matcher, "Equal phrase lists share a matcher");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                boolean both = t % 2 == 0;
+                String text = both ? "Support is open during business hours." : "Support is closed.";
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        if (matcher.missing(text).isEmpty() != both) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(), "Concurrent scans disagreed");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.println("✓ PASSED: Matcher shared across threads");
+    }
+
+    private static String words(Random random, String[] words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(words[random.nextInt(words.length)]);
+        }
+        return text.toString();
+    }
+
+    private static boolean naiveContains(String text, String phrase) {
+        String haystack = text.toLowerCase(Locale.ROOT);
+        String needle = phrase.toLowerCase(Locale.ROOT);
+        for (int i = haystack.indexOf(needle); i >= 0; i = haystack.indexOf(needle, i + 1)) {
+            int end = i + needle.length();
+            boolean startOk = i == 0 || !Character.isLetterOrDigit(haystack.charAt(i - 1));
+            boolean endOk = end == haystack.length() || !Character.isLetterOrDigit(haystack.charAt(end));
+            if (startOk && endOk) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.utils.RateLimiter;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limiter Tests - Token bucket pacing, pauses and Retry-After parsing
+ */
+public class RateLimiterTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("RATE LIMITER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Many threads share one rate")
+    public void testSharedRate() throws InterruptedException {
+        System.out.println("\n▶ TEST: Shared Rate");
+
+        RateLimiter limiter = new RateLimiter(200, 1);
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 13; i++) {
+                    limiter.acquire();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 104 tokens at 200/s with a burst of 1 take about 515ms
+        Assert.assertTrue(elapsedMs >= 450 && elapsedMs < 1000, "Unexpected pacing: " + elapsedMs + "ms");
+        System.out.println("✓ PASSED: 104 tokens in " + elapsedMs + "ms");
+    }
+
+    @Test(priority = 2, description = "A pause holds back callers already waiting for a token")
+    public void testPauseUntil() {
+        System.out.println("\n▶ TEST: Pause Until");
+
+        RateLimiter limiter = new RateLimiter(1000, 10);
+        Assert.assertTrue(limiter.tryAcquire());
+        limiter.pauseUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200));
+        Assert.assertFalse(limiter.tryAcquire(), "No token should be handed out during a pause");
+
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(limiter.acquire());
+        Assert.assertTrue(waitedMs >= 190, "acquire() should wait out the pause: " + waitedMs + "ms");
+        System.out.println("✓ PASSED: waited " + waitedMs + "ms");
+    }
+
+    @Test(priority = 3, description = "Rate changes take effect immediately")
+    public void testSetRate() {
+        System.out.println("\n▶ TEST: Set Rate");
+
+        RateLimiter limiter = new RateLimiter(10, 1);
+        limiter.acquire();
+        limiter.setRate(1000);
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(limiter.getRate(), 1000.0);
+        Assert.assertTrue(elapsedMs < 300, "50 tokens at 1000/s should not take " + elapsedMs + "ms");
+        System.out.println("✓ PASSED: 50 tokens in " + elapsedMs + "ms");
+    }
+
+    @Test(priority = 4, description = "Retry-After accepts delay-seconds and HTTP-date")
+    public void testRetryAfterParsing() {
+        System.out.println("\n▶ TEST: Retry-After Parsing");
+
+        Assert.assertEquals(RateLimiter.parseRetryAfterMs("2"), 2000L);
+        Assert.assertEquals(RateLimiter.parseRetryAfterMs(" 0 "), 0L);
+        Assert.assertEquals(RateLimiter.parseRetryAfterMs(null), -1L);
+        Assert.assertEquals(RateLimiter.parseRetryAfterMs("soon"), -1L);
+
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        long ms = RateLimiter.parseRetryAfterMs(date);
+        Assert.assertTrue(ms > 28_000 && ms <= 30_000, "HTTP-date 30s ahead parsed as " + ms + "ms");
+        System.out.println("✓ PASSED: " + date + " -> " + ms + "ms");
+    }
+}
@@ -0,0 +1,238 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.utils.ResilientTransport;
+import com.voiceai.utils.RetryPolicy;
+import com.voiceai.utils.VoiceTransport;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Resilient Transport Tests - Timeouts, jittered retries and hedging against scripted transports
+ */
+public class ResilientTransportTests {
+
+    private static final RetryPolicy POLICY = new RetryPolicy(3, 10, 50, Set.of(502, 503, 504), 5000);
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("RESILIENT TRANSPORT TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Backoff is jittered and capped")
+    public void testBackoffJitter() {
+        System.out.println("\n▶ TEST: Backoff Jitter");
+
+        RetryPolicy policy = new RetryPolicy(5, 100, 1000, Set.of(503), 30000);
+        Random random = new Random(7);
+        Set<Long> seen = new HashSet<>();
+        for (int retry = 1; retry <= 6; retry++) {
+            long ceiling = Math.min(1000, 100L << (retry - 1));
+            for (int i = 0; i < 200; i++) {
+                long backoff = policy.backoffMs(retry, random);
+                Assert.assertTrue(backoff >= 0 && backoff <= ceiling,
+                        "Retry " + retry + " backoff " + backoff + " outside 0.." + ceiling);
+                seen.add(backoff);
+            }
+        }
+        Assert.assertTrue(seen.size() > 100, "Backoff should be spread out, saw " + seen.size() + " values");
+        System.out.println("✓ PASSED: backoff within 0..min(1000, 100 * 2^n)");
+    }
+
+    @Test(priority = 2, description = "Retryable statuses are retried and timed separately")
+    public void testRetryOnStatus() {
+        System.out.println("\n▶ TEST: Retry On Status");
+
+        ScriptedTransport delegate = new ScriptedTransport(call -> response(call < 2 ? 503 : 200));
+        ResilientTransport transport = new ResilientTransport(delegate, POLICY, Collections.emptyMap(), 1000, 0);
+
+        TransportResponse response = transport.send(TransportRequest.post("/chat", new byte[0]));
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(delegate.calls.get(), 3);
+        Assert.assertEquals(transport.getRetries(), 2);
+        Assert.assertEquals(transport.getFirstAttemptLatency().getCount(), 1);
+        Assert.assertEquals(transport.getRetryLatency().getCount(), 2);
+        Assert.assertEquals(transport.getCallLatency().getCount(), 1);
+        System.out.println("✓ PASSED: succeeded on attempt 3");
+    }
+
+    @Test(priority = 2, description = "A gateway 502 is only retried for idempotent calls")
+    public void testGatewayErrorRetriesOnlyIdempotent() {
+        System.out.println("\n▶ TEST: Gateway Error Retries Only Idempotent");
+
+        ScriptedTransport post = new ScriptedTransport(call -> response(call == 0 ? 502 : 200));
+        ResilientTransport postTransport = new ResilientTransport(post, POLICY, Collections.emptyMap(), 1000, 0);
+        Assert.assertEquals(postTransport.send(TransportRequest.post("/chat", new byte[0])).getStatusCode(), 502);
+        Assert.assertEquals(post.calls.get(), 1, "A chat turn must not be sent twice");
+        Assert.assertEquals(postTransport.getRetries(), 0);
+
+        ScriptedTransport get = new ScriptedTransport(call -> response(call == 0 ? 502 : 200));
+        ResilientTransport getTransport = new ResilientTransport(get, POLICY, Collections.emptyMap(), 1000, 0);
+        Assert.assertEquals(getTransport.send(TransportRequest.get("/history")).getStatusCode(), 200);
+        Assert.assertEquals(get.calls.get(), 2);
+        System.out.println("✓ PASSED: POST returned the 502, GET retried");
+    }
+
+    @Test(priority = 3, description = "Only idempotent calls are retried after a read timeout")
+    public void testTimeoutRetriesOnlyIdempotent() {
+        System.out.println("\n▶ TEST: Timeout Retries Only Idempotent");
+
+        ScriptedTransport post = new ScriptedTransport(call -> {
+            throw new UncheckedIOException(new HttpTimeoutException("request timed out"));
+        });
+        ResilientTransport postTransport = new ResilientTransport(post, POLICY, Collections.emptyMap(), 1000, 0);
+        Assert.assertThrows(UncheckedIOException.class,
+                () -> postTransport.send(TransportRequest.post("/chat", new byte[0])));
+        Assert.assertEquals(post.calls.get(), 1, "A chat turn must not be sent twice");
+        Assert.assertEquals(postTransport.getTimeouts(), 1);
+
+        ScriptedTransport get = new ScriptedTransport(call -> {
+            if (call == 0) {
+                throw new UncheckedIOException(new HttpTimeoutException("request timed out"));
+            }
+            return response(200);
+        });
+        ResilientTransport getTransport = new ResilientTransport(get, POLICY, Collections.emptyMap(), 1000, 0);
+        Assert.assertEquals(getTransport.send(TransportRequest.get("/history")).getStatusCode(), 200);
+        Assert.assertEquals(get.calls.get(), 2);
+        System.out.println("✓ PASSED: POST failed fast, GET retried");
+    }
+
+    @Test(priority = 4, description = "Attempts get their endpoint timeout, capped by the total budget")
+    public void testTimeoutsAndBudget() {
+        System.out.println("\n▶ TEST: Timeouts And Budget");
+
+        List<Long> timeouts = new CopyOnWriteArrayList<>();
+        ScriptedTransport delegate = new ScriptedTransport(call -> response(503, "1"));
+        delegate.onRequest = request -> timeouts.add(request.getTimeoutMs());
+        RetryPolicy policy = new RetryPolicy(5, 10, 50, Set.of(503), 300);
+        ResilientTransport transport = new ResilientTransport(delegate, policy,
+                Map.of("/chat", 200L), 1000, 0);
+
+        long start = System.nanoTime();
+        TransportResponse response = transport.send(TransportRequest.post("/chat", new byte[0]));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Retry-After: 1 would overrun the 300ms budget, so the 503 is final
+        Assert.assertEquals(response.getStatusCode(), 503);
+        Assert.assertEquals(delegate.calls.get(), 1);
+        Assert.assertTrue(elapsedMs < 250, "Should give up at once instead of waiting: " + elapsedMs + "ms");
+        Assert.assertEquals(timeouts.get(0).longValue(), 200L, "Endpoint read timeout should be applied");
+        System.out.println("✓ PASSED: gave up after " + elapsedMs + "ms");
+    }
+
+    @Test(priority = 5, description = "A slow idempotent call is hedged and the faster copy wins")
+    public void testHedgedHistory() {
+        System.out.println("\n▶ TEST: Hedged History");
+
+        ScriptedTransport delegate = new ScriptedTransport(call -> {
+            if (call == 0) {
+                sleep(500);
+            }
+            return response(200);
+        });
+        ResilientTransport transport = new ResilientTransport(delegate, POLICY, Collections.emptyMap(), 2000, 50);
+
+        long start = System.nanoTime();
+        TransportResponse response = transport.send(TransportRequest.get("/history"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertTrue(elapsedMs < 400, "Hedge should answer before the slow copy: " + elapsedMs + "ms");
+        Assert.assertEquals(transport.getHedges(), 1);
+        Assert.assertEquals(transport.getHedgeWins(), 1);
+        Assert.assertEquals(transport.getHedgeLatency().getCount(), 1);
+        Assert.assertEquals(transport.getRetries(), 0, "A hedge is not a retry");
+
+        // The slow first copy still lands in the first-attempt distribution
+        sleep(600);
+        Assert.assertTrue(transport.getFirstAttemptLatency().getPercentileMs(0.5) >= 450,
+                "First attempt latency should show the slow server: " + transport.getFirstAttemptLatency().report());
+        System.out.println("✓ PASSED: hedged call took " + elapsedMs + "ms");
+    }
+
+    @Test(priority = 6, description = "A hung backend cannot block the caller past the read timeout")
+    public void testHungRequestTimesOut() throws IOException {
+        System.out.println("\n▶ TEST: Hung Request Times Out");
+
+        try (FakeVoiceServer server = new FakeVoiceServer()) {
+            server.setDelayMs(3000);
+            ResilientTransport transport = new ResilientTransport(server.newTransport(4), POLICY,
+                    Collections.emptyMap(), 200, 0);
+
+            long start = System.nanoTime();
+            try {
+                transport.send(TransportRequest.post("/v1/voice/chat", "{}".getBytes()));
+                Assert.fail("The request should have timed out");
+            } catch (UncheckedIOException e) {
+                Assert.assertTrue(e.getCause() instanceof HttpTimeoutException, "Unexpected failure: " + e);
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertTrue(elapsedMs < 1500, "Caller blocked for " + elapsedMs + "ms");
+            Assert.assertEquals(transport.getTimeouts(), 1);
+            server.setDelayMs(0);
+            transport.close();
+            System.out.println("✓ PASSED: timed out after " + elapsedMs + "ms");
+        }
+    }
+
+    private static TransportResponse response(int statusCode) {
+        return new TransportResponse(statusCode, Collections.emptyMap(), new byte[0], 0);
+    }
+
+    private static TransportResponse response(int statusCode, String retryAfter) {
+        return new TransportResponse(statusCode, Map.of("Retry-After", List.of(retryAfter)), new byte[0], 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Transport whose n-th call (0-based) is answered by a script
+     */
+    private static class ScriptedTransport implements VoiceTransport {
+        private final IntFunction<TransportResponse> script;
+        private final AtomicInteger calls = new AtomicInteger();
+        private Consumer<TransportRequest> onRequest = request -> { };
+
+        ScriptedTransport(IntFunction<TransportResponse> script) {
+            this.script = script;
+        }
+
+        @Override
+        public TransportResponse send(TransportRequest request) {
+            onRequest.accept(request);
+            return script.apply(calls.getAndIncrement());
+        }
+
+        @Override
+        public void close() {
+            // Nothing pooled
+        }
+    }
+}
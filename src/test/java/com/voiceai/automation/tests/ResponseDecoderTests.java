@@ -0,0 +1,65 @@
+package com.voiceai.automation.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.voiceai.models.VoiceResponse;
+import com.voiceai.utils.ResponseDecoder;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response Decoder Tests - Single-pass decoding of response bodies
+ */
+public class ResponseDecoderTests {
+
+    private static final byte[] CHAT_BODY = ("{\"context\":{\"session_id\":\"nested\"},"
+            + "\"session_id\":\"sess-42\",\"response_text\":\"It is sunny\","
+            + "\"intent\":\"weather_query\",\"confidence\":0.91,\"response_time_ms\":120,"
+            + "\"is_fallback\":false,\"status\":\"success\",\"unexpected_field\":[1,2,3]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("RESPONSE DECODER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Voice response decodes in one pass, ignoring unknown fields")
+    public void testDecodeVoiceResponse() {
+        System.out.println("\n▶ TEST: Decode Voice Response");
+
+        VoiceResponse response = ResponseDecoder.decode(CHAT_BODY);
+
+        Assert.assertEquals(response.getSessionId(), "sess-42");
+        Assert.assertEquals(response.getIntent(), "weather_query");
+        Assert.assertEquals(response.getConfidence(), 0.91, 1e-9);
+        Assert.assertEquals(response.getResponseTimeMs(), 120L);
+        Assert.assertFalse(response.isFallback());
+        System.out.println("✓ PASSED: " + response.getIntent());
+    }
+
+    @Test(priority = 2, description = "Streaming session_id scan reads only the top-level field")
+    public void testStreamSessionId() {
+        System.out.println("\n▶ TEST: Stream Session ID");
+
+        Assert.assertEquals(ResponseDecoder.sessionId(CHAT_BODY), "sess-42");
+        Assert.assertNull(ResponseDecoder.sessionId("{\"status\":\"active\"}".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertNull(ResponseDecoder.sessionId("[\"sess-1\"]".getBytes(StandardCharsets.UTF_8)));
+        System.out.println("✓ PASSED: Top-level session_id extracted");
+    }
+
+    @Test(priority = 3, description = "A parsed tree can be decoded without re-reading the body")
+    public void testDecodeFromTree() {
+        System.out.println("\n▶ TEST: Decode From Tree");
+
+        JsonNode tree = ResponseDecoder.readTree(CHAT_BODY);
+        VoiceResponse response = ResponseDecoder.decode(tree);
+
+        Assert.assertEquals(tree.path("unexpected_field").size(), 3);
+        Assert.assertEquals(response.getResponseText(), "It is sunny");
+        System.out.println("✓ PASSED: Tree and object agree");
+    }
+}
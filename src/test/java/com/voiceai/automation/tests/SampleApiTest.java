@@ -1,11 +1,12 @@
 package com.voiceai.automation.tests;
 
 import io.qameta.allure.*;
-import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.annotations.BeforeClass;
@@ -24,14 +25,19 @@ public class SampleApiTest {
 
     private static final Logger logger = LogManager.getLogger(SampleApiTest.class);
     private static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+    private RequestSpecification spec;
 
     @BeforeClass
     @Step("Setup REST Assured configuration")
     public void setup() {
         logger.info("Setting up REST Assured configuration");
-        RestAssured.baseURI = BASE_URL;
-        RestAssured.filters(new RequestLoggingFilter(), new ResponseLoggingFilter());
-        RestAssured.filters(new io.qameta.allure.restassured.AllureRestAssured());
+        // Class-local spec instead of RestAssured globals, so parallel suites are not affected
+        spec = new RequestSpecBuilder()
+                .setBaseUri(BASE_URL)
+                .addFilter(new RequestLoggingFilter())
+                .addFilter(new ResponseLoggingFilter())
+                .addFilter(new io.qameta.allure.restassured.AllureRestAssured())
+                .build();
         logger.info("Base URI set to: {}", BASE_URL);
     }
 
@@ -42,7 +48,7 @@ public class SampleApiTest {
     public void testGetAllPosts() {
         logger.info("Starting test: testGetAllPosts");
 
-        Response response = given()
+        Response response = given(spec)
                 .contentType(ContentType.JSON)
             .when()
                 .get("/posts")
@@ -65,7 +71,7 @@ public class SampleApiTest {
         int postId = 1;
         logger.info("Starting test: testGetSinglePost with id={}", postId);
 
-        Response response = given()
+        Response response = given(spec)
                 .contentType(ContentType.JSON)
                 .pathParam("id", postId)
             .when()
@@ -99,7 +105,7 @@ public class SampleApiTest {
             }
             """;
 
-        Response response = given()
+        Response response = given(spec)
                 .contentType(ContentType.JSON)
                 .body(requestBody)
             .when()
@@ -135,7 +141,7 @@ public class SampleApiTest {
             }
             """;
 
-        Response response = given()
+        Response response = given(spec)
                 .contentType(ContentType.JSON)
                 .pathParam("id", postId)
                 .body(requestBody)
@@ -160,7 +166,7 @@ public class SampleApiTest {
         int postId = 1;
         logger.info("Starting test: testDeletePost with id={}", postId);
 
-        given()
+        given(spec)
                 .contentType(ContentType.JSON)
                 .pathParam("id", postId)
             .when()
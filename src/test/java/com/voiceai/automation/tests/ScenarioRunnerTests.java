@@ -0,0 +1,132 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.models.Scenario;
+import com.voiceai.models.ScenarioResult;
+import com.voiceai.models.ScenarioStep;
+import com.voiceai.models.ThinkTime;
+import com.voiceai.utils.AsyncAPIClient;
+import com.voiceai.utils.HttpClientTransport;
+import com.voiceai.utils.ScenarioRunner;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Scenario Runner Tests - Multi-turn scenarios with think time against an in-process fake backend
+ */
+public class ScenarioRunnerTests {
+    private FakeVoiceServer server;
+    private HttpClientTransport transport;
+    private ScenarioRunner runner;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("SCENARIO RUNNER TESTS");
+        System.out.println("========================================\n");
+        server = new FakeVoiceServer();
+        transport = server.newTransport(32);
+        runner = new ScenarioRunner(new AsyncAPIClient(transport, TestConfig.getInstance(), 32, 10000),
+                TestConfig.getInstance());
+    }
+
+    @Test(priority = 1, description = "Think time distributions stay within their bounds")
+    public void testThinkTimeDistributions() {
+        System.out.println("\n▶ TEST: Think Time Distributions");
+
+        Random random = new Random(42);
+        Assert.assertEquals(ThinkTime.none().sampleMs(random), 0L);
+        Assert.assertEquals(ThinkTime.constant(250).sampleMs(random), 250L);
+
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long uniform = ThinkTime.uniform(100, 200).sampleMs(random);
+            Assert.assertTrue(uniform >= 100 && uniform <= 200, "Uniform out of range: " + uniform);
+
+            long exponential = ThinkTime.exponential(300, 2000).sampleMs(random);
+            Assert.assertTrue(exponential >= 0 && exponential <= 2000, "Exponential out of range: " + exponential);
+            sum += exponential;
+        }
+        Assert.assertEquals(sum / 10_000.0, 300.0, 30.0, "Exponential mean should be close to 300ms");
+        System.out.println("✓ PASSED: exponential mean " + sum / 10_000.0 + "ms");
+    }
+
+    @Test(priority = 2, description = "Every run gets its own session and all turns are sent in order")
+    public void testConcurrentScenarios() {
+        System.out.println("\n▶ TEST: Concurrent Scenarios");
+
+        Scenario scenario = new Scenario("greet-and-ask")
+                .withStep("Hello", "greeting")
+                .withStep(new ScenarioStep("What are your business hours?")
+                        .withExpectedIntent("general_query")
+                        .withKeywords("business hours"))
+                .withStep(new ScenarioStep("Thanks")
+                        .withAssertion("confidence above 0.9", response -> response.getConfidence() > 0.9));
+
+        int sessionsBefore = server.getSessionsCreated();
+        int chatsBefore = server.getChatRequests();
+        ScenarioResult result = runner.run(scenario, 200, 50);
+        System.out.println(result);
+
+        Assert.assertEquals(result.getStarted(), 200);
+        Assert.assertEquals(result.getPassed(), 200, "Failures: " + result.getFailureSamples());
+        Assert.assertEquals(server.getSessionsCreated() - sessionsBefore, 200);
+        Assert.assertEquals(server.getChatRequests() - chatsBefore, 600);
+        Assert.assertEquals(result.getScenarioLatency().getCount(), 200);
+        Assert.assertEquals(result.getStepLatencies().size(), 3);
+        result.getStepLatencies().forEach(step -> Assert.assertEquals(step.getCount(), 200));
+        System.out.println("✓ PASSED: " + result.getPassed() + " scenarios, 600 turns");
+    }
+
+    @Test(priority = 3, description = "A failed step stops the run and is reported as a failure")
+    public void testFailedStepStopsScenario() {
+        System.out.println("\n▶ TEST: Failed Step Stops Scenario");
+
+        Scenario scenario = new Scenario("wrong-intent")
+                .withStep("Hello", "greeting")
+                .withStep("What is my balance?", "greeting")
+                .withStep("Thanks", "general_query");
+
+        ScenarioResult result = runner.run(scenario, 20, 5);
+
+        Assert.assertEquals(result.getPassed(), 0);
+        Assert.assertEquals(result.getFailed(), 20);
+        Assert.assertEquals(result.getErrors(), 0);
+        Assert.assertEquals(result.getStepLatency(1).getCount(), 20, "Step 2 responses are still timed");
+        Assert.assertEquals(result.getStepLatency(2).getCount(), 0, "Step 3 should never be sent");
+        Assert.assertTrue(result.getFailureSamples().get(0).startsWith("step 2"),
+                "Unexpected failure: " + result.getFailureSamples());
+        System.out.println("✓ PASSED: " + result.getFailureSamples().get(0));
+    }
+
+    @Test(priority = 4, description = "Think time counts towards scenario latency but not step latency")
+    public void testThinkTimeInScenarioLatency() {
+        System.out.println("\n▶ TEST: Think Time In Scenario Latency");
+
+        Scenario scenario = new Scenario("slow-user")
+                .withStep("Hello", "greeting")
+                .withStep("Tell me more", "general_query")
+                .withStep("Thanks", "general_query")
+                .withThinkTime(ThinkTime.constant(50));
+
+        ScenarioResult result = runner.run(scenario, 20, 20);
+
+        Assert.assertEquals(result.getPassed(), 20, "Failures: " + result.getFailureSamples());
+        Assert.assertTrue(result.getScenarioLatency().getMinMs() >= 100,
+                "Two 50ms pauses should be included: " + result.getScenarioLatency());
+        Assert.assertTrue(result.getStepLatency(1).getP50Ms() < 50,
+                "Think time should not be part of step latency: " + result.getStepLatency(1));
+        System.out.println("✓ PASSED: " + result.getScenarioLatency());
+    }
+
+    @AfterClass
+    public void teardown() {
+        transport.close();
+        server.close();
+    }
+}
@@ -0,0 +1,105 @@
+package com.voiceai.automation.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.voiceai.utils.ResponseDecoder;
+import com.voiceai.utils.SchemaRegistry;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Schema Registry Tests - Compiled, shared schema validation
+ */
+public class SchemaRegistryTests {
+
+    private static final String VOICE_BODY = "{\"session_id\":\"sess-1\",\"response_text\":\"Hi there\","
+            + "\"intent\":\"greeting\",\"confidence\":0.95,\"response_time_ms\":80,"
+            + "\"is_fallback\":false,\"status\":\"success\"}";
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("SCHEMA REGISTRY TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Each schema is compiled once and reused")
+    public void testSchemaCompiledOnce() {
+        System.out.println("\n▶ TEST: Schema Compiled Once");
+
+        Assert.assertSame(SchemaRegistry.get(SchemaRegistry.VOICE_RESPONSE),
+                SchemaRegistry.get(SchemaRegistry.VOICE_RESPONSE));
+        System.out.println("✓ PASSED: Same compiled instance returned");
+    }
+
+    @Test(priority = 2, description = "Valid and invalid voice responses are told apart")
+    public void testVoiceResponseValidation() {
+        System.out.println("\n▶ TEST: Voice Response Validation");
+
+        ObjectNode valid = (ObjectNode) tree(VOICE_BODY);
+        SchemaRegistry.assertValid(SchemaRegistry.VOICE_RESPONSE, valid);
+
+        ObjectNode invalid = valid.deepCopy();
+        invalid.put("confidence", 1.7);
+        invalid.put("intent", "small_talk");
+        Assert.assertFalse(SchemaRegistry.isValid(SchemaRegistry.VOICE_RESPONSE, invalid));
+        try {
+            SchemaRegistry.assertValid(SchemaRegistry.VOICE_RESPONSE, invalid);
+            Assert.fail("Invalid response should not pass");
+        } catch (AssertionError e) {
+            Assert.assertTrue(e.getMessage().contains(SchemaRegistry.VOICE_RESPONSE), e.getMessage());
+        }
+        System.out.println("✓ PASSED: Violations reported");
+    }
+
+    @Test(priority = 3, description = "Session schema rejects unknown fields")
+    public void testSessionResponseValidation() {
+        System.out.println("\n▶ TEST: Session Response Validation");
+
+        Assert.assertTrue(SchemaRegistry.isValid(SchemaRegistry.SESSION_RESPONSE,
+                tree("{\"session_id\":\"sess-1\",\"status\":\"active\"}")));
+        Assert.assertFalse(SchemaRegistry.isValid(SchemaRegistry.SESSION_RESPONSE,
+                tree("{\"session_id\":\"sess-1\",\"owner\":\"someone\"}")));
+        System.out.println("✓ PASSED: Session schema enforced");
+    }
+
+    @Test(priority = 4, description = "A compiled schema can be shared across threads")
+    public void testConcurrentValidation() throws Exception {
+        System.out.println("\n▶ TEST: Concurrent Validation");
+
+        JsonNode valid = tree(VOICE_BODY);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> SchemaRegistry.isValid(SchemaRegistry.VOICE_RESPONSE, valid)));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println("✓ PASSED: 200 concurrent validations");
+    }
+
+    @Test(priority = 5, description = "Unknown schema names fail clearly")
+    public void testMissingSchema() {
+        System.out.println("\n▶ TEST: Missing Schema");
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> SchemaRegistry.get("no-such-schema.json"));
+        System.out.println("✓ PASSED: Missing schema rejected");
+    }
+
+    private JsonNode tree(String json) {
+        return ResponseDecoder.readTree(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,138 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.config.TestConfig;
+import com.voiceai.utils.AsyncAPIClient;
+import com.voiceai.utils.HttpClientTransport;
+import com.voiceai.utils.SessionPool;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session Pool Tests - Pre-created sessions and reuse policies against FakeVoiceServer
+ */
+public class SessionPoolTests {
+    private FakeVoiceServer server;
+    private HttpClientTransport transport;
+    private AsyncAPIClient asyncClient;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("SESSION POOL TESTS");
+        System.out.println("========================================\n");
+        server = new FakeVoiceServer();
+        transport = server.newTransport(16);
+        asyncClient = new AsyncAPIClient(transport, TestConfig.getInstance(), 16, 100);
+    }
+
+    @Test(priority = 1, description = "Warm pool hands out distinct sessions without waiting")
+    public void testFreshSessionsFromWarmPool() {
+        System.out.println("\n▶ TEST: Fresh Sessions From Warm Pool");
+
+        try (SessionPool pool = new SessionPool(asyncClient::createSession, 4, SessionPool.Policy.FRESH)) {
+            awaitReady(pool, 4);
+            Set<String> sessions = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                sessions.add(pool.acquire());
+            }
+
+            Assert.assertEquals(sessions.size(), 4, "Each acquire should get a new session");
+            Assert.assertEquals(pool.getHits(), 4);
+            Assert.assertEquals(pool.getMisses(), 0);
+            awaitReady(pool, 4);
+            System.out.println("✓ PASSED: 4 hits, pool refilled to " + pool.getReady());
+        }
+    }
+
+    @Test(priority = 2, description = "PER_THREAD keeps one session per calling thread")
+    public void testPerThreadPolicy() {
+        System.out.println("\n▶ TEST: Per-Thread Policy");
+
+        try (SessionPool pool = new SessionPool(asyncClient::createSession, 2, SessionPool.Policy.PER_THREAD)) {
+            String first = pool.acquire();
+            Assert.assertEquals(pool.acquire(), first, "Same thread should keep its session");
+
+            String other = CompletableFuture.supplyAsync(pool::acquire).join();
+            Assert.assertNotEquals(other, first, "Another thread should get its own session");
+            System.out.println("✓ PASSED: " + first + " / " + other);
+        }
+    }
+
+    @Test(priority = 3, description = "PER_SCENARIO keeps one session per scenario until released")
+    public void testPerScenarioPolicy() {
+        System.out.println("\n▶ TEST: Per-Scenario Policy");
+
+        try (SessionPool pool = new SessionPool(asyncClient::createSession, 2, SessionPool.Policy.PER_SCENARIO)) {
+            String booking = pool.acquire("booking");
+            Assert.assertEquals(pool.acquire("booking"), booking);
+            Assert.assertNotEquals(pool.acquire("support"), booking);
+
+            pool.release("booking");
+            Assert.assertNotEquals(pool.acquire("booking"), booking, "Released scenario should get a new session");
+            System.out.println("✓ PASSED: Scenario sessions isolated");
+        }
+    }
+
+    @Test(priority = 4, description = "An empty pool still serves callers")
+    public void testMissFallsBackToCreate() {
+        System.out.println("\n▶ TEST: Miss Falls Back To Create");
+
+        try (SessionPool pool = new SessionPool(asyncClient::createSession, 0, SessionPool.Policy.FRESH)) {
+            Assert.assertNotNull(pool.acquire());
+            Assert.assertEquals(pool.getMisses(), 1);
+            System.out.println("✓ PASSED: Miss served synchronously");
+        }
+    }
+
+    @Test(priority = 5, description = "A miss claims a creation already in flight instead of starting another")
+    public void testMissClaimsInFlightCreation() {
+        System.out.println("\n▶ TEST: Miss Claims In-Flight Creation");
+
+        List<CompletableFuture<String>> creations = new CopyOnWriteArrayList<>();
+        try (SessionPool pool = new SessionPool(() -> {
+            CompletableFuture<String> creation = new CompletableFuture<>();
+            creations.add(creation);
+            return creation;
+        }, 1, SessionPool.Policy.PER_SCENARIO)) {
+            CompletableFuture<String> pending = creations.get(0);
+            CompletableFuture<String> booking = CompletableFuture.supplyAsync(() -> pool.acquire("booking"));
+            CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(() -> pending.complete("sess-1"));
+
+            Assert.assertEquals(booking.join(), "sess-1", "Miss should get the pre-creation already under way");
+            Assert.assertEquals(pool.getMisses(), 1);
+            // The claimed creation plus one background top-up; no extra creation for the miss
+            Assert.assertEquals(creations.size(), 2, "Unexpected creations: " + creations.size());
+            Assert.assertEquals(pool.acquire("booking"), "sess-1", "Scenario should keep its session");
+            System.out.println("✓ PASSED: " + creations.size() + " creations for one miss");
+        }
+    }
+
+    private static void awaitReady(SessionPool pool, int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getReady() < expected && System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        Assert.assertEquals(pool.getReady(), expected, "Pool should fill in the background");
+    }
+
+    @AfterClass
+    public void teardown() {
+        transport.close();
+        server.close();
+    }
+}
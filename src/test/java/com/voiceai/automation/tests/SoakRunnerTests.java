@@ -0,0 +1,145 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.SoakResult;
+import com.voiceai.models.SoakSnapshot;
+import com.voiceai.utils.APIClient;
+import com.voiceai.utils.DriftDetector;
+import com.voiceai.utils.SoakRunner;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak Runner Tests - Short soak runs against FakeVoiceServer and drift detection on synthetic series
+ */
+public class SoakRunnerTests {
+    private FakeVoiceServer server;
+    private APIClient apiClient;
+    private Path outputDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("SOAK RUNNER TESTS");
+        System.out.println("========================================\n");
+        server = new FakeVoiceServer();
+        apiClient = new APIClient(server.newTransport(16));
+        outputDir = Files.createDirectories(Paths.get("target", "soak-tests"));
+    }
+
+    @Test(priority = 1, description = "A sustained shift in p99 or error rate raises one finding each")
+    public void testDriftDetection() {
+        System.out.println("\n▶ TEST: Drift Detection");
+
+        DriftDetector detector = new DriftDetector(5, 25, 1.0);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(detector.observe(snapshot(i, 100, 0)).isEmpty(), "Flat series should not drift");
+        }
+        for (int i = 10; i < 20; i++) {
+            detector.observe(snapshot(i, i % 4 == 0 ? 400 : 150, 0));
+        }
+        for (int i = 20; i < 30; i++) {
+            detector.observe(snapshot(i, 150, 5));
+        }
+
+        List<String> findings = detector.getFindings();
+        Assert.assertEquals(findings.size(), 2, "Expected one creep and one error finding: " + findings);
+        Assert.assertTrue(findings.get(0).contains(DriftDetector.LATENCY_CREEP));
+        Assert.assertTrue(findings.get(1).contains(DriftDetector.ERROR_GROWTH));
+        System.out.println("✓ PASSED: " + findings);
+    }
+
+    @Test(priority = 2, description = "Fixed-rate mix writes one CSV line per endpoint per interval")
+    public void testTimeSeriesOutput() throws IOException {
+        System.out.println("\n▶ TEST: Time Series Output");
+
+        Path file = outputDir.resolve("soak-" + System.nanoTime() + ".csv");
+        SoakRunner runner = new SoakRunner(apiClient, 100, 2000, 500,
+                SoakRunner.parseMix("chat:8,session:1,history:1"), file, new DriftDetector(3, 50, 1.0), null);
+        SoakResult result = runner.run();
+        System.out.println(result);
+
+        List<String> lines = Files.readAllLines(file);
+        Assert.assertEquals(lines.get(0), SoakSnapshot.CSV_HEADER);
+        Assert.assertEquals(lines.size() - 1, result.getIntervals() * 3, "One line per endpoint per interval");
+        Assert.assertTrue(result.getIntervals() >= 4, "2s of 500ms intervals: " + result.getIntervals());
+
+        long total = result.getRequests(SoakRunner.CHAT) + result.getRequests(SoakRunner.SESSION)
+                + result.getRequests(SoakRunner.HISTORY);
+        Assert.assertEquals(total, 200, "100/s for 2s");
+        Assert.assertEquals(result.getRequests(SoakRunner.CHAT), 160);
+        Assert.assertEquals(result.getErrors(SoakRunner.CHAT) + result.getErrors(SoakRunner.HISTORY), 0);
+        Assert.assertEquals(result.getLatency(SoakRunner.CHAT).getCount(), 160);
+        System.out.println("✓ PASSED: " + (lines.size() - 1) + " rows in " + file);
+    }
+
+    @Test(priority = 3, description = "A backend that slows down mid-run is flagged")
+    public void testLatencyCreepFlagged() {
+        System.out.println("\n▶ TEST: Latency Creep Flagged");
+
+        Path file = outputDir.resolve("soak-creep-" + System.nanoTime() + ".csv");
+        SoakRunner runner = new SoakRunner(apiClient, 50, 3000, 250,
+                SoakRunner.parseMix("chat:1"), file, new DriftDetector(3, 100, 5.0), null);
+        CompletableFuture.delayedExecutor(1200, TimeUnit.MILLISECONDS).execute(() -> server.setDelayMs(60));
+        SoakResult result;
+        try {
+            result = runner.run();
+        } finally {
+            server.setDelayMs(0);
+        }
+
+        Assert.assertTrue(result.isDrifting(), "Slowdown should be reported: " + result);
+        Assert.assertTrue(result.getDriftFindings().get(0).startsWith("chat " + DriftDetector.LATENCY_CREEP),
+                "Unexpected finding: " + result.getDriftFindings());
+        System.out.println("✓ PASSED: " + result.getDriftFindings());
+    }
+
+    @Test(priority = 4, description = "Requests in flight across interval boundaries still reach the CSV")
+    public void testIntervalCountsMatchTotals() throws IOException {
+        System.out.println("\n▶ TEST: Interval Counts Match Totals");
+
+        Path file = outputDir.resolve("soak-slow-" + System.nanoTime() + ".csv");
+        SoakRunner runner = new SoakRunner(apiClient, 50, 1500, 100,
+                SoakRunner.parseMix("chat:4,history:1"), file, new DriftDetector(3, 50, 1.0), null);
+        server.setDelayMs(150);
+        SoakResult result;
+        try {
+            result = runner.run();
+        } finally {
+            server.setDelayMs(0);
+        }
+
+        Map<String, Long> csvCounts = new HashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            csvCounts.merge(columns[2], Long.parseLong(columns[3]), Long::sum);
+        }
+        Assert.assertEquals(csvCounts.get(SoakRunner.CHAT).longValue(), result.getRequests(SoakRunner.CHAT));
+        Assert.assertEquals(csvCounts.get(SoakRunner.HISTORY).longValue(), result.getRequests(SoakRunner.HISTORY));
+        Assert.assertTrue(result.getLatency(SoakRunner.CHAT).getP50Ms() >= 150,
+                "Latency should include the server delay: " + result.getLatency(SoakRunner.CHAT));
+        System.out.println("✓ PASSED: " + csvCounts + " across " + result.getIntervals() + " intervals");
+    }
+
+    private static SoakSnapshot snapshot(int index, double p99Ms, long errors) {
+        return new SoakSnapshot(0, index * 10L, "chat", 100, errors, 10, p99Ms / 2, p99Ms * 0.8, p99Ms, p99Ms);
+    }
+
+    @AfterClass
+    public void teardown() {
+        apiClient.close();
+        server.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.models.SoakResult;
+import com.voiceai.utils.SoakRunner;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Soak Tests - Hours-long fixed-rate run of chat, session and history (soak.xml, -Psoak)
+ */
+public class SoakTests extends BaseVoiceTest {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("SOAK TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Override
+    protected boolean usesPooledSession() {
+        // The soak runner creates and rotates its own sessions
+        return false;
+    }
+
+    @Test(priority = 1, description = "Sustained fixed-rate load without latency creep or error growth")
+    public void testSoak() {
+        System.out.println("\n▶ TEST: Soak (" + config.getSoakRate() + " req/s for "
+                + config.getSoakDurationMinutes() + " min, mix " + config.getSoakMix() + ")");
+
+        SoakResult result = new SoakRunner(apiClient, config).run();
+
+        System.out.println("  Requests: " + result.getRequests());
+        for (String endpoint : result.getRequests().keySet()) {
+            System.out.println("  " + endpoint + ": " + result.getErrors(endpoint) + " errors, "
+                    + result.getLatency(endpoint));
+        }
+        System.out.println("  Time series: " + result.getTimeSeriesFile()
+                + " (" + result.getIntervals() + " intervals)");
+
+        Assert.assertFalse(result.isDrifting(), "Drift detected during soak: " + result.getDriftFindings());
+        System.out.println("✓ PASSED: Soak");
+    }
+
+    @AfterClass
+    public void teardown() {
+        System.out.println("\n========================================");
+        System.out.println("SOAK TESTS COMPLETED");
+        System.out.println("========================================");
+    }
+}
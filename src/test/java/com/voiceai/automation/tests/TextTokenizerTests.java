@@ -0,0 +1,128 @@
+package com.voiceai.automation.tests;
+
+import com.voiceai.utils.LongHashSet;
+import com.voiceai.utils.TextTokenizer;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Text Tokenizer Tests - Token hashes, primitive hash sets and token phrases
+ */
+public class TextTokenizerTests {
+
+    @BeforeClass
+    public void setup() {
+        System.out.println("========================================");
+        System.out.println("TEXT TOKENIZER TESTS");
+        System.out.println("========================================\n");
+    }
+
+    @Test(priority = 1, description = "Tokens are case-insensitive word runs with their bounds in the source text")
+    public void testTokenize() {
+        System.out.println("\n▶ TEST: Tokenize");
+
+        String text = "Your ORDER #12345 has shipped; résumé_v2 attached.";
+        TextTokenizer.Tokens tokens = TextTokenizer.tokenize(text);
+
+        Assert.assertEquals(tokens.size(), 7);
+        Assert.assertEquals(text.substring(tokens.start(1), tokens.end(1)), "ORDER");
+        Assert.assertEquals(tokens.text(1), "order");
+        Assert.assertEquals(tokens.hash(1), TextTokenizer.hash("order"));
+        Assert.assertEquals(TextTokenizer.hash("Order"), TextTokenizer.hash("ORDER"));
+        Assert.assertNotEquals(TextTokenizer.hash("order"), TextTokenizer.hash("orders"));
+        Assert.assertEquals(TextTokenizer.tokens(text),
+                Arrays.asList("your", "order", "12345", "has", "shipped", "résumé_v2", "attached"));
+        Assert.assertEquals(TextTokenizer.tokenize(null).size(), 0);
+        Assert.assertEquals(TextTokenizer.tokenize(" ,.; ").size(), 0);
+
+        System.out.println("✓ PASSED: Tokens and hashes validated");
+    }
+
+    @Test(priority = 2, description = "LongHashSet matches java.util.HashSet across growth, including the zero key")
+    public void testLongHashSet() {
+        System.out.println("\n▶ TEST: LongHashSet");
+
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet();
+        Set<Long> reference = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(4) == 0 ? random.nextInt(1000) : random.nextLong();
+            Assert.assertEquals(set.add(key), reference.add(key), "add(" + key + ")");
+        }
+        Assert.assertTrue(set.add(0L) == reference.add(0L));
+        Assert.assertFalse(set.add(0L));
+        Assert.assertEquals(set.size(), reference.size());
+        for (long key : reference) {
+            Assert.assertTrue(set.contains(key), "contains(" + key + ")");
+        }
+        Assert.assertFalse(set.contains(Long.MIN_VALUE + 12345));
+
+        set.clear();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertFalse(set.contains(0L));
+
+        System.out.println("✓ PASSED: " + reference.size() + " keys");
+    }
+
+    @Test(priority = 3, description = "Phrases match consecutive whole tokens")
+    public void testTokenPhrases() {
+        System.out.println("\n▶ TEST: Token Phrases");
+
+        String text = "Our business hours are 9 to 5. Please reorder online.";
+        TextTokenizer.Tokens tokens = TextTokenizer.tokenize(text);
+
+        Assert.assertTrue(tokens.containsPhrase(TextTokenizer.phrase("Business, hours!")));
+        Assert.assertTrue(tokens.containsPhrase(TextTokenizer.phrase("9")));
+        Assert.assertFalse(tokens.containsPhrase(TextTokenizer.phrase("order")),
+                "A token inside a longer word does not match");
+        Assert.assertFalse(tokens.containsPhrase(TextTokenizer.phrase("hours business")),
+                "Phrase tokens must be consecutive and in order");
+        Assert.assertTrue(tokens.contains(TextTokenizer.hash("ONLINE")));
+
+        LongHashSet words = TextTokenizer.tokenSet(text);
+        Assert.assertTrue(words.contains(TextTokenizer.hash("please")));
+        Assert.assertEquals(words.size(), 10);
+
+        System.out.println("✓ PASSED: Token phrases validated");
+    }
+
+    @Test(priority = 4, description = "Per-thread token buffers are independent")
+    public void testThreadLocalBuffers() throws Exception {
+        System.out.println("\n▶ TEST: Thread-local Buffers");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                String word = "word" + t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        TextTokenizer.Tokens tokens = TextTokenizer.tokenize("say " + word + " again " + i);
+                        if (tokens.size() != 4 || tokens.hash(1) != TextTokenizer.hash(word)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(), "A thread saw another thread's tokens");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.println("✓ PASSED: Buffers are per thread");
+    }
+}
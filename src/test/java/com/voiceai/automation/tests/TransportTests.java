@@ -0,0 +1,124 @@
+package com.voiceai.automation.tests;
+
+import com.sun.net.httpserver.HttpServer;
+import com.voiceai.models.TransportRequest;
+import com.voiceai.models.TransportResponse;
+import com.voiceai.utils.HttpClientTransport;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Transport Tests - HttpClientTransport against an in-process HTTP server
+ */
+public class TransportTests {
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClientTransport transport;
+    private final List<String> receivedAuth = new CopyOnWriteArrayList<>();
+
+    @BeforeClass
+    public void setup() throws IOException {
+        System.out.println("========================================");
+        System.out.println("TRANSPORT TESTS");
+        System.out.println("========================================\n");
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            receivedAuth.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            String query = exchange.getRequestURI().getRawQuery();
+            String reply = exchange.getRequestMethod() + "|" + query + "|" +
+                    new String(requestBody, StandardCharsets.UTF_8);
+            byte[] bytes = reply.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Retry-After", "3");
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().endsWith("/limited") ? 429 : 200,
+                    bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        transport = new HttpClientTransport("http://127.0.0.1:" + server.getAddress().getPort(),
+                "token", 4, Duration.ofSeconds(2), HttpClient.Version.HTTP_1_1);
+    }
+
+    @Test(priority = 1, description = "POST sends body and default headers")
+    public void testPostWithTemplateHeaders() {
+        System.out.println("\n▶ TEST: POST With Template Headers");
+
+        TransportResponse response = transport.send(
+                TransportRequest.post("/echo", "{\"a\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getBodyAsString(), "POST|null|{\"a\":1}");
+        Assert.assertTrue(response.getElapsedNanos() > 0);
+        Assert.assertTrue(receivedAuth.contains("Bearer token"));
+        System.out.println("✓ PASSED: " + response);
+    }
+
+    @Test(priority = 2, description = "GET encodes query parameters")
+    public void testGetWithQueryParams() {
+        System.out.println("\n▶ TEST: GET With Query Params");
+
+        TransportResponse response = transport.send(
+                TransportRequest.get("/echo").withQueryParam("session_id", "a b&c"));
+
+        Assert.assertEquals(response.getBodyAsString(), "GET|session_id=a+b%26c|");
+        System.out.println("✓ PASSED: " + response);
+    }
+
+    @Test(priority = 3, description = "Non-2xx statuses and headers are returned, not thrown")
+    public void testErrorStatusIsReturned() {
+        System.out.println("\n▶ TEST: Error Status Returned");
+
+        TransportResponse response = transport.send(TransportRequest.get("/echo/limited"));
+
+        Assert.assertEquals(response.getStatusCode(), 429);
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertEquals(response.getHeader("retry-after"), "3");
+        System.out.println("✓ PASSED: " + response);
+    }
+
+    @Test(priority = 4, description = "Concurrent calls share one transport safely")
+    public void testConcurrentCalls() throws Exception {
+        System.out.println("\n▶ TEST: Concurrent Calls");
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<TransportResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String body = "call-" + i;
+            futures.add(executor.submit(() -> transport.send(
+                    TransportRequest.post("/echo", body.getBytes(StandardCharsets.UTF_8)))));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            Assert.assertEquals(futures.get(i).get().getBodyAsString(), "POST|null|call-" + i);
+        }
+        executor.shutdown();
+        System.out.println("✓ PASSED: 200 concurrent calls");
+    }
+
+    @AfterClass
+    public void teardown() {
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdown();
+    }
+}